@@ -0,0 +1,368 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+
+/*
+ * Immutable copy of the catalog: products and categories by id, every product list (all
+ * products, and the products of each category) pre-sorted by each key GET /products can
+ * order by, and the categories pre-sorted by each key GET /categories can order by.
+ * Changes return a new snapshot that shares whatever they did not touch;
+ * the DTOs inside are never modified once published.
+ *
+ * Ordering follows H2: nulls first, strings by code point, ties broken by id.
+ */
+public final class CatalogSnapshot {
+
+	private static final Map<String, Comparator<Item>> ORDERS = Map.of(
+			"id", Comparator.comparing(Item::id),
+			"name", Comparator.comparing((Item x) -> x.dto.getName(), Comparator.nullsFirst(Comparator.<String>naturalOrder())).thenComparing(Item::id),
+			"price", Comparator.comparing((Item x) -> x.dto.getPrice(), Comparator.nullsFirst(Comparator.<Double>naturalOrder())).thenComparing(Item::id),
+			"date", Comparator.comparing((Item x) -> x.dto.getDate(), Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(Item::id));
+
+	private static final Map<String, Comparator<CategoryDTO>> CATEGORY_ORDERS = Map.of(
+			"id", Comparator.comparing(CategoryDTO::getId),
+			"name", Comparator.comparing(CategoryDTO::getName, Comparator.nullsFirst(Comparator.<String>naturalOrder())).thenComparing(CategoryDTO::getId));
+
+	private static final Long ALL_CATEGORIES = 0L;
+
+	private final long version;
+	private final Map<Long, CategoryDTO> categories;
+	/* Sort property -> categories in ascending order */
+	private final Map<String, CategoryDTO[]> categoryOrders;
+	private final Map<Long, Item> products;
+	/* Listing key (0 for all products, else a category id) -> sort property -> items in ascending order */
+	private final Map<Long, Map<String, Item[]>> orders;
+
+	private CatalogSnapshot(long version, Map<Long, CategoryDTO> categories, Map<String, CategoryDTO[]> categoryOrders,
+			Map<Long, Item> products, Map<Long, Map<String, Item[]>> orders) {
+		this.version = version;
+		this.categories = categories;
+		this.categoryOrders = categoryOrders;
+		this.products = products;
+		this.orders = orders;
+	}
+
+	public static CatalogSnapshot build(long version, Collection<CategoryDTO> categories, Collection<ProductDTO> products) {
+		Map<Long, CategoryDTO> categoryMap = new TreeMap<>();
+		categories.forEach(x -> categoryMap.put(x.getId(), x));
+		Map<Long, Item> productMap = new HashMap<>();
+		Map<Long, List<Item>> members = new HashMap<>();
+		members.put(ALL_CATEGORIES, new ArrayList<>());
+		for (ProductDTO dto : products) {
+			Item item = new Item(dto);
+			productMap.put(dto.getId(), item);
+			for (Long key : item.listingKeys()) {
+				members.computeIfAbsent(key, x -> new ArrayList<>()).add(item);
+			}
+		}
+		Map<Long, Map<String, Item[]>> orders = new HashMap<>();
+		members.forEach((key, list) -> {
+			Map<String, Item[]> sorted = new HashMap<>();
+			ORDERS.forEach((property, comparator) -> {
+				Item[] array = list.toArray(new Item[0]);
+				Arrays.sort(array, comparator);
+				sorted.put(property, array);
+			});
+			orders.put(key, Collections.unmodifiableMap(sorted));
+		});
+		Map<String, CategoryDTO[]> categoryOrders = new HashMap<>();
+		CATEGORY_ORDERS.forEach((property, comparator) -> {
+			CategoryDTO[] array = categoryMap.values().toArray(new CategoryDTO[0]);
+			Arrays.sort(array, comparator);
+			categoryOrders.put(property, array);
+		});
+		return new CatalogSnapshot(version, Collections.unmodifiableMap(categoryMap), Collections.unmodifiableMap(categoryOrders),
+				Collections.unmodifiableMap(productMap), Collections.unmodifiableMap(orders));
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	/* Same content under another version; everything is shared */
+	public CatalogSnapshot withVersion(long version) {
+		return new CatalogSnapshot(version, categories, categoryOrders, products, orders);
+	}
+
+	public int getProductCount() {
+		return products.size();
+	}
+
+	public int getCategoryCount() {
+		return categories.size();
+	}
+
+	public Collection<CategoryDTO> getCategories() {
+		return categories.values();
+	}
+
+	public Collection<ProductDTO> getProducts() {
+		List<ProductDTO> list = new ArrayList<>(products.size());
+		products.values().forEach(x -> list.add(x.dto));
+		return list;
+	}
+
+	public ProductDTO findProduct(Long id) {
+		Item item = products.get(id);
+		return (item == null) ? null : item.dto;
+	}
+
+	public CategoryDTO findCategory(Long id) {
+		return categories.get(id);
+	}
+
+	/* Empty when the requested order is not pre-built and the database must answer */
+	public Optional<Page<ProductDTO>> findProducts(Long categoryId, String name, Pageable pageable) {
+		Sort.Order order = singleOrder(pageable.getSort());
+		if (order == null || !ORDERS.containsKey(order.getProperty())) {
+			return Optional.empty();
+		}
+		Map<String, Item[]> listing = orders.get(categoryId);
+		Item[] items = (listing == null) ? new Item[0] : listing.get(order.getProperty());
+		boolean descending = order.isDescending();
+		String filter = (name == null) ? "" : name.toLowerCase(Locale.ROOT);
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+
+		List<ProductDTO> content = new ArrayList<>(size);
+		if (filter.isEmpty()) {
+			for (long i = offset; i < items.length && content.size() < size; i++) {
+				content.add(items[descending ? items.length - 1 - (int) i : (int) i].dto);
+			}
+			return Optional.of(new PageImpl<>(content, pageable, items.length));
+		}
+		long matches = 0;
+		for (int i = 0; i < items.length; i++) {
+			Item item = items[descending ? items.length - 1 - i : i];
+			if (item.lowerName.contains(filter)) {
+				if (matches >= offset && content.size() < size) {
+					content.add(item.dto);
+				}
+				matches++;
+			}
+		}
+		return Optional.of(new PageImpl<>(content, pageable, matches));
+	}
+
+	public Optional<Page<CategoryDTO>> findCategories(Pageable pageable) {
+		String property = "id";
+		boolean descending = false;
+		if (pageable.getSort().isSorted()) {
+			Sort.Order order = singleOrder(pageable.getSort());
+			if (order == null || !CATEGORY_ORDERS.containsKey(order.getProperty())) {
+				return Optional.empty();
+			}
+			property = order.getProperty();
+			descending = order.isDescending();
+		}
+		CategoryDTO[] array = categoryOrders.get(property);
+		int from = (int) Math.min(pageable.getOffset(), array.length);
+		int to = Math.min(from + pageable.getPageSize(), array.length);
+		List<CategoryDTO> content = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			content.add(array[descending ? array.length - 1 - i : i]);
+		}
+		return Optional.of(new PageImpl<>(content, pageable, array.length));
+	}
+
+	/* Replaces or removes (dto null) one product */
+	public CatalogSnapshot withProduct(Long id, ProductDTO dto) {
+		return withProducts(Collections.singletonMap(id, dto));
+	}
+
+	/*
+	 * Replaces or removes (null value) the given products in one copy of the product map;
+	 * only the lists they leave or join are rebuilt, each in a single merge pass.
+	 */
+	public CatalogSnapshot withProducts(Map<Long, ProductDTO> changes) {
+		if (changes.isEmpty()) {
+			return this;
+		}
+		Map<Long, Item> productMap = new HashMap<>(products);
+		Map<Long, List<Item>> joining = new HashMap<>();
+		Set<Long> keys = new HashSet<>();
+		changes.forEach((id, dto) -> {
+			Item old = products.get(id);
+			if (old != null) {
+				keys.addAll(old.listingKeys());
+			}
+			if (dto == null) {
+				productMap.remove(id);
+				return;
+			}
+			Item item = new Item(dto);
+			productMap.put(id, item);
+			for (Long key : item.listingKeys()) {
+				keys.add(key);
+				joining.computeIfAbsent(key, x -> new ArrayList<>()).add(item);
+			}
+		});
+		Map<Long, Map<String, Item[]>> orderMap = new HashMap<>(orders);
+		for (Long key : keys) {
+			Map<String, Item[]> listing = orders.getOrDefault(key, Map.of());
+			List<Item> added = joining.getOrDefault(key, List.of());
+			Map<String, Item[]> sorted = new HashMap<>();
+			ORDERS.forEach((property, comparator) ->
+					sorted.put(property, merge(listing.getOrDefault(property, new Item[0]), changes.keySet(), added, comparator)));
+			orderMap.put(key, Collections.unmodifiableMap(sorted));
+		}
+		return new CatalogSnapshot(version + 1, categories, categoryOrders, Collections.unmodifiableMap(productMap),
+				Collections.unmodifiableMap(orderMap));
+	}
+
+	/*
+	 * Replaces or removes (dto null) one category. A rename changes the category embedded
+	 * in its products, so their DTOs are recreated; sort orders do not depend on it.
+	 */
+	public CatalogSnapshot withCategory(Long id, CategoryDTO dto) {
+		Map<Long, CategoryDTO> categoryMap = new TreeMap<>(categories);
+		if (dto == null) {
+			categoryMap.remove(id);
+		}
+		else {
+			categoryMap.put(id, dto);
+		}
+		CategoryDTO old = categories.get(id);
+		Map<String, CategoryDTO[]> categoryOrderMap = new HashMap<>();
+		CATEGORY_ORDERS.forEach((property, comparator) -> {
+			CategoryDTO[] array = categoryOrders.get(property);
+			if (old != null) {
+				array = remove(array, old, comparator);
+			}
+			if (dto != null) {
+				array = insert(array, dto, comparator);
+			}
+			categoryOrderMap.put(property, array);
+		});
+		Map<String, Item[]> members = orders.get(id);
+		if (dto == null || old == null || members == null || Objects.equals(old.getName(), dto.getName())) {
+			return new CatalogSnapshot(version + 1, Collections.unmodifiableMap(categoryMap),
+					Collections.unmodifiableMap(categoryOrderMap), products, orders);
+		}
+		Map<Long, Item> renamed = new HashMap<>();
+		for (Item item : members.get("id")) {
+			ProductDTO copy = copy(item.dto);
+			copy.getCategories().replaceAll(x -> id.equals(x.getId()) ? new CategoryDTO(id, dto.getName()) : x);
+			renamed.put(item.id(), new Item(copy));
+		}
+		Map<Long, Item> productMap = new HashMap<>(products);
+		productMap.putAll(renamed);
+		Map<Long, Map<String, Item[]>> orderMap = new HashMap<>();
+		orders.forEach((key, listing) -> {
+			Map<String, Item[]> sorted = new HashMap<>();
+			listing.forEach((property, array) -> sorted.put(property, replace(array, renamed)));
+			orderMap.put(key, Collections.unmodifiableMap(sorted));
+		});
+		return new CatalogSnapshot(version + 1, Collections.unmodifiableMap(categoryMap), Collections.unmodifiableMap(categoryOrderMap),
+				Collections.unmodifiableMap(productMap), Collections.unmodifiableMap(orderMap));
+	}
+
+	private static Sort.Order singleOrder(Sort sort) {
+		List<Sort.Order> list = sort.toList();
+		return (list.size() == 1) ? list.get(0) : null;
+	}
+
+	/* Drops the items of changed products and merges their new sorted items in, in one pass */
+	private static Item[] merge(Item[] array, Set<Long> changed, List<Item> added, Comparator<Item> comparator) {
+		Item[] joining = added.toArray(new Item[0]);
+		Arrays.sort(joining, comparator);
+		Item[] result = new Item[array.length + joining.length];
+		int size = 0;
+		int j = 0;
+		for (Item item : array) {
+			if (changed.contains(item.id())) {
+				continue;
+			}
+			while (j < joining.length && comparator.compare(joining[j], item) < 0) {
+				result[size++] = joining[j++];
+			}
+			result[size++] = item;
+		}
+		while (j < joining.length) {
+			result[size++] = joining[j++];
+		}
+		return (size == result.length) ? result : Arrays.copyOf(result, size);
+	}
+
+	private static <T> T[] remove(T[] array, T element, Comparator<T> comparator) {
+		int index = Arrays.binarySearch(array, element, comparator);
+		if (index < 0) {
+			return array;
+		}
+		T[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	private static <T> T[] insert(T[] array, T element, Comparator<T> comparator) {
+		int index = Arrays.binarySearch(array, element, comparator);
+		index = (index >= 0) ? index : -index - 1;
+		T[] result = Arrays.copyOf(array, array.length + 1);
+		result[index] = element;
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		return result;
+	}
+
+	private static Item[] replace(Item[] array, Map<Long, Item> renamed) {
+		Item[] result = array;
+		for (int i = 0; i < array.length; i++) {
+			Item item = renamed.get(array[i].id());
+			if (item != null) {
+				if (result == array) {
+					result = array.clone();
+				}
+				result[i] = item;
+			}
+		}
+		return result;
+	}
+
+	private static ProductDTO copy(ProductDTO dto) {
+		ProductDTO copy = new ProductDTO(dto.getId(), dto.getName(), dto.getDescription(), dto.getPrice(), dto.getImgUrl(), dto.getDate());
+		copy.getCategories().addAll(dto.getCategories());
+		return copy;
+	}
+
+	private static final class Item {
+
+		private final ProductDTO dto;
+		private final String lowerName;
+
+		Item(ProductDTO dto) {
+			this.dto = dto;
+			this.lowerName = (dto.getName() == null) ? "" : dto.getName().toLowerCase(Locale.ROOT);
+		}
+
+		Long id() {
+			return dto.getId();
+		}
+
+		List<Long> listingKeys() {
+			List<Long> keys = new ArrayList<>();
+			keys.add(ALL_CATEGORIES);
+			dto.getCategories().stream().map(CategoryDTO::getId).distinct().forEach(keys::add);
+			return keys;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+
+/*
+ * In-memory copy of tb_category_stats served to readers. Rows are replaced only after
+ * the transaction that changed them commits, so readers never see uncommitted values.
+ */
+@Component
+public class CategoryStatsView {
+
+	private final Map<Long, CategoryStatsDTO> stats = new ConcurrentHashMap<>();
+
+	public List<CategoryStatsDTO> findAll() {
+		List<CategoryStatsDTO> list = new ArrayList<>(stats.values());
+		list.sort(Comparator.comparing(CategoryStatsDTO::getCategoryId));
+		return list;
+	}
+
+	public CategoryStatsDTO findById(Long categoryId) {
+		return stats.get(categoryId);
+	}
+
+	public void put(Collection<CategoryStatsDTO> list) {
+		list.forEach(x -> stats.put(x.getCategoryId(), x));
+	}
+
+	public void remove(Long categoryId) {
+		stats.remove(categoryId);
+	}
+
+	public void replaceAll(Collection<CategoryStatsDTO> list) {
+		stats.keySet().retainAll(list.stream().map(CategoryStatsDTO::getCategoryId).collect(Collectors.toSet()));
+		put(list);
+	}
+}
@@ -0,0 +1,137 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.claytoncalixto.dscatalog.repositories.UserRepository;
+
+/*
+ * Bloom filter of registered emails. A negative answer is definitive and skips the
+ * database; a positive one must still be confirmed through UserRepository.
+ * Deleted users keep their bits set, which only adds false positives.
+ */
+@Component
+public class EmailBloomFilter {
+
+	private static Logger logger = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+	@Autowired
+	private UserRepository repository;
+
+	private final AtomicLongArray bits;
+	private final int numBits;
+	private final int numHashes;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private volatile boolean ready;
+
+	public EmailBloomFilter(
+			@Value("${app.email-filter.expected-insertions:100000}") int expectedInsertions,
+			@Value("${app.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+		long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		m = Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+		this.numBits = (int) m;
+		this.numHashes = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray((numBits + 63) / 64);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		List<String> emails = repository.findAllEmails();
+		emails.forEach(this::put);
+		ready = true;
+		logger.info("Email filter loaded with " + emails.size() + " emails");
+	}
+
+	public void put(String email) {
+		if (email == null) {
+			return;
+		}
+		long h1 = hash(email);
+		long h2 = mix(h1);
+		for (int i = 0; i < numHashes; i++) {
+			int index = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+			setBit(index);
+		}
+	}
+
+	public boolean mightContain(String email) {
+		if (!ready) {
+			return true;
+		}
+		if (email == null) {
+			return false;
+		}
+		long h1 = hash(email);
+		long h2 = mix(h1);
+		for (int i = 0; i < numHashes; i++) {
+			int index = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+			if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+				hits.incrementAndGet();
+				return false;
+			}
+		}
+		misses.incrementAndGet();
+		return true;
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/*
+	 * Lookups answered by the filter alone.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/*
+	 * Lookups that had to be confirmed in the database.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private void setBit(int index) {
+		int word = index >>> 6;
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	private static long hash(String value) {
+		long h = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= 0x100000001b3L;
+		}
+		return mix(h);
+	}
+
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h | 1L;
+	}
+}
@@ -0,0 +1,223 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * KLL quantile sketch (Karnin, Lang, Liberty). Values enter level 0; when the sketch is
+ * full the lowest full level is sorted and every other item, starting at a random offset,
+ * is promoted to the next level with twice the weight. Level capacities shrink by 2/3
+ * going down from the top, so at most about 3k values are retained whatever the count,
+ * and the rank error stays around 1.7 / k. Two sketches merge by concatenating their
+ * levels and compacting, which keeps the same guarantees.
+ */
+public class KllSketch {
+
+	private static final double DECAY = 2.0 / 3.0;
+	private static final int MIN_CAPACITY = 2;
+
+	private final int k;
+	private final Random random;
+	private final List<Level> levels = new ArrayList<>();
+
+	private long count;
+	private int retained;
+	private double min = Double.NaN;
+	private double max = Double.NaN;
+
+	public KllSketch(int k) {
+		this(k, new Random());
+	}
+
+	public KllSketch(int k, long seed) {
+		this(k, new Random(seed));
+	}
+
+	private KllSketch(int k, Random random) {
+		this.k = Math.max(8, k);
+		this.random = random;
+		levels.add(new Level());
+	}
+
+	public synchronized void update(double value) {
+		if (Double.isNaN(value)) {
+			return;
+		}
+		count++;
+		min = (count == 1 || value < min) ? value : min;
+		max = (count == 1 || value > max) ? value : max;
+		levels.get(0).add(value);
+		retained++;
+		compress();
+	}
+
+	public void merge(KllSketch other) {
+		KllSketch copy = other.copy();
+		synchronized (this) {
+			if (copy.count == 0) {
+				return;
+			}
+			for (int h = 0; h < copy.levels.size(); h++) {
+				if (h == levels.size()) {
+					levels.add(new Level());
+				}
+				Level from = copy.levels.get(h);
+				for (int i = 0; i < from.size; i++) {
+					levels.get(h).add(from.items[i]);
+				}
+			}
+			min = (count == 0 || copy.min < min) ? copy.min : min;
+			max = (count == 0 || copy.max > max) ? copy.max : max;
+			count += copy.count;
+			retained += copy.retained;
+			compress();
+		}
+	}
+
+	public synchronized KllSketch copy() {
+		KllSketch copy = new KllSketch(k, new Random(random.nextLong()));
+		copy.levels.clear();
+		for (Level level : levels) {
+			Level l = new Level();
+			l.items = Arrays.copyOf(level.items, Math.max(level.size, 1));
+			l.size = level.size;
+			copy.levels.add(l);
+		}
+		copy.count = count;
+		copy.retained = retained;
+		copy.min = min;
+		copy.max = max;
+		return copy;
+	}
+
+	/* Returns one estimate per fraction in [0, 1], or nulls when the sketch is empty */
+	public synchronized Double[] quantiles(double... fractions) {
+		Double[] result = new Double[fractions.length];
+		if (count == 0) {
+			return result;
+		}
+		double[] values = new double[retained];
+		long[] weights = new long[retained];
+		Integer[] order = new Integer[retained];
+		int n = 0;
+		for (int h = 0; h < levels.size(); h++) {
+			Level level = levels.get(h);
+			for (int i = 0; i < level.size; i++) {
+				values[n] = level.items[i];
+				weights[n] = 1L << h;
+				order[n] = n;
+				n++;
+			}
+		}
+		Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+		for (int j = 0; j < fractions.length; j++) {
+			double q = fractions[j];
+			if (q <= 0.0) {
+				result[j] = min;
+				continue;
+			}
+			if (q >= 1.0) {
+				result[j] = max;
+				continue;
+			}
+			double target = q * count;
+			long cumulative = 0L;
+			result[j] = max;
+			for (int i = 0; i < n; i++) {
+				cumulative += weights[order[i]];
+				if (cumulative >= target) {
+					result[j] = values[order[i]];
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	public synchronized Double getMin() {
+		return (count == 0) ? null : min;
+	}
+
+	public synchronized Double getMax() {
+		return (count == 0) ? null : max;
+	}
+
+	public synchronized int getRetained() {
+		return retained;
+	}
+
+	public int getK() {
+		return k;
+	}
+
+	private void compress() {
+		while (retained > totalCapacity()) {
+			compact(lowestFullLevel());
+		}
+	}
+
+	private int lowestFullLevel() {
+		for (int h = 0; h < levels.size(); h++) {
+			if (levels.get(h).size >= capacity(h)) {
+				return h;
+			}
+		}
+		return 0;
+	}
+
+	private void compact(int h) {
+		if (h + 1 == levels.size()) {
+			levels.add(new Level());
+		}
+		Level level = levels.get(h);
+		Level next = levels.get(h + 1);
+		Arrays.sort(level.items, 0, level.size);
+		int pairs = level.size / 2;
+		int offset = random.nextBoolean() ? 1 : 0;
+		for (int i = 0; i < pairs; i++) {
+			next.add(level.items[2 * i + offset]);
+		}
+		/* An odd item out stays behind with its current weight */
+		if (level.size % 2 == 1) {
+			level.items[0] = level.items[level.size - 1];
+			level.size = 1;
+		}
+		else {
+			level.size = 0;
+		}
+		retained -= pairs;
+	}
+
+	private int capacity(int h) {
+		int depth = levels.size() - 1 - h;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+	}
+
+	private int totalCapacity() {
+		int total = 0;
+		for (int h = 0; h < levels.size(); h++) {
+			total += capacity(h);
+		}
+		return total;
+	}
+
+	private static class Level {
+
+		private double[] items = new double[16];
+		private int size;
+
+		void add(double value) {
+			if (size == items.length) {
+				items = Arrays.copyOf(items, size * 2);
+			}
+			items[size++] = value;
+		}
+	}
+}
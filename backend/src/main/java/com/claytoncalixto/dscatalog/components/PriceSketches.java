@@ -0,0 +1,130 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Price sketches per category plus one for the whole catalog, under the OVERALL key
+ * (identity ids start at 1). Sketches only accept additions, so a removed price marks its
+ * sketch stale until it is rebuilt from a scan.
+ *
+ * Writes and rebuilds are ordered by a version counter. A write takes a ticket before its
+ * transaction commits and applies its prices after commit; a rebuild notes the version
+ * before scanning and installs its sketches with a newer one. A write whose ticket is
+ * older than the installed sketch may already be in the scan, and one applied while the
+ * scan ran went to the sketch being replaced: both leave the key stale instead of
+ * guessing, and the next rebuild settles it.
+ */
+@Component
+public class PriceSketches {
+
+	public static final Long OVERALL = 0L;
+
+	private final int k;
+	private final AtomicLong version = new AtomicLong();
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<Long, Long> touched = new ConcurrentHashMap<>();
+	private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+	public PriceSketches(@Value("${app.price-sketches.k:200}") int k) {
+		this.k = k;
+		entries.put(OVERALL, new Entry(new KllSketch(k), 0L));
+	}
+
+	public KllSketch newSketch() {
+		return new KllSketch(k);
+	}
+
+	public long nextTicket() {
+		return version.incrementAndGet();
+	}
+
+	public void add(long ticket, Collection<Long> keys, double price) {
+		for (Long key : keys) {
+			touched.put(key, version.incrementAndGet());
+			Entry entry = entries.computeIfAbsent(key, x -> new Entry(new KllSketch(k), 0L));
+			if (ticket < entry.installedAt) {
+				stale.add(key);
+			}
+			else {
+				entry.sketch.update(price);
+			}
+		}
+	}
+
+	public void invalidate(Collection<Long> keys) {
+		for (Long key : keys) {
+			touched.put(key, version.incrementAndGet());
+			stale.add(key);
+		}
+	}
+
+	public long beginRebuild() {
+		return version.incrementAndGet();
+	}
+
+	/* Installs the sketches rebuilt for keys; a key without a sketch had no priced products */
+	public void install(long rebuildStart, Collection<Long> keys, Map<Long, KllSketch> sketches) {
+		long installedAt = version.incrementAndGet();
+		for (Long key : keys) {
+			KllSketch sketch = sketches.get(key);
+			if (sketch == null && !OVERALL.equals(key)) {
+				entries.remove(key);
+			}
+			else {
+				entries.put(key, new Entry(sketch != null ? sketch : new KllSketch(k), installedAt));
+			}
+			if (touched.getOrDefault(key, 0L) > rebuildStart) {
+				stale.add(key);
+			}
+			else {
+				stale.remove(key);
+			}
+		}
+	}
+
+	public KllSketch get(Long key) {
+		Entry entry = entries.get(key);
+		return (entry == null) ? null : entry.sketch;
+	}
+
+	public Map<Long, KllSketch> getCategories() {
+		Map<Long, KllSketch> map = new TreeMap<>();
+		entries.forEach((key, entry) -> {
+			if (!OVERALL.equals(key)) {
+				map.put(key, entry.sketch);
+			}
+		});
+		return map;
+	}
+
+	public Set<Long> getKeys() {
+		return entries.keySet();
+	}
+
+	public Set<Long> getStale() {
+		return stale;
+	}
+
+	public boolean isStale(Long key) {
+		return stale.contains(key);
+	}
+
+	private static class Entry {
+
+		private final KllSketch sketch;
+		private final long installedAt;
+
+		Entry(KllSketch sketch, long installedAt) {
+			this.sketch = sketch;
+			this.installedAt = installedAt;
+		}
+	}
+}
@@ -7,6 +7,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 
+import com.claytoncalixto.dscatalog.metrics.TimedJwtAccessTokenConverter;
+
 @Configuration
 public class AppConfig {
 
@@ -19,7 +21,7 @@ public class AppConfig {
 	
 	@Bean
 	public JwtAccessTokenConverter accessTokenConverter() {
-		JwtAccessTokenConverter tokenConverter = new JwtAccessTokenConverter();
+		JwtAccessTokenConverter tokenConverter = new TimedJwtAccessTokenConverter();
 		tokenConverter.setSigningKey(jwtSecret);
 		return tokenConverter;
 	}
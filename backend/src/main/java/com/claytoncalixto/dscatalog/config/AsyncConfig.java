@@ -0,0 +1,70 @@
+package com.claytoncalixto.dscatalog.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.claytoncalixto.dscatalog.datasource.QueryBudgetInterceptor;
+import com.claytoncalixto.dscatalog.datasource.RoutingContextTaskDecorator;
+
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+	/* The async reads run on the SEARCH pool, so the executors are sized from it */
+	@Value("${app.datasource.pools.search.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+	private Integer poolSize;
+
+	@Value("${app.async.queue-capacity:200}")
+	private Integer queueCapacity;
+
+	@Value("${app.async.request-timeout:30000}")
+	private Long requestTimeout;
+
+	@Autowired
+	private Environment env;
+
+	@Bean
+	public ThreadPoolTaskExecutor databaseExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("db-");
+		executor.setTaskDecorator(new RoutingContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor hedgeExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize * 2);
+		executor.setMaxPoolSize(poolSize * 2);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("hedge-");
+		executor.setTaskDecorator(new RoutingContextTaskDecorator());
+		return executor;
+	}
+
+	@Bean
+	public QueryBudgetInterceptor queryBudgetInterceptor() {
+		return new QueryBudgetInterceptor(env);
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setDefaultTimeout(requestTimeout);
+		configurer.setTaskExecutor(databaseExecutor());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(queryBudgetInterceptor());
+	}
+}
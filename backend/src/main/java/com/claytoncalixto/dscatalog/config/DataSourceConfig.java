@@ -0,0 +1,212 @@
+package com.claytoncalixto.dscatalog.config;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import com.claytoncalixto.dscatalog.datasource.ClientContextFilter;
+import com.claytoncalixto.dscatalog.datasource.DataSourcePools;
+import com.claytoncalixto.dscatalog.datasource.ReadYourWritesTracker;
+import com.claytoncalixto.dscatalog.datasource.ReplicaRoutingDataSource;
+import com.claytoncalixto.dscatalog.datasource.ReplicaSet;
+import com.claytoncalixto.dscatalog.datasource.StatementTimeoutDataSource;
+import com.claytoncalixto.dscatalog.datasource.Workload;
+import com.claytoncalixto.dscatalog.datasource.WorkloadRoutingDataSource;
+import com.claytoncalixto.dscatalog.metrics.SqlStatistics;
+import com.claytoncalixto.dscatalog.metrics.SqlStatsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@EnableScheduling
+public class DataSourceConfig {
+
+	private static Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+	@Value("${app.datasource.replica-urls:}")
+	private String replicaUrls;
+
+	@Value("${app.datasource.replica-username:${spring.datasource.username:}}")
+	private String replicaUsername;
+
+	@Value("${app.datasource.replica-password:${spring.datasource.password:}}")
+	private String replicaPassword;
+
+	@Value("${app.datasource.replica-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+	private Integer replicaPoolSize;
+
+	@Value("${app.datasource.read-your-writes-window:0}")
+	private Long readYourWritesWindow;
+
+	@Value("${app.datasource.pools.enabled:true}")
+	private Boolean workloadPoolsEnabled;
+
+	@Value("${app.sql-stats.enabled:true}")
+	private Boolean sqlStatsEnabled;
+
+	@Value("${app.sql-stats.slow-threshold-ms:100}")
+	private Long slowThresholdMs;
+
+	@Value("${app.sql-stats.max-fingerprints:1000}")
+	private Integer maxFingerprints;
+
+	@Value("${app.sql-stats.max-slow-samples:50}")
+	private Integer maxSlowSamples;
+
+	@Value("${app.sql-stats.plan-interval-ms:60000}")
+	private Long planIntervalMs;
+
+	@Autowired
+	private Environment env;
+
+	@Bean
+	@Primary
+	public DataSource dataSource(DataSourceProperties properties) {
+		HikariDataSource defaultPool = primaryPool(properties, "spring.datasource.hikari", "primary");
+		
+		Map<Workload, DataSource> workloadPools = new EnumMap<>(Workload.class);
+		if (workloadPoolsEnabled) {
+			for (Workload workload : Workload.values()) {
+				String name = workload.name().toLowerCase(Locale.ROOT);
+				workloadPools.put(workload, primaryPool(properties, "app.datasource.pools." + name, name));
+			}
+		}
+		DataSource primaryDataSource = new WorkloadRoutingDataSource(defaultPool, workloadPools);
+		
+		DataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaSet(), readYourWritesTracker());
+		if (sqlStatsEnabled) {
+			routingDataSource = new SqlStatsDataSource(routingDataSource, sqlStatistics(), sqlPlanExecutor());
+		}
+		logConnectionBudget();
+		return new LazyConnectionDataSourceProxy(new StatementTimeoutDataSource(routingDataSource));
+	}
+
+	@Bean
+	public SqlStatistics sqlStatistics() {
+		return new SqlStatistics(TimeUnit.MILLISECONDS.toNanos(slowThresholdMs), maxFingerprints, maxSlowSamples,
+				TimeUnit.MILLISECONDS.toNanos(planIntervalMs));
+	}
+
+	/* Explains slow SELECTs one at a time; plans that do not fit the queue are skipped */
+	@Bean
+	public ThreadPoolTaskExecutor sqlPlanExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("sql-plan-");
+		return executor;
+	}
+
+	@Bean
+	public DataSourcePools dataSourcePools() {
+		return new DataSourcePools();
+	}
+
+	/*
+	 * Each replica gets the same workload split as the primary, so read-only searches can
+	 * not starve logins on a replica either. Writes never reach a replica.
+	 */
+	@Bean
+	public ReplicaSet replicaSet() {
+		List<DataSource> replicas = new ArrayList<>();
+		for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+			String name = "replica-" + (replicas.size() + 1);
+			HikariDataSource defaultPool = replicaPool(url.trim(), null, name);
+			Map<Workload, DataSource> workloadPools = new EnumMap<>(Workload.class);
+			if (workloadPoolsEnabled) {
+				for (Workload workload : Workload.values()) {
+					if (workload != Workload.WRITE) {
+						String workloadName = workload.name().toLowerCase(Locale.ROOT);
+						workloadPools.put(workload, replicaPool(url.trim(), "app.datasource.replica-pools." + workloadName,
+								name + "-" + workloadName));
+					}
+				}
+			}
+			replicas.add(new WorkloadRoutingDataSource(defaultPool, workloadPools));
+		}
+		return new ReplicaSet(replicas);
+	}
+
+	@Bean
+	public ReadYourWritesTracker readYourWritesTracker() {
+		return new ReadYourWritesTracker(readYourWritesWindow);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ClientContextFilter> clientContextFilter() {
+		FilterRegistrationBean<ClientContextFilter> bean = new FilterRegistrationBean<>(new ClientContextFilter(readYourWritesTracker()));
+		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return bean;
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.health-check-interval:5000}")
+	public void checkReplicas() {
+		replicaSet().checkHealth();
+		readYourWritesTracker().evictExpired();
+	}
+
+	private HikariDataSource replicaPool(String url, String prefix, String poolName) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setPoolName(poolName);
+		pool.setJdbcUrl(url);
+		pool.setUsername(replicaUsername);
+		pool.setPassword(replicaPassword);
+		pool.setMaximumPoolSize(replicaPoolSize);
+		pool.setReadOnly(true);
+		if (prefix != null) {
+			Binder.get(env).bind(prefix, Bindable.ofInstance(pool));
+		}
+		dataSourcePools().register(pool);
+		return pool;
+	}
+
+	private void logConnectionBudget() {
+		int replicaCount = replicaSet().getReplicas().size();
+		int primary = 0;
+		int perReplica = 0;
+		for (HikariDataSource pool : dataSourcePools().getPools()) {
+			if (pool.getPoolName().equals("replica-1") || pool.getPoolName().startsWith("replica-1-")) {
+				perReplica += pool.getMaximumPoolSize();
+			}
+			else if (!pool.getPoolName().startsWith("replica-")) {
+				primary += pool.getMaximumPoolSize();
+			}
+		}
+		if (replicaCount > 0) {
+			logger.info("Connection pools: up to " + primary + " connections to the primary and "
+					+ perReplica + " to each of " + replicaCount + " replicas");
+		}
+	}
+
+	private HikariDataSource primaryPool(DataSourceProperties properties, String prefix, String poolName) {
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName(poolName);
+		Binder.get(env).bind(prefix, Bindable.ofInstance(pool));
+		dataSourcePools().register(pool);
+		return pool;
+	}
+}
@@ -0,0 +1,27 @@
+package com.claytoncalixto.dscatalog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.claytoncalixto.dscatalog.invalidation.InvalidationTransport;
+import com.claytoncalixto.dscatalog.invalidation.LoopbackTransport;
+
+@Configuration
+public class InvalidationConfig {
+
+	@Value("${app.invalidation.channel:dscatalog}")
+	private String channel;
+
+	/*
+	 * Reaches only the instances in this JVM; a deployment across hosts sets
+	 * app.invalidation.transport to another value and defines its own InvalidationTransport
+	 * bean over a broker.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+	public InvalidationTransport invalidationTransport() {
+		return new LoopbackTransport(channel);
+	}
+}
@@ -0,0 +1,89 @@
+package com.claytoncalixto.dscatalog.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.claytoncalixto.dscatalog.limiter.AimdLimit;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimitFilter;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiter;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiters;
+import com.claytoncalixto.dscatalog.limiter.Priority;
+import com.claytoncalixto.dscatalog.limiter.RequestClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class LimiterConfig {
+
+	private static final String[] GROUPS = {"products", "categories", "users", "auth"};
+
+	@Value("${app.limiter.enabled:true}")
+	private Boolean enabled;
+
+	@Value("${app.limiter.initial-limit:20}")
+	private Integer initialLimit;
+
+	@Value("${app.limiter.min-limit:2}")
+	private Integer minLimit;
+
+	@Value("${app.limiter.max-limit:200}")
+	private Integer maxLimit;
+
+	@Value("${app.limiter.backoff-ratio:0.9}")
+	private Double backoffRatio;
+
+	@Value("${app.limiter.latency-tolerance:2.0}")
+	private Double latencyTolerance;
+
+	@Value("${app.limiter.low-priority-share:0.8}")
+	private Double lowPriorityShare;
+
+	@Value("${app.limiter.max-queued:100}")
+	private Integer maxQueued;
+
+	@Value("${app.limiter.max-wait.high:2000}")
+	private Long maxWaitHigh;
+
+	@Value("${app.limiter.max-wait.normal:500}")
+	private Long maxWaitNormal;
+
+	@Value("${app.limiter.max-wait.low:100}")
+	private Long maxWaitLow;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Bean
+	public ConcurrencyLimiters concurrencyLimiters() {
+		ConcurrencyLimiters limiters = new ConcurrencyLimiters();
+		for (String group : GROUPS) {
+			AimdLimit limit = new AimdLimit(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance);
+			limiters.register(new ConcurrencyLimiter(group, limit, lowPriorityShare, maxQueued));
+		}
+		return limiters;
+	}
+
+	@Bean
+	public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter() {
+		FilterRegistrationBean<ConcurrencyLimitFilter> bean = new FilterRegistrationBean<>(
+				new ConcurrencyLimitFilter(concurrencyLimiters(), new RequestClassifier(), maxWaitNanos(), objectMapper));
+		bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+		bean.setEnabled(enabled);
+		return bean;
+	}
+
+	private Map<Priority, Long> maxWaitNanos() {
+		Map<Priority, Long> maxWait = new EnumMap<>(Priority.class);
+		maxWait.put(Priority.HIGH, TimeUnit.MILLISECONDS.toNanos(maxWaitHigh));
+		maxWait.put(Priority.NORMAL, TimeUnit.MILLISECONDS.toNanos(maxWaitNormal));
+		maxWait.put(Priority.LOW, TimeUnit.MILLISECONDS.toNanos(maxWaitLow));
+		return maxWait;
+	}
+}
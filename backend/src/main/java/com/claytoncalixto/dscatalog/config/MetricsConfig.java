@@ -0,0 +1,93 @@
+package com.claytoncalixto.dscatalog.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
+import com.claytoncalixto.dscatalog.datasource.DataSourcePools;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationBus;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiters;
+import com.claytoncalixto.dscatalog.outbox.OutboxDispatcher;
+import com.claytoncalixto.dscatalog.metrics.ConcurrencyLimiterMetrics;
+import com.claytoncalixto.dscatalog.metrics.DataSourcePoolMetrics;
+import com.claytoncalixto.dscatalog.metrics.EmailFilterMetrics;
+import com.claytoncalixto.dscatalog.metrics.InvalidationMetrics;
+import com.claytoncalixto.dscatalog.metrics.OutboxMetrics;
+import com.claytoncalixto.dscatalog.metrics.RequestMetricsFilter;
+import com.claytoncalixto.dscatalog.metrics.ServerTimingFilter;
+import com.claytoncalixto.dscatalog.metrics.TimedJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+	@Value("${app.server-timing.enabled:false}")
+	private Boolean serverTimingEnabled;
+
+	@Value("${app.server-timing.sample-rate:1.0}")
+	private Double serverTimingSampleRate;
+
+	/*
+	 * Takes the DataSource so that every pool is registered before the gauges are bound.
+	 */
+	@Bean
+	public DataSourcePoolMetrics dataSourcePoolMetrics(DataSource dataSource, DataSourcePools pools) {
+		return new DataSourcePoolMetrics(pools);
+	}
+
+	@Bean
+	public ConcurrencyLimiterMetrics concurrencyLimiterMetrics(ConcurrencyLimiters limiters) {
+		return new ConcurrencyLimiterMetrics(limiters);
+	}
+
+	@Bean
+	public EmailFilterMetrics emailFilterMetrics(EmailBloomFilter filter) {
+		return new EmailFilterMetrics(filter);
+	}
+
+	@Bean
+	public OutboxMetrics outboxMetrics(OutboxDispatcher dispatcher) {
+		return new OutboxMetrics(dispatcher);
+	}
+
+	@Bean
+	public InvalidationMetrics invalidationMetrics(InvalidationBus bus) {
+		return new InvalidationMetrics(bus);
+	}
+
+	@Bean
+	public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry registry) {
+		FilterRegistrationBean<RequestMetricsFilter> bean = new FilterRegistrationBean<>(new RequestMetricsFilter(registry));
+		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+		return bean;
+	}
+
+	@Bean
+	public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+		FilterRegistrationBean<ServerTimingFilter> bean = new FilterRegistrationBean<>(new ServerTimingFilter(serverTimingSampleRate));
+		bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+		bean.setEnabled(serverTimingEnabled);
+		return bean;
+	}
+
+	@Bean
+	public FilterRegistrationBean<ServerTimingFilter.SecurityBoundaryFilter> serverTimingSecurityBoundaryFilter() {
+		FilterRegistrationBean<ServerTimingFilter.SecurityBoundaryFilter> bean = new FilterRegistrationBean<>(new ServerTimingFilter.SecurityBoundaryFilter());
+		bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+		bean.setEnabled(serverTimingEnabled);
+		return bean;
+	}
+
+	@Bean
+	public TimedJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		return new TimedJacksonHttpMessageConverter(objectMapper);
+	}
+}
@@ -32,9 +32,9 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 	
 	private static final String[] PUBLIC = {"/oauth/token", "/h2-console/**"};
 	
-	private static final String[] OPERATOR_OR_ADMIN = {"/products/**", "/categories/**"};
+	private static final String[] OPERATOR_OR_ADMIN = {"/products/**", "/categories/**", "/statistics/**"};
 	
-	private static final String[] ADMIN = {"/users/**"};
+	private static final String[] ADMIN = {"/users/**", "/admin/**"};
 	
 	@Override
 	public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
@@ -0,0 +1,42 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * Bind values of one statement, captured from the set* and clearParameters calls that go
+ * through a statement proxy. setNull is kept as null, not as its SQL type argument.
+ */
+public class BindParameters {
+
+	private final Map<Integer, Object> values = new TreeMap<>();
+
+	/*
+	 * Returns true when the call was a parameter call and has been recorded.
+	 */
+	public boolean capture(Method method, Object[] args) {
+		String name = method.getName();
+		if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+				&& method.getDeclaringClass() != Statement.class) {
+			values.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+			return true;
+		}
+		if (name.equals("clearParameters")) {
+			values.clear();
+			return true;
+		}
+		return false;
+	}
+
+	public Map<Integer, Object> toMap() {
+		return new TreeMap<>(values);
+	}
+
+	public List<Object> toList() {
+		return new ArrayList<>(values.values());
+	}
+}
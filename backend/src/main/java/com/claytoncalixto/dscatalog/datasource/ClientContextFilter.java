@@ -0,0 +1,62 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Identifies the client (bearer token or remote address) for read-your-writes routing and
+ * records successful writes.
+ */
+public class ClientContextFilter extends OncePerRequestFilter {
+
+	private final ReadYourWritesTracker tracker;
+
+	public ClientContextFilter(ReadYourWritesTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String authorization = request.getHeader("Authorization");
+		String clientKey = (authorization != null) ? digest(authorization) : request.getRemoteAddr();
+		RoutingContext.setClientKey(clientKey);
+		try {
+			chain.doFilter(request, response);
+			if (isWrite(request) && response.getStatus() < 400) {
+				tracker.recordWrite(clientKey);
+			}
+		}
+		finally {
+			RoutingContext.clear();
+		}
+	}
+
+	/* A collision would let one client see another's primary pin, so the token is digested, not hashed */
+	private static String digest(String authorization) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean isWrite(HttpServletRequest request) {
+		HttpMethod method = HttpMethod.resolve(request.getMethod());
+		return (method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH
+				|| method == HttpMethod.DELETE) && !request.getRequestURI().startsWith("/oauth/");
+	}
+}
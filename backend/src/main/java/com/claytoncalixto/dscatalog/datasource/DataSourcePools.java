@@ -0,0 +1,28 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+ * Keeps every Hikari pool created by the application (primary, workload and replica
+ * pools) so they can be reported on and closed together.
+ */
+public class DataSourcePools {
+
+	private final List<HikariDataSource> pools = new ArrayList<>();
+
+	public synchronized void register(HikariDataSource pool) {
+		pools.add(pool);
+	}
+
+	public synchronized List<HikariDataSource> getPools() {
+		return Collections.unmodifiableList(new ArrayList<>(pools));
+	}
+
+	public synchronized void close() {
+		pools.forEach(HikariDataSource::close);
+	}
+}
@@ -0,0 +1,31 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+/*
+ * Token bucket that allows hedges for at most a fixed fraction of the calls, with a small
+ * burst allowance.
+ */
+public class HedgeBudget {
+
+	private final double ratio;
+	private final double maxTokens;
+
+	private double tokens;
+
+	public HedgeBudget(double ratio, double maxTokens) {
+		this.ratio = ratio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+	}
+
+	public synchronized void onCall() {
+		tokens = Math.min(maxTokens, tokens + ratio);
+	}
+
+	public synchronized boolean tryAcquire() {
+		if (tokens < 1.0) {
+			return false;
+		}
+		tokens -= 1.0;
+		return true;
+	}
+}
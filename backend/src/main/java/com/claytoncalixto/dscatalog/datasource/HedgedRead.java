@@ -0,0 +1,15 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Marks a read-only service method that may be sent to a second replica when the first
+ * one is slower than the tracked latency percentile.
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HedgedRead {
+}
@@ -0,0 +1,159 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * Runs @HedgedRead methods on one replica and, if no answer arrived within the tracked
+ * latency percentile, repeats the call on a second replica. The first successful answer
+ * wins and the statements of the other attempt are cancelled. Runs before the transaction interceptor so that
+ * each attempt gets its own read-only transaction on its own thread.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class HedgedReadAspect {
+
+	@Autowired
+	private ReplicaSet replicaSet;
+
+	@Autowired
+	@Qualifier("hedgeExecutor")
+	private ThreadPoolTaskExecutor executor;
+
+	private final boolean enabled;
+	private final LatencyTracker latencies;
+	private final HedgeBudget budget;
+
+	private final AtomicLong hedges = new AtomicLong();
+	private final AtomicLong hedgeWins = new AtomicLong();
+
+	public HedgedReadAspect(
+			@Value("${app.hedging.enabled:false}") boolean enabled,
+			@Value("${app.hedging.percentile:0.95}") double percentile,
+			@Value("${app.hedging.initial-delay-ms:50}") long initialDelayMs,
+			@Value("${app.hedging.budget-ratio:0.05}") double budgetRatio) {
+		this.enabled = enabled;
+		this.latencies = new LatencyTracker(1024, percentile, TimeUnit.MILLISECONDS.toNanos(initialDelayMs));
+		this.budget = new HedgeBudget(budgetRatio, 10.0);
+	}
+
+	@Around("@annotation(com.claytoncalixto.dscatalog.datasource.HedgedRead)")
+	public Object hedge(ProceedingJoinPoint pjp) throws Throwable {
+		List<ReplicaSet.Replica> healthy = replicaSet.getHealthyReplicas();
+		if (!enabled || healthy.size() < 2 || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+		budget.onCall();
+
+		int first = Math.floorMod(replicaSet.nextIndex(), healthy.size());
+		int firstReplica = healthy.get(first).getIndex();
+		int secondReplica = healthy.get((first + 1) % healthy.size()).getIndex();
+
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		AtomicInteger outstanding = new AtomicInteger(1);
+		AtomicInteger winner = new AtomicInteger(-1);
+		QueryDeadline requestDeadline = RoutingContext.getQueryDeadline();
+		QueryDeadline primaryDeadline = QueryDeadline.forAttempt(requestDeadline);
+		QueryDeadline hedgeDeadline = QueryDeadline.forAttempt(requestDeadline);
+		long start = System.nanoTime();
+
+		Future<?> primary;
+		try {
+			primary = executor.submit(() -> attempt(pjp, firstReplica, primaryDeadline, result, outstanding, winner));
+		}
+		catch (TaskRejectedException e) {
+			return pjp.proceed();
+		}
+
+		Future<?> hedge = null;
+		try {
+			try {
+				return result.get(latencies.getThresholdNanos(), TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException e) {
+				if (budget.tryAcquire()) {
+					outstanding.incrementAndGet();
+					try {
+						hedge = executor.submit(() -> attempt(pjp, secondReplica, hedgeDeadline, result, outstanding, winner));
+						hedges.incrementAndGet();
+					}
+					catch (TaskRejectedException rejected) {
+						outstanding.decrementAndGet();
+					}
+				}
+				Object value = result.get();
+				if (winner.get() == secondReplica) {
+					hedgeWins.incrementAndGet();
+				}
+				return value;
+			}
+		}
+		catch (ExecutionException e) {
+			throw e.getCause();
+		}
+		finally {
+			/* The winner has closed its statements by now, so this only stops the loser */
+			latencies.record(System.nanoTime() - start);
+			primaryDeadline.cancel();
+			hedgeDeadline.cancel();
+			primary.cancel(true);
+			if (hedge != null) {
+				hedge.cancel(true);
+			}
+		}
+	}
+
+	public long getHedges() {
+		return hedges.get();
+	}
+
+	public long getHedgeWins() {
+		return hedgeWins.get();
+	}
+
+	public long getThresholdNanos() {
+		return latencies.getThresholdNanos();
+	}
+
+	private void attempt(ProceedingJoinPoint pjp, int replica, QueryDeadline deadline,
+			CompletableFuture<Object> result, AtomicInteger outstanding, AtomicInteger winner) {
+		RoutingContext.setReplica(replica);
+		RoutingContext.setQueryDeadline(deadline);
+		try {
+			Object value = pjp.proceed();
+			/* Claimed before completing, so the caller sees the winner once it has the value */
+			if (winner.compareAndSet(-1, replica)) {
+				result.complete(value);
+			}
+		}
+		catch (Throwable e) {
+			if (outstanding.decrementAndGet() == 0) {
+				result.completeExceptionally(e);
+			}
+		}
+		finally {
+			RoutingContext.setReplica(null);
+			RoutingContext.setQueryDeadline(null);
+		}
+	}
+}
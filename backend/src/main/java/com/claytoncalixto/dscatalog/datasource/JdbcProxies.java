@@ -0,0 +1,66 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * JDK proxy plumbing shared by the DataSource wrappers that need to see every statement
+ * created on their connections (statement timeouts, SQL statistics, test query counts).
+ */
+public final class JdbcProxies {
+
+	public interface StatementDecorator {
+
+		/* sql is the text passed to prepareStatement/prepareCall, null for createStatement */
+		Statement decorate(Statement statement, String sql) throws SQLException;
+	}
+
+	private JdbcProxies() {
+	}
+
+	public static Connection wrapConnection(Connection con, StatementDecorator decorator) {
+		return (Connection) Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+					if (method.getName().equals("equals")) {
+						return proxy == args[0];
+					}
+					if (method.getName().equals("hashCode")) {
+						return System.identityHashCode(proxy);
+					}
+					Object result = invoke(con, method, args);
+					if (result instanceof Statement) {
+						return decorator.decorate((Statement) result, sqlArgument(args));
+					}
+					return result;
+				});
+	}
+
+	/*
+	 * Proxies the most specific statement interface the target implements.
+	 */
+	public static Statement wrapStatement(Statement statement, InvocationHandler handler) {
+		Class<?> type = (statement instanceof CallableStatement) ? CallableStatement.class
+				: (statement instanceof PreparedStatement) ? PreparedStatement.class : Statement.class;
+		return (Statement) Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	public static String sqlArgument(Object[] args) {
+		return (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0] : null;
+	}
+
+	public static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Keeps the most recent latencies in a ring buffer and periodically recomputes the
+ * configured percentile from them.
+ */
+public class LatencyTracker {
+
+	private static final int RECOMPUTE_EVERY = 64;
+
+	private final AtomicLongArray samples;
+	private final AtomicLong count = new AtomicLong();
+	private final double percentile;
+	private final long defaultNanos;
+
+	private volatile long thresholdNanos;
+
+	public LatencyTracker(int size, double percentile, long defaultNanos) {
+		this.samples = new AtomicLongArray(size);
+		this.percentile = percentile;
+		this.defaultNanos = defaultNanos;
+		this.thresholdNanos = defaultNanos;
+	}
+
+	public void record(long nanos) {
+		long n = count.getAndIncrement();
+		samples.set((int) (n % samples.length()), nanos);
+		if ((n + 1) % RECOMPUTE_EVERY == 0) {
+			recompute();
+		}
+	}
+
+	public long getThresholdNanos() {
+		return thresholdNanos;
+	}
+
+	private void recompute() {
+		int filled = (int) Math.min(count.get(), samples.length());
+		if (filled < RECOMPUTE_EVERY) {
+			thresholdNanos = defaultNanos;
+			return;
+		}
+		long[] copy = new long[filled];
+		for (int i = 0; i < filled; i++) {
+			copy[i] = samples.get(i);
+		}
+		Arrays.sort(copy);
+		int index = (int) Math.ceil(percentile * filled) - 1;
+		thresholdNanos = copy[Math.max(0, Math.min(index, filled - 1))];
+	}
+}
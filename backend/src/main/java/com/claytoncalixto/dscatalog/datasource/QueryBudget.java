@@ -0,0 +1,18 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Gives the SQL run for an endpoint a time budget, read from app.query-budget.<name>
+ * (milliseconds) or app.query-budget.default. The remaining budget is applied to every
+ * statement as its JDBC query timeout.
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	String value();
+}
@@ -0,0 +1,86 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/*
+ * Starts the QueryDeadline of endpoints annotated with @QueryBudget and cancels its
+ * statements when the async request times out or the container reports an error on it,
+ * e.g. a failed write to a client that went away. Listens on the servlet AsyncContext
+ * because the DeferredResult's own interceptor stops the interceptor chain on errors.
+ */
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String ATTRIBUTE = QueryDeadline.class.getName();
+
+	private final Environment env;
+	private final long defaultBudget;
+
+	public QueryBudgetInterceptor(Environment env) {
+		this.env = env;
+		this.defaultBudget = env.getProperty("app.query-budget.default", Long.class, 5000L);
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod)) {
+			return true;
+		}
+		QueryBudget budget = ((HandlerMethod) handler).getMethodAnnotation(QueryBudget.class);
+		if (budget != null) {
+			long millis = env.getProperty("app.query-budget." + budget.value(), Long.class, defaultBudget);
+			QueryDeadline deadline = new QueryDeadline(millis);
+			request.setAttribute(ATTRIBUTE, deadline);
+			RoutingContext.setQueryDeadline(deadline);
+		}
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		RoutingContext.setQueryDeadline(null);
+		Object deadline = request.getAttribute(ATTRIBUTE);
+		if (deadline != null) {
+			request.getAsyncContext().addListener(new CancellingListener((QueryDeadline) deadline));
+		}
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		RoutingContext.setQueryDeadline(null);
+	}
+
+	private static class CancellingListener implements AsyncListener {
+
+		private final QueryDeadline deadline;
+
+		CancellingListener(QueryDeadline deadline) {
+			this.deadline = deadline;
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			deadline.cancel();
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			deadline.cancel();
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Deadline shared by all statements of one request. Keeps the statements that are still
+ * open so the request can cancel them when the client goes away. Hedged attempts get a
+ * child deadline each, so the losing attempt can be cancelled without touching the winner.
+ */
+public class QueryDeadline {
+
+	private static Logger logger = LoggerFactory.getLogger(QueryDeadline.class);
+
+	private final Long deadlineNanos;
+	private final QueryDeadline parent;
+	private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+	private volatile boolean cancelled;
+
+	public QueryDeadline(long budgetMillis) {
+		this(System.nanoTime() + budgetMillis * 1_000_000L, null);
+	}
+
+	private QueryDeadline(Long deadlineNanos, QueryDeadline parent) {
+		this.deadlineNanos = deadlineNanos;
+		this.parent = parent;
+	}
+
+	/*
+	 * Deadline of one hedged attempt: the budget of the request (none when parent is null),
+	 * cancelled with the request or on its own.
+	 */
+	public static QueryDeadline forAttempt(QueryDeadline parent) {
+		return new QueryDeadline(parent == null ? null : parent.deadlineNanos, parent);
+	}
+
+	/*
+	 * Remaining budget in whole seconds (JDBC granularity), never less than one; zero (no
+	 * timeout) for an attempt of a request without a budget.
+	 */
+	public int remainingSeconds() throws SQLException {
+		if (isCancelled()) {
+			throw new SQLTimeoutException("Query cancelled");
+		}
+		if (deadlineNanos == null) {
+			return 0;
+		}
+		long remaining = deadlineNanos - System.nanoTime();
+		if (remaining <= 0) {
+			throw new SQLTimeoutException("Query budget exhausted");
+		}
+		return (int) Math.max(1L, (remaining + 999_999_999L) / 1_000_000_000L);
+	}
+
+	public void register(Statement statement) throws SQLException {
+		statement.setQueryTimeout(remainingSeconds());
+		statements.add(statement);
+		if (parent != null) {
+			parent.statements.add(statement);
+		}
+		if (isCancelled()) {
+			cancel(statement);
+		}
+	}
+
+	public void unregister(Statement statement) {
+		statements.remove(statement);
+		if (parent != null) {
+			parent.statements.remove(statement);
+		}
+	}
+
+	public void cancel() {
+		cancelled = true;
+		statements.forEach(QueryDeadline::cancel);
+	}
+
+	public boolean isCancelled() {
+		return cancelled || (parent != null && parent.cancelled);
+	}
+
+	private static void cancel(Statement statement) {
+		try {
+			statement.cancel();
+		}
+		catch (SQLException e) {
+			logger.warn("Could not cancel statement: " + e.getMessage());
+		}
+	}
+}
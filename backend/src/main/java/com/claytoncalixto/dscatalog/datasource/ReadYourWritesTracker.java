@@ -0,0 +1,44 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Remembers which clients wrote recently so that their reads can be kept on the primary
+ * until the replicas had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+	private final long windowMillis;
+	private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+	public ReadYourWritesTracker(long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	public void recordWrite(String clientKey) {
+		if (windowMillis > 0 && clientKey != null) {
+			lastWrites.put(clientKey, System.currentTimeMillis());
+		}
+	}
+
+	public boolean recentlyWrote(String clientKey) {
+		if (windowMillis <= 0 || clientKey == null) {
+			return false;
+		}
+		Long last = lastWrites.get(clientKey);
+		if (last == null) {
+			return false;
+		}
+		if (System.currentTimeMillis() - last > windowMillis) {
+			lastWrites.remove(clientKey, last);
+			return false;
+		}
+		return true;
+	}
+
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		lastWrites.entrySet().removeIf(e -> now - e.getValue() > windowMillis);
+	}
+}
@@ -0,0 +1,51 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * Sends read-only transactions to a healthy replica (round robin) and everything else to
+ * the primary. Must sit behind a LazyConnectionDataSourceProxy so that the connection is
+ * only fetched once the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+	private final DataSource primary;
+	private final ReplicaSet replicaSet;
+	private final ReadYourWritesTracker tracker;
+
+	public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWritesTracker tracker) {
+		this.primary = primary;
+		this.replicaSet = replicaSet;
+		this.tracker = tracker;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				|| tracker.recentlyWrote(RoutingContext.getClientKey())) {
+			return primary.getConnection();
+		}
+		Integer pinned = RoutingContext.getReplica();
+		Connection con = replicaSet.getConnection(pinned != null ? pinned : replicaSet.nextIndex());
+		return (con != null) ? con : primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primary.getConnection(username, password);
+	}
+
+	public DataSource getPrimary() {
+		return primary;
+	}
+
+	public ReplicaSet getReplicaSet() {
+		return replicaSet;
+	}
+}
@@ -0,0 +1,128 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ReplicaSet {
+
+	private static Logger logger = LoggerFactory.getLogger(ReplicaSet.class);
+
+	private final List<Replica> replicas = new ArrayList<>();
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaSet(List<DataSource> dataSources) {
+		for (int i = 0; i < dataSources.size(); i++) {
+			replicas.add(new Replica(i, "replica-" + (i + 1), dataSources.get(i)));
+		}
+	}
+
+	public List<Replica> getReplicas() {
+		return Collections.unmodifiableList(replicas);
+	}
+
+	public List<Replica> getHealthyReplicas() {
+		return replicas.stream().filter(Replica::isHealthy).collect(Collectors.toList());
+	}
+
+	public int nextIndex() {
+		return replicas.isEmpty() ? 0 : Math.floorMod(next.getAndIncrement(), replicas.size());
+	}
+
+	/*
+	 * Returns a connection from the preferred replica or, failing that, from the next
+	 * healthy one. Returns null when no replica can serve.
+	 */
+	public Connection getConnection(int preferred) {
+		int size = replicas.size();
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get(Math.floorMod(preferred + i, size));
+			if (!replica.isHealthy()) {
+				continue;
+			}
+			try {
+				return replica.getDataSource().getConnection();
+			}
+			catch (SQLException e) {
+				if (isReplicaDown(e)) {
+					replica.setHealthy(false);
+				}
+				logger.warn(replica.getName() + " failed, falling back: " + e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	public void checkHealth() {
+		for (Replica replica : replicas) {
+			boolean healthy;
+			try (Connection con = replica.getDataSource().getConnection()) {
+				healthy = con.isValid(2);
+			}
+			catch (SQLException e) {
+				healthy = !isReplicaDown(e) && replica.isHealthy();
+			}
+			if (healthy != replica.isHealthy()) {
+				logger.warn(replica.getName() + (healthy ? " is back online" : " is unhealthy"));
+			}
+			replica.setHealthy(healthy);
+		}
+	}
+
+	/*
+	 * A transient failure with no underlying connection error is a busy pool (Hikari's
+	 * connection timeout), not a dead replica; Hikari attaches the last connection failure
+	 * as the cause when the replica itself is unreachable.
+	 */
+	static boolean isReplicaDown(SQLException e) {
+		if (!(e instanceof SQLTransientException)) {
+			return true;
+		}
+		Throwable cause = e.getCause();
+		return cause instanceof SQLException && !(cause instanceof SQLTransientException);
+	}
+
+	public static class Replica {
+
+		private final int index;
+		private final String name;
+		private final DataSource dataSource;
+		private volatile boolean healthy = true;
+
+		public Replica(int index, String name, DataSource dataSource) {
+			this.index = index;
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public DataSource getDataSource() {
+			return dataSource;
+		}
+
+		public boolean isHealthy() {
+			return healthy;
+		}
+
+		public void setHealthy(boolean healthy) {
+			this.healthy = healthy;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+public final class RoutingContext {
+
+	private static final ThreadLocal<String> CLIENT_KEY = new ThreadLocal<>();
+	private static final ThreadLocal<Integer> REPLICA = new ThreadLocal<>();
+	private static final ThreadLocal<Workload> WORKLOAD = new ThreadLocal<>();
+	private static final ThreadLocal<QueryDeadline> QUERY_DEADLINE = new ThreadLocal<>();
+
+	private RoutingContext() {
+	}
+
+	public static String getClientKey() {
+		return CLIENT_KEY.get();
+	}
+
+	public static void setClientKey(String clientKey) {
+		if (clientKey == null) {
+			CLIENT_KEY.remove();
+		}
+		else {
+			CLIENT_KEY.set(clientKey);
+		}
+	}
+
+	public static Integer getReplica() {
+		return REPLICA.get();
+	}
+
+	public static void setReplica(Integer replica) {
+		if (replica == null) {
+			REPLICA.remove();
+		}
+		else {
+			REPLICA.set(replica);
+		}
+	}
+
+	public static Workload getWorkload() {
+		return WORKLOAD.get();
+	}
+
+	public static void setWorkload(Workload workload) {
+		if (workload == null) {
+			WORKLOAD.remove();
+		}
+		else {
+			WORKLOAD.set(workload);
+		}
+	}
+
+	public static QueryDeadline getQueryDeadline() {
+		return QUERY_DEADLINE.get();
+	}
+
+	public static void setQueryDeadline(QueryDeadline deadline) {
+		if (deadline == null) {
+			QUERY_DEADLINE.remove();
+		}
+		else {
+			QUERY_DEADLINE.set(deadline);
+		}
+	}
+
+	public static void clear() {
+		CLIENT_KEY.remove();
+		REPLICA.remove();
+		WORKLOAD.remove();
+		QUERY_DEADLINE.remove();
+	}
+}
@@ -0,0 +1,33 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+import com.claytoncalixto.dscatalog.metrics.RequestMetrics;
+import com.claytoncalixto.dscatalog.metrics.ServerTiming;
+
+public class RoutingContextTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		String clientKey = RoutingContext.getClientKey();
+		Workload workload = RoutingContext.getWorkload();
+		QueryDeadline deadline = RoutingContext.getQueryDeadline();
+		RequestMetrics metrics = RequestMetrics.current();
+		ServerTiming timing = ServerTiming.current();
+		return () -> {
+			RoutingContext.setClientKey(clientKey);
+			RoutingContext.setWorkload(workload);
+			RoutingContext.setQueryDeadline(deadline);
+			RequestMetrics.setCurrent(metrics);
+			ServerTiming.setCurrent(timing);
+			try {
+				runnable.run();
+			}
+			finally {
+				RoutingContext.clear();
+				RequestMetrics.setCurrent(null);
+				ServerTiming.setCurrent(null);
+			}
+		};
+	}
+}
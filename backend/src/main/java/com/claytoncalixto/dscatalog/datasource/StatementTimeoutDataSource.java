@@ -0,0 +1,53 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/*
+ * Applies the QueryDeadline of the current thread to every statement created on its
+ * connections. Threads without a deadline get plain statements.
+ */
+public class StatementTimeoutDataSource extends DelegatingDataSource {
+
+	public StatementTimeoutDataSource(DataSource target) {
+		super(target);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private static Connection wrap(Connection con) {
+		return JdbcProxies.wrapConnection(con, (statement, sql) -> {
+			QueryDeadline deadline = RoutingContext.getQueryDeadline();
+			return (deadline == null) ? statement : track(statement, deadline);
+		});
+	}
+
+	private static Statement track(Statement statement, QueryDeadline deadline) throws SQLException {
+		try {
+			deadline.register(statement);
+		}
+		catch (SQLException e) {
+			statement.close();
+			throw e;
+		}
+		return JdbcProxies.wrapStatement(statement, (proxy, method, args) -> {
+			if (method.getName().equals("close")) {
+				deadline.unregister(statement);
+			}
+			return JdbcProxies.invoke(statement, method, args);
+		});
+	}
+}
@@ -0,0 +1,6 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+public enum Workload {
+
+	SEARCH, WRITE, AUTH;
+}
@@ -0,0 +1,17 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Sends the connections opened by a service method (or every method of a class) to the
+ * primary pool reserved for the given workload.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WorkloadPool {
+
+	Workload value();
+}
@@ -0,0 +1,39 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/*
+ * Runs after the hedging aspect so that the workload is set on the thread that actually
+ * opens the connection, and before the transaction interceptor.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class WorkloadPoolAspect {
+
+	@Around("@annotation(pool)")
+	public Object onMethod(ProceedingJoinPoint pjp, WorkloadPool pool) throws Throwable {
+		return route(pjp, pool.value());
+	}
+
+	@Around("@within(pool) && !@annotation(com.claytoncalixto.dscatalog.datasource.WorkloadPool)")
+	public Object onType(ProceedingJoinPoint pjp, WorkloadPool pool) throws Throwable {
+		return route(pjp, pool.value());
+	}
+
+	private Object route(ProceedingJoinPoint pjp, Workload workload) throws Throwable {
+		Workload previous = RoutingContext.getWorkload();
+		RoutingContext.setWorkload(workload);
+		try {
+			return pjp.proceed();
+		}
+		finally {
+			RoutingContext.setWorkload(previous);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/*
+ * Picks the primary pool for the workload of the current thread, so that a burst of
+ * searches cannot take the connections needed by writes or logins. Threads without a
+ * workload use the default pool.
+ */
+public class WorkloadRoutingDataSource extends AbstractDataSource {
+
+	private final DataSource defaultPool;
+	private final Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+
+	public WorkloadRoutingDataSource(DataSource defaultPool, Map<Workload, DataSource> pools) {
+		this.defaultPool = defaultPool;
+		this.pools.putAll(pools);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return determineTarget().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return determineTarget().getConnection(username, password);
+	}
+
+	public DataSource determineTarget() {
+		Workload workload = RoutingContext.getWorkload();
+		DataSource pool = (workload == null) ? null : pools.get(workload);
+		return (pool != null) ? pool : defaultPool;
+	}
+}
@@ -0,0 +1,54 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.claytoncalixto.dscatalog.entities.CategoryStats;
+
+public class CategoryStatsDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long categoryId;
+	private Long productCount;
+	private Double minPrice;
+	private Double maxPrice;
+	private Double avgPrice;
+	private Instant updatedAt;
+
+	public CategoryStatsDTO() {
+	}
+
+	public CategoryStatsDTO(CategoryStats entity) {
+		categoryId = entity.getCategoryId();
+		productCount = entity.getProductCount();
+		minPrice = entity.getMinPrice();
+		maxPrice = entity.getMaxPrice();
+		avgPrice = entity.getAvgPrice();
+		updatedAt = entity.getUpdatedAt();
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Long getProductCount() {
+		return productCount;
+	}
+
+	public Double getMinPrice() {
+		return minPrice;
+	}
+
+	public Double getMaxPrice() {
+		return maxPrice;
+	}
+
+	public Double getAvgPrice() {
+		return avgPrice;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+}
@@ -0,0 +1,98 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiter;
+import com.claytoncalixto.dscatalog.limiter.Priority;
+
+public class LimiterStatsDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String name;
+	private Integer limit;
+	private Integer inFlight;
+	private Integer queued;
+	private Double baselineMillis;
+	private Long accepted;
+	private Long rejected;
+	private Map<Priority, Long> rejectedByPriority = new LinkedHashMap<>();
+
+	public LimiterStatsDTO() {
+	}
+
+	public LimiterStatsDTO(ConcurrencyLimiter limiter) {
+		name = limiter.getName();
+		limit = limiter.getLimit();
+		inFlight = limiter.getInFlight();
+		queued = limiter.getQueued();
+		baselineMillis = limiter.getBaselineNanos() / 1e6;
+		accepted = limiter.getAccepted();
+		rejected = limiter.getRejected();
+		for (Priority priority : Priority.values()) {
+			rejectedByPriority.put(priority, limiter.getRejected(priority));
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+
+	public Integer getInFlight() {
+		return inFlight;
+	}
+
+	public void setInFlight(Integer inFlight) {
+		this.inFlight = inFlight;
+	}
+
+	public Integer getQueued() {
+		return queued;
+	}
+
+	public void setQueued(Integer queued) {
+		this.queued = queued;
+	}
+
+	public Double getBaselineMillis() {
+		return baselineMillis;
+	}
+
+	public void setBaselineMillis(Double baselineMillis) {
+		this.baselineMillis = baselineMillis;
+	}
+
+	public Long getAccepted() {
+		return accepted;
+	}
+
+	public void setAccepted(Long accepted) {
+		this.accepted = accepted;
+	}
+
+	public Long getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(Long rejected) {
+		this.rejected = rejected;
+	}
+
+	public Map<Priority, Long> getRejectedByPriority() {
+		return rejectedByPriority;
+	}
+}
@@ -0,0 +1,101 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+public class PoolStatsDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String name;
+	private Integer maximumPoolSize;
+	private Long connectionTimeout;
+	private Integer active;
+	private Integer idle;
+	private Integer total;
+	private Integer threadsAwaiting;
+	private Double saturation;
+
+	public PoolStatsDTO() {
+	}
+
+	public PoolStatsDTO(HikariDataSource pool) {
+		name = pool.getPoolName();
+		maximumPoolSize = pool.getMaximumPoolSize();
+		connectionTimeout = pool.getConnectionTimeout();
+		HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+		if (mxBean != null) {
+			active = mxBean.getActiveConnections();
+			idle = mxBean.getIdleConnections();
+			total = mxBean.getTotalConnections();
+			threadsAwaiting = mxBean.getThreadsAwaitingConnection();
+			saturation = (double) active / maximumPoolSize;
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getMaximumPoolSize() {
+		return maximumPoolSize;
+	}
+
+	public void setMaximumPoolSize(Integer maximumPoolSize) {
+		this.maximumPoolSize = maximumPoolSize;
+	}
+
+	public Long getConnectionTimeout() {
+		return connectionTimeout;
+	}
+
+	public void setConnectionTimeout(Long connectionTimeout) {
+		this.connectionTimeout = connectionTimeout;
+	}
+
+	public Integer getActive() {
+		return active;
+	}
+
+	public void setActive(Integer active) {
+		this.active = active;
+	}
+
+	public Integer getIdle() {
+		return idle;
+	}
+
+	public void setIdle(Integer idle) {
+		this.idle = idle;
+	}
+
+	public Integer getTotal() {
+		return total;
+	}
+
+	public void setTotal(Integer total) {
+		this.total = total;
+	}
+
+	public Integer getThreadsAwaiting() {
+		return threadsAwaiting;
+	}
+
+	public void setThreadsAwaiting(Integer threadsAwaiting) {
+		this.threadsAwaiting = threadsAwaiting;
+	}
+
+	public Double getSaturation() {
+		return saturation;
+	}
+
+	public void setSaturation(Double saturation) {
+		this.saturation = saturation;
+	}
+}
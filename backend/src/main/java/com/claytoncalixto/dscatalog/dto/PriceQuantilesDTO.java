@@ -0,0 +1,69 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+
+import com.claytoncalixto.dscatalog.components.KllSketch;
+
+public class PriceQuantilesDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long categoryId;
+	private Long count;
+	private Double minPrice;
+	private Double maxPrice;
+	private Double p10;
+	private Double p50;
+	private Double p90;
+	private Boolean stale;
+
+	public PriceQuantilesDTO() {
+	}
+
+	public PriceQuantilesDTO(Long categoryId, KllSketch sketch, Boolean stale) {
+		this.categoryId = categoryId;
+		this.stale = stale;
+		count = 0L;
+		if (sketch != null) {
+			Double[] quantiles = sketch.quantiles(0.1, 0.5, 0.9);
+			count = sketch.getCount();
+			minPrice = sketch.getMin();
+			maxPrice = sketch.getMax();
+			p10 = quantiles[0];
+			p50 = quantiles[1];
+			p90 = quantiles[2];
+		}
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Long getCount() {
+		return count;
+	}
+
+	public Double getMinPrice() {
+		return minPrice;
+	}
+
+	public Double getMaxPrice() {
+		return maxPrice;
+	}
+
+	public Double getP10() {
+		return p10;
+	}
+
+	public Double getP50() {
+		return p50;
+	}
+
+	public Double getP90() {
+		return p90;
+	}
+
+	public Boolean getStale() {
+		return stale;
+	}
+}
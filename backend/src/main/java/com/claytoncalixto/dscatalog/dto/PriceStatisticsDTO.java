@@ -0,0 +1,29 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PriceStatisticsDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private PriceQuantilesDTO overall;
+	private List<PriceQuantilesDTO> categories = new ArrayList<>();
+
+	public PriceStatisticsDTO() {
+	}
+
+	public PriceStatisticsDTO(PriceQuantilesDTO overall, List<PriceQuantilesDTO> categories) {
+		this.overall = overall;
+		this.categories = categories;
+	}
+
+	public PriceQuantilesDTO getOverall() {
+		return overall;
+	}
+
+	public List<PriceQuantilesDTO> getCategories() {
+		return categories;
+	}
+}
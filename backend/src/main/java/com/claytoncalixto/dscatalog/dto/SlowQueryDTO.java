@@ -0,0 +1,70 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.claytoncalixto.dscatalog.metrics.SqlStatistics;
+
+public class SlowQueryDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Instant moment;
+	private String sql;
+	private Double millis;
+	private List<String> parameters = new ArrayList<>();
+	private String plan;
+
+	public SlowQueryDTO() {
+	}
+
+	public SlowQueryDTO(SqlStatistics.SlowSample sample) {
+		moment = Instant.ofEpochMilli(sample.getTimestamp());
+		sql = sample.getSql();
+		millis = sample.getNanos() / 1_000_000.0;
+		parameters = new ArrayList<>(sample.getParameters());
+		plan = sample.getPlan();
+	}
+
+	public Instant getMoment() {
+		return moment;
+	}
+
+	public void setMoment(Instant moment) {
+		this.moment = moment;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public void setSql(String sql) {
+		this.sql = sql;
+	}
+
+	public Double getMillis() {
+		return millis;
+	}
+
+	public void setMillis(Double millis) {
+		this.millis = millis;
+	}
+
+	public List<String> getParameters() {
+		return parameters;
+	}
+
+	public void setParameters(List<String> parameters) {
+		this.parameters = parameters;
+	}
+
+	public String getPlan() {
+		return plan;
+	}
+
+	public void setPlan(String plan) {
+		this.plan = plan;
+	}
+}
@@ -0,0 +1,77 @@
+package com.claytoncalixto.dscatalog.dto;
+
+import java.io.Serializable;
+
+import com.claytoncalixto.dscatalog.metrics.SqlStatistics;
+
+public class SqlStatsDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String fingerprint;
+	private Long calls;
+	private Double totalMillis;
+	private Double meanMillis;
+	private Double maxMillis;
+	private Long rows;
+
+	public SqlStatsDTO() {
+	}
+
+	public SqlStatsDTO(SqlStatistics.Entry entry) {
+		fingerprint = entry.getFingerprint();
+		calls = entry.getCalls();
+		totalMillis = entry.getTotalNanos() / 1_000_000.0;
+		meanMillis = (calls == 0) ? 0.0 : totalMillis / calls;
+		maxMillis = entry.getMaxNanos() / 1_000_000.0;
+		rows = entry.getRows();
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public Long getCalls() {
+		return calls;
+	}
+
+	public void setCalls(Long calls) {
+		this.calls = calls;
+	}
+
+	public Double getTotalMillis() {
+		return totalMillis;
+	}
+
+	public void setTotalMillis(Double totalMillis) {
+		this.totalMillis = totalMillis;
+	}
+
+	public Double getMeanMillis() {
+		return meanMillis;
+	}
+
+	public void setMeanMillis(Double meanMillis) {
+		this.meanMillis = meanMillis;
+	}
+
+	public Double getMaxMillis() {
+		return maxMillis;
+	}
+
+	public void setMaxMillis(Double maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	public Long getRows() {
+		return rows;
+	}
+
+	public void setRows(Long rows) {
+		this.rows = rows;
+	}
+}
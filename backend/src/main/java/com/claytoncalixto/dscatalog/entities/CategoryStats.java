@@ -0,0 +1,144 @@
+package com.claytoncalixto.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "tb_category_stats")
+public class CategoryStats implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/* Sums drift by floating point rounding; differences below this are not repaired */
+	private static final double SUM_TOLERANCE = 1e-6;
+
+	@Id
+	private Long categoryId;
+	private long productCount;
+	private long pricedCount;
+	private double priceSum;
+	private Double minPrice;
+	private Double maxPrice;
+
+	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+	private Instant updatedAt;
+
+	public CategoryStats() {
+	}
+
+	public CategoryStats(Long categoryId, Long productCount, Long pricedCount, Double priceSum, Double minPrice, Double maxPrice) {
+		this.categoryId = categoryId;
+		this.productCount = (productCount == null) ? 0L : productCount;
+		this.pricedCount = (pricedCount == null) ? 0L : pricedCount;
+		this.priceSum = (priceSum == null) ? 0.0 : priceSum;
+		this.minPrice = minPrice;
+		this.maxPrice = maxPrice;
+		this.updatedAt = Instant.now();
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public long getProductCount() {
+		return productCount;
+	}
+
+	public void setProductCount(long productCount) {
+		this.productCount = productCount;
+	}
+
+	public long getPricedCount() {
+		return pricedCount;
+	}
+
+	public void setPricedCount(long pricedCount) {
+		this.pricedCount = pricedCount;
+	}
+
+	public double getPriceSum() {
+		return priceSum;
+	}
+
+	public void setPriceSum(double priceSum) {
+		this.priceSum = priceSum;
+	}
+
+	public Double getMinPrice() {
+		return minPrice;
+	}
+
+	public void setMinPrice(Double minPrice) {
+		this.minPrice = minPrice;
+	}
+
+	public Double getMaxPrice() {
+		return maxPrice;
+	}
+
+	public void setMaxPrice(Double maxPrice) {
+		this.maxPrice = maxPrice;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public Double getAvgPrice() {
+		return (pricedCount == 0) ? null : priceSum / pricedCount;
+	}
+
+	public boolean hasSameValues(CategoryStats other) {
+		return productCount == other.productCount && pricedCount == other.pricedCount
+				&& Math.abs(priceSum - other.priceSum) <= SUM_TOLERANCE * Math.max(1.0, Math.abs(other.priceSum))
+				&& Objects.equals(minPrice, other.minPrice) && Objects.equals(maxPrice, other.maxPrice);
+	}
+
+	public void copyValues(CategoryStats other) {
+		productCount = other.productCount;
+		pricedCount = other.pricedCount;
+		priceSum = other.priceSum;
+		minPrice = other.minPrice;
+		maxPrice = other.maxPrice;
+		updatedAt = Instant.now();
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((categoryId == null) ? 0 : categoryId.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CategoryStats other = (CategoryStats) obj;
+		if (categoryId == null) {
+			if (other.categoryId != null)
+				return false;
+		} else if (!categoryId.equals(other.categoryId))
+			return false;
+		return true;
+	}
+}
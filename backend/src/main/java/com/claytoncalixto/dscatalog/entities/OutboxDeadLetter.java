@@ -0,0 +1,117 @@
+package com.claytoncalixto.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.claytoncalixto.dscatalog.outbox.ChangedEntity;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+
+/*
+ * A change event OutboxDispatcher gave up on, kept with the last error for inspection
+ * and manual replay. The id is the one it had in tb_outbox_event.
+ */
+@Entity
+@Table(name = "tb_outbox_dead_letter")
+public class OutboxDeadLetter implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	@Id
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private ChangedEntity entity;
+	private Long entityId;
+	private Long entityVersion;
+
+	@Enumerated(EnumType.STRING)
+	private ChangeOperation operation;
+
+	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+	private Instant createdAt;
+
+	private int attempts;
+
+	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+	private Instant failedAt;
+
+	private String error;
+
+	public OutboxDeadLetter() {
+	}
+
+	public OutboxDeadLetter(OutboxEvent event, int attempts, String error) {
+		this.id = event.getId();
+		this.entity = event.getEntity();
+		this.entityId = event.getEntityId();
+		this.entityVersion = event.getEntityVersion();
+		this.operation = event.getOperation();
+		this.createdAt = event.getCreatedAt();
+		this.attempts = attempts;
+		this.failedAt = Instant.now();
+		this.error = (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public ChangedEntity getEntity() {
+		return entity;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public Long getEntityVersion() {
+		return entityVersion;
+	}
+
+	public ChangeOperation getOperation() {
+		return operation;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public Instant getFailedAt() {
+		return failedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		OutboxDeadLetter other = (OutboxDeadLetter) obj;
+		return Objects.equals(id, other.id);
+	}
+}
@@ -0,0 +1,98 @@
+package com.claytoncalixto.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.claytoncalixto.dscatalog.outbox.ChangedEntity;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+
+@Entity
+@Table(name = "tb_outbox_event")
+public class OutboxEvent implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private ChangedEntity entity;
+	private Long entityId;
+	private Long entityVersion;
+
+	@Enumerated(EnumType.STRING)
+	private ChangeOperation operation;
+
+	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+	private Instant createdAt;
+
+	/* Failed deliveries so far */
+	private int attempts;
+
+	public OutboxEvent() {
+	}
+
+	public OutboxEvent(ChangedEntity entity, Long entityId, Long entityVersion, ChangeOperation operation) {
+		this.entity = entity;
+		this.entityId = entityId;
+		this.entityVersion = entityVersion;
+		this.operation = operation;
+		this.createdAt = Instant.now();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public ChangedEntity getEntity() {
+		return entity;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public Long getEntityVersion() {
+		return entityVersion;
+	}
+
+	public ChangeOperation getOperation() {
+		return operation;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		OutboxEvent other = (OutboxEvent) obj;
+		return Objects.equals(id, other.id);
+	}
+}
@@ -14,6 +14,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 @Entity
 @Table(name = "tb_product")
@@ -33,6 +34,9 @@ public class Product implements Serializable{
 	
 	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
 	private Instant date;
+
+	@Version
+	private Long version;
 	
 	@ManyToMany
 	@JoinTable(name = "tb_product_category",
@@ -60,6 +64,10 @@ public class Product implements Serializable{
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
 	public String getName() {
 		return name;
 	}
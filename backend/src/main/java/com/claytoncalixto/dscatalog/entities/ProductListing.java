@@ -0,0 +1,132 @@
+package com.claytoncalixto.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+/*
+ * Flat copy of a product as GET /products returns it. Categories are embedded as JSON;
+ * rows are written by ProductListingService only. Ids are assigned, so Persistable tells
+ * save() which rows are new instead of letting it look them up first.
+ */
+@Entity
+@Table(name = "tb_product_listing")
+public class ProductListing implements Persistable<ProductListingPK>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@EmbeddedId
+	private ProductListingPK id;
+
+	private String name;
+
+	@Column(columnDefinition = "TEXT")
+	private String description;
+	private Double price;
+	private String imgUrl;
+
+	@Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+	private Instant date;
+
+	@Column(columnDefinition = "TEXT")
+	private String categories;
+
+	@Transient
+	private boolean isNew = true;
+
+	public ProductListing() {
+	}
+
+	public ProductListing(ProductListingPK id) {
+		this.id = id;
+	}
+
+	@Override
+	public ProductListingPK getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public Double getPrice() {
+		return price;
+	}
+
+	public String getImgUrl() {
+		return imgUrl;
+	}
+
+	public Instant getDate() {
+		return date;
+	}
+
+	public String getCategories() {
+		return categories;
+	}
+
+	/* Assigns only changed values, so dirty checking skips rows that are already current */
+	public void copy(Product product, String categories) {
+		if (!Objects.equals(name, product.getName())) {
+			name = product.getName();
+		}
+		if (!Objects.equals(description, product.getDescription())) {
+			description = product.getDescription();
+		}
+		if (!Objects.equals(price, product.getPrice())) {
+			price = product.getPrice();
+		}
+		if (!Objects.equals(imgUrl, product.getimgUrl())) {
+			imgUrl = product.getimgUrl();
+		}
+		if (!Objects.equals(date, product.getDate())) {
+			date = product.getDate();
+		}
+		if (!Objects.equals(this.categories, categories)) {
+			this.categories = categories;
+		}
+	}
+
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		isNew = false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProductListing other = (ProductListing) obj;
+		return Objects.equals(id, other.id);
+	}
+}
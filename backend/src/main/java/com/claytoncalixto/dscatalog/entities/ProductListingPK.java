@@ -0,0 +1,53 @@
+package com.claytoncalixto.dscatalog.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class ProductListingPK implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/* 0 for the row listed under every category */
+	@Column(name = "listing_category_id")
+	private Long listingCategoryId;
+
+	@Column(name = "product_id")
+	private Long productId;
+
+	public ProductListingPK() {
+	}
+
+	public ProductListingPK(Long listingCategoryId, Long productId) {
+		this.listingCategoryId = listingCategoryId;
+		this.productId = productId;
+	}
+
+	public Long getListingCategoryId() {
+		return listingCategoryId;
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(listingCategoryId, productId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProductListingPK other = (ProductListingPK) obj;
+		return Objects.equals(listingCategoryId, other.listingCategoryId) && Objects.equals(productId, other.productId);
+	}
+}
@@ -0,0 +1,31 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.Set;
+
+/*
+ * Published by InvalidationBus to @EventListener methods when another instance changed
+ * these rows; listeners re-read or drop whatever they keep of them.
+ */
+public class CacheInvalidationEvent {
+
+	private final InvalidationType type;
+	private final Set<Long> ids;
+
+	public CacheInvalidationEvent(InvalidationType type, Set<Long> ids) {
+		this.type = type;
+		this.ids = ids;
+	}
+
+	public InvalidationType getType() {
+		return type;
+	}
+
+	public Set<Long> getIds() {
+		return ids;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheInvalidationEvent [type=" + type + ", ids=" + ids + "]";
+	}
+}
@@ -0,0 +1,33 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+
+/*
+ * Publishes the rows a catalog write changed. A product write also changes the aggregates
+ * of every category it left or joined, but not the category rows themselves. Listens in
+ * the write transaction: InvalidationBus queues the ids only once it commits.
+ */
+@Component
+public class CatalogInvalidations {
+
+	@Autowired
+	private InvalidationBus invalidationBus;
+
+	@EventListener
+	public void onProductWrite(ProductWriteEvent event) {
+		invalidationBus.publish(InvalidationType.PRODUCT, Set.of(event.getId()));
+		invalidationBus.publish(InvalidationType.CATEGORY_AGGREGATES, event.getCategoryIds());
+	}
+
+	@EventListener
+	public void onCategoryWrite(CategoryWriteEvent event) {
+		invalidationBus.publish(InvalidationType.CATEGORY, Set.of(event.getId()));
+	}
+}
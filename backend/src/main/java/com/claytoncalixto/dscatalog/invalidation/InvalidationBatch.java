@@ -0,0 +1,39 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * What a transport carries: the ids to invalidate per type, the node that sent them and
+ * when the oldest of them was published there (epoch millis), from which receivers
+ * measure the invalidation latency.
+ */
+public class InvalidationBatch {
+
+	private final String origin;
+	private final long oldestPublishedAt;
+	private final Map<InvalidationType, Set<Long>> ids;
+
+	public InvalidationBatch(String origin, long oldestPublishedAt, Map<InvalidationType, Set<Long>> ids) {
+		this.origin = origin;
+		this.oldestPublishedAt = oldestPublishedAt;
+		this.ids = Collections.unmodifiableMap(ids);
+	}
+
+	public String getOrigin() {
+		return origin;
+	}
+
+	public long getOldestPublishedAt() {
+		return oldestPublishedAt;
+	}
+
+	public Map<InvalidationType, Set<Long>> getIds() {
+		return ids;
+	}
+
+	public int size() {
+		return ids.values().stream().mapToInt(Set::size).sum();
+	}
+}
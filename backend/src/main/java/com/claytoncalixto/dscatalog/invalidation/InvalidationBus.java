@@ -0,0 +1,233 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+ * Tells the other instances which products, categories and users this one changed, so
+ * they can refresh their in-memory copies. Disabled unless app.invalidation.enabled.
+ *
+ * Ids are queued once their transaction commits; an id queued again before the next flush
+ * is coalesced. Every app.invalidation.max-delay the queue is sent in batches of up to
+ * app.invalidation.batch-size ids, which bounds the delay at that interval plus transport
+ * and listener time. Flushes run on the bus's own scheduler thread, so a slow job on the
+ * shared @Scheduled pool cannot hold them back. A failed send requeues the batch for the next flush. Receivers
+ * republish each batch as CacheInvalidationEvents and record its publish-to-receive time
+ * in the dscatalog.invalidation.latency timer, measured across instances and so subject
+ * to clock skew.
+ */
+@Component
+public class InvalidationBus {
+
+	private static Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+
+	@Autowired
+	private InvalidationTransport transport;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@Value("${app.invalidation.enabled:false}")
+	private Boolean enabled;
+
+	@Value("${app.invalidation.max-delay:100}")
+	private Long maxDelay;
+
+	@Value("${app.invalidation.batch-size:500}")
+	private Integer batchSize;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Consumer<InvalidationBatch> receiver = this::receive;
+
+	/* Guarded by this */
+	private final Map<InvalidationType, Set<Long>> pending = new EnumMap<>(InvalidationType.class);
+	private long oldestPendingAt;
+
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong received = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+
+	private final Timer latency;
+	private ThreadPoolTaskScheduler scheduler;
+
+	public InvalidationBus(MeterRegistry meterRegistry) {
+		latency = Timer.builder("dscatalog.invalidation.latency")
+				.description("Publish to receive time of invalidation batches from other instances")
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		transport.subscribe(receiver);
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("invalidation-");
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::flush, Instant.now().plusMillis(maxDelay), Duration.ofMillis(maxDelay));
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void stop() {
+		transport.unsubscribe(receiver);
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+	}
+
+	/* Called inside the write transaction; nothing is queued unless it commits */
+	public void publish(InvalidationType type, Collection<Long> ids) {
+		if (!enabled || ids.isEmpty()) {
+			return;
+		}
+		Set<Long> copy = Set.copyOf(ids);
+		published.addAndGet(copy.size());
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(type, copy, System.currentTimeMillis());
+				}
+			});
+		}
+		else {
+			enqueue(type, copy, System.currentTimeMillis());
+		}
+	}
+
+	public void flush() {
+		while (true) {
+			InvalidationBatch batch = drain();
+			if (batch == null) {
+				return;
+			}
+			try {
+				transport.send(batch);
+				sent.addAndGet(batch.size());
+			}
+			catch (RuntimeException e) {
+				failures.incrementAndGet();
+				logger.warn("Invalidation batch of " + batch.size() + " ids not sent, retrying on next flush", e);
+				batch.getIds().forEach((type, ids) -> enqueue(type, ids, batch.getOldestPublishedAt()));
+				return;
+			}
+		}
+	}
+
+	/* Age of the oldest id waiting to be sent, zero when none */
+	public synchronized long getPendingAgeMillis() {
+		return (oldestPendingAt == 0L) ? 0L : Math.max(0L, System.currentTimeMillis() - oldestPendingAt);
+	}
+
+	public synchronized int getPending() {
+		return pending.values().stream().mapToInt(Set::size).sum();
+	}
+
+	public long getPublished() {
+		return published.get();
+	}
+
+	public long getCoalesced() {
+		return coalesced.get();
+	}
+
+	public long getSent() {
+		return sent.get();
+	}
+
+	public long getReceived() {
+		return received.get();
+	}
+
+	public long getFailures() {
+		return failures.get();
+	}
+
+	private void receive(InvalidationBatch batch) {
+		if (nodeId.equals(batch.getOrigin())) {
+			return;
+		}
+		batch.getIds().forEach((type, ids) -> {
+			try {
+				publisher.publishEvent(new CacheInvalidationEvent(type, ids));
+			}
+			catch (RuntimeException e) {
+				logger.error("Invalidation of " + type + " " + ids + " failed", e);
+			}
+		});
+		received.addAndGet(batch.size());
+		latency.record(Math.max(0L, System.currentTimeMillis() - batch.getOldestPublishedAt()), TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void enqueue(InvalidationType type, Set<Long> ids, long publishedAt) {
+		Set<Long> set = pending.computeIfAbsent(type, x -> new LinkedHashSet<>());
+		for (Long id : ids) {
+			if (!set.add(id)) {
+				coalesced.incrementAndGet();
+			}
+		}
+		oldestPendingAt = (oldestPendingAt == 0L) ? publishedAt : Math.min(oldestPendingAt, publishedAt);
+	}
+
+	private synchronized InvalidationBatch drain() {
+		if (pending.isEmpty()) {
+			return null;
+		}
+		Map<InvalidationType, Set<Long>> ids = new EnumMap<>(InvalidationType.class);
+		int count = 0;
+		Iterator<Map.Entry<InvalidationType, Set<Long>>> types = pending.entrySet().iterator();
+		while (types.hasNext() && count < batchSize) {
+			Map.Entry<InvalidationType, Set<Long>> entry = types.next();
+			Set<Long> taken = new LinkedHashSet<>();
+			Iterator<Long> it = entry.getValue().iterator();
+			while (it.hasNext() && count < batchSize) {
+				taken.add(it.next());
+				it.remove();
+				count++;
+			}
+			ids.put(entry.getKey(), Set.copyOf(taken));
+			if (entry.getValue().isEmpty()) {
+				types.remove();
+			}
+		}
+		InvalidationBatch batch = new InvalidationBatch(nodeId, oldestPendingAt, ids);
+		if (pending.isEmpty()) {
+			oldestPendingAt = 0L;
+		}
+		return batch;
+	}
+}
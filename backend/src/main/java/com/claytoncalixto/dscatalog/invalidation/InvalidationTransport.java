@@ -0,0 +1,17 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.function.Consumer;
+
+/*
+ * Carries invalidation batches between instances. A transport delivers every batch sent
+ * by any instance, including the sender's own, to each subscriber; InvalidationBus skips
+ * its own. Define a bean of this type to replace the loopback default with a broker.
+ */
+public interface InvalidationTransport {
+
+	void send(InvalidationBatch batch);
+
+	void subscribe(Consumer<InvalidationBatch> receiver);
+
+	void unsubscribe(Consumer<InvalidationBatch> receiver);
+}
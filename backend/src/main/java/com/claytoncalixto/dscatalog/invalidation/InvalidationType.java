@@ -0,0 +1,9 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+public enum InvalidationType {
+	PRODUCT,
+	CATEGORY,
+	/* Counts and prices of these categories changed with their products; the rows did not */
+	CATEGORY_AGGREGATES,
+	USER
+}
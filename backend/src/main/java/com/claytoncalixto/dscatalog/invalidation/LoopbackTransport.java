@@ -0,0 +1,37 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * Stand-in transport connecting the application contexts of one JVM that use the same
+ * channel name. Batches are handed to the subscribers on the sending thread.
+ */
+public class LoopbackTransport implements InvalidationTransport {
+
+	private static final Map<String, List<Consumer<InvalidationBatch>>> CHANNELS = new ConcurrentHashMap<>();
+
+	private final List<Consumer<InvalidationBatch>> subscribers;
+
+	public LoopbackTransport(String channel) {
+		subscribers = CHANNELS.computeIfAbsent(channel, x -> new CopyOnWriteArrayList<>());
+	}
+
+	@Override
+	public void send(InvalidationBatch batch) {
+		subscribers.forEach(x -> x.accept(batch));
+	}
+
+	@Override
+	public void subscribe(Consumer<InvalidationBatch> receiver) {
+		subscribers.add(receiver);
+	}
+
+	@Override
+	public void unsubscribe(Consumer<InvalidationBatch> receiver) {
+		subscribers.remove(receiver);
+	}
+}
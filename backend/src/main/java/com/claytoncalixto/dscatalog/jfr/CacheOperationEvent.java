@@ -0,0 +1,23 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.claytoncalixto.dscatalog.CacheOperation")
+@Label("Cache Operation")
+@Category({"DSCatalog", "Cache"})
+@StackTrace(false)
+public class CacheOperationEvent extends Event {
+
+	@Label("Cache")
+	String cache;
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Hit")
+	boolean hit;
+}
@@ -0,0 +1,132 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/*
+ * Emits the custom flight recorder events. Each advice checks isEnabled() first, so
+ * without a running recording the cost is one allocation the JIT removes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class JfrEventAspect {
+
+	@Around("within(com.claytoncalixto.dscatalog.services.ProductService) || within(com.claytoncalixto.dscatalog.services.CategoryService) || within(com.claytoncalixto.dscatalog.services.UserService)")
+	public Object serviceCall(ProceedingJoinPoint pjp) throws Throwable {
+		ServiceCallEvent event = new ServiceCallEvent();
+		if (!event.isEnabled()) {
+			return pjp.proceed();
+		}
+		event.begin();
+		try {
+			Object result = pjp.proceed();
+			event.rows = rows(result);
+			return result;
+		}
+		catch (Throwable e) {
+			event.failed = true;
+			throw e;
+		}
+		finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.service = pjp.getSignature().getDeclaringType().getSimpleName();
+				event.method = pjp.getSignature().getName();
+				event.entityId = entityId(pjp.getArgs());
+				event.commit();
+			}
+		}
+	}
+
+	@Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+	public Object repositoryQuery(ProceedingJoinPoint pjp) throws Throwable {
+		RepositoryQueryEvent event = new RepositoryQueryEvent();
+		if (!event.isEnabled()) {
+			return pjp.proceed();
+		}
+		event.begin();
+		Object result = pjp.proceed();
+		event.end();
+		if (event.shouldCommit()) {
+			Class<?>[] interfaces = pjp.getThis().getClass().getInterfaces();
+			event.repository = (interfaces.length > 0) ? interfaces[0].getSimpleName() : pjp.getSignature().getDeclaringTypeName();
+			event.method = pjp.getSignature().getName();
+			event.entityId = entityId(pjp.getArgs());
+			event.rows = rows(result);
+			event.commit();
+		}
+		return result;
+	}
+
+	@Around("execution(* org.springframework.security.oauth2.provider.endpoint.TokenEndpoint.postAccessToken(..)) && args(principal, parameters)")
+	public Object tokenIssued(ProceedingJoinPoint pjp, Object principal, Map<String, String> parameters) throws Throwable {
+		TokenIssuedEvent event = new TokenIssuedEvent();
+		if (!event.isEnabled()) {
+			return pjp.proceed();
+		}
+		event.begin();
+		try {
+			Object result = pjp.proceed();
+			event.success = !(result instanceof ResponseEntity) || ((ResponseEntity<?>) result).getStatusCode().is2xxSuccessful();
+			return result;
+		}
+		finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.clientId = parameters.get("client_id");
+				event.grantType = parameters.get("grant_type");
+				event.username = parameters.get("username");
+				event.commit();
+			}
+		}
+	}
+
+	@Around("execution(* com.claytoncalixto.dscatalog.components.EmailBloomFilter.mightContain(..)) || execution(* com.claytoncalixto.dscatalog.components.EmailBloomFilter.put(..))")
+	public Object cacheOperation(ProceedingJoinPoint pjp) throws Throwable {
+		CacheOperationEvent event = new CacheOperationEvent();
+		if (!event.isEnabled()) {
+			return pjp.proceed();
+		}
+		event.begin();
+		Object result = pjp.proceed();
+		event.end();
+		if (event.shouldCommit()) {
+			event.cache = "email-filter";
+			event.operation = pjp.getSignature().getName();
+			event.hit = Boolean.FALSE.equals(result);
+			event.commit();
+		}
+		return result;
+	}
+
+	private static long entityId(Object[] args) {
+		return (args.length > 0 && args[0] instanceof Long) ? (Long) args[0] : -1L;
+	}
+
+	private static long rows(Object result) {
+		if (result == null) {
+			return 0L;
+		}
+		if (result instanceof Page) {
+			return ((Page<?>) result).getNumberOfElements();
+		}
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		if (result instanceof Optional) {
+			return ((Optional<?>) result).isPresent() ? 1L : 0L;
+		}
+		return (result instanceof Number || result instanceof Boolean) ? 0L : 1L;
+	}
+}
@@ -0,0 +1,24 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.claytoncalixto.dscatalog.RepositoryQuery")
+@Label("Repository Query")
+@Category({"DSCatalog", "Repository"})
+public class RepositoryQueryEvent extends Event {
+
+	@Label("Repository")
+	String repository;
+
+	@Label("Method")
+	String method;
+
+	@Label("Entity Id")
+	long entityId = -1L;
+
+	@Label("Rows")
+	long rows;
+}
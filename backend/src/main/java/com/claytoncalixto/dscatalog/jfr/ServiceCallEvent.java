@@ -0,0 +1,30 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.claytoncalixto.dscatalog.ServiceCall")
+@Label("Service Call")
+@Category({"DSCatalog", "Service"})
+public class ServiceCallEvent extends Event {
+
+	@Label("Service")
+	String service;
+
+	@Label("Method")
+	String method;
+
+	@Label("Entity Id")
+	@Description("Id argument of the call, or -1")
+	long entityId = -1L;
+
+	@Label("Rows")
+	@Description("Elements returned: page size, collection size or 1 for a single DTO")
+	long rows;
+
+	@Label("Failed")
+	boolean failed;
+}
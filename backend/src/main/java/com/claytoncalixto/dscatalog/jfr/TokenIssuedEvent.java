@@ -0,0 +1,26 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.claytoncalixto.dscatalog.TokenIssued")
+@Label("Token Issued")
+@Category({"DSCatalog", "Security"})
+@StackTrace(false)
+public class TokenIssuedEvent extends Event {
+
+	@Label("Client Id")
+	String clientId;
+
+	@Label("Grant Type")
+	String grantType;
+
+	@Label("Username")
+	String username;
+
+	@Label("Success")
+	boolean success;
+}
@@ -0,0 +1,57 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+/*
+ * Additive-increase / multiplicative-decrease concurrency limit. The limit grows by one
+ * while requests are fast and the limit is actually being used, and is cut by the backoff
+ * ratio when a request is dropped or takes longer than tolerance times the baseline
+ * latency (a slow moving average of the observed round trip times).
+ */
+public class AimdLimit {
+
+	private static final double BASELINE_SMOOTHING = 0.05;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final double tolerance;
+
+	private volatile int limit;
+	private double baselineNanos;
+
+	public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double tolerance) {
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.tolerance = tolerance;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public synchronized long getBaselineNanos() {
+		return (long) baselineNanos;
+	}
+
+	public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+		if (dropped) {
+			decrease();
+			return;
+		}
+		if (baselineNanos == 0.0) {
+			baselineNanos = rttNanos;
+		}
+		if (rttNanos > baselineNanos * tolerance) {
+			decrease();
+		}
+		else if (inFlight * 2 >= limit) {
+			limit = Math.min(maxLimit, limit + 1);
+		}
+		baselineNanos += (rttNanos - baselineNanos) * BASELINE_SMOOTHING;
+	}
+
+	private void decrease() {
+		limit = Math.max(minLimit, (int) (limit * backoffRatio));
+	}
+}
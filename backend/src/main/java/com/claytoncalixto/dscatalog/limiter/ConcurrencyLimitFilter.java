@@ -0,0 +1,120 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.claytoncalixto.dscatalog.resources.exceptions.StandardError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Admits a request only while its route group is under its concurrency limit. Over the
+ * limit the request waits for a slot for the time allowed to its priority and is then
+ * answered with 503. Async requests hold their slot until they complete.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private final ConcurrencyLimiters limiters;
+	private final RequestClassifier classifier;
+	private final Map<Priority, Long> maxWaitNanos = new EnumMap<>(Priority.class);
+	private final ObjectMapper objectMapper;
+
+	public ConcurrencyLimitFilter(ConcurrencyLimiters limiters, RequestClassifier classifier,
+			Map<Priority, Long> maxWaitNanos, ObjectMapper objectMapper) {
+		this.limiters = limiters;
+		this.classifier = classifier;
+		this.maxWaitNanos.putAll(maxWaitNanos);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		ConcurrencyLimiter limiter = limiters.forPath(request.getRequestURI());
+		if (limiter == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		Priority priority = classifier.classify(request, SecurityContextHolder.getContext().getAuthentication());
+		if (!limiter.acquire(priority, maxWaitNanos.getOrDefault(priority, 0L))) {
+			reject(request, response);
+			return;
+		}
+		long start = System.nanoTime();
+		boolean async = false;
+		try {
+			chain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new ReleaseListener(limiter, start));
+				async = true;
+			}
+		}
+		finally {
+			if (!async) {
+				limiter.release(System.nanoTime() - start, isDropped(response));
+			}
+		}
+	}
+
+	private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+		StandardError err = new StandardError();
+		err.setTimestamp(Instant.now());
+		err.setStatus(status.value());
+		err.setError("Service unavailable");
+		err.setMessage("Server is busy, try again later");
+		err.setPath(request.getRequestURI());
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), err);
+	}
+
+	private static boolean isDropped(HttpServletResponse response) {
+		return response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+	}
+
+	private static class ReleaseListener implements AsyncListener {
+
+		private final ConcurrencyLimiter limiter;
+		private final long start;
+		private boolean dropped;
+
+		ReleaseListener(ConcurrencyLimiter limiter, long start) {
+			this.limiter = limiter;
+			this.start = start;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+			limiter.release(System.nanoTime() - start, dropped || isDropped(response));
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			dropped = true;
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			dropped = true;
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+	}
+}
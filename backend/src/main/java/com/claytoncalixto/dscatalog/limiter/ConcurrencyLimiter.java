@@ -0,0 +1,191 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Concurrency limit with one wait queue per priority. A free slot always goes to the
+ * oldest waiter of the highest priority, and LOW requests may only fill a share of the
+ * limit, so under saturation they are the first to wait and the first to be shed.
+ */
+public class ConcurrencyLimiter {
+
+	private final String name;
+	private final AimdLimit limit;
+	private final double lowPriorityShare;
+	private final int maxQueued;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Priority, Deque<Waiter>> queues = new EnumMap<>(Priority.class);
+	private final Map<Priority, AtomicLong> rejected = new EnumMap<>(Priority.class);
+	private final AtomicLong accepted = new AtomicLong();
+
+	private volatile int inFlight;
+	private volatile int queued;
+
+	public ConcurrencyLimiter(String name, AimdLimit limit) {
+		this(name, limit, 1.0, 0);
+	}
+
+	public ConcurrencyLimiter(String name, AimdLimit limit, double lowPriorityShare, int maxQueued) {
+		this.name = name;
+		this.limit = limit;
+		this.lowPriorityShare = lowPriorityShare;
+		this.maxQueued = maxQueued;
+		for (Priority priority : Priority.values()) {
+			queues.put(priority, new ArrayDeque<>());
+			rejected.put(priority, new AtomicLong());
+		}
+	}
+
+	public boolean tryAcquire() {
+		return acquire(Priority.NORMAL, 0L);
+	}
+
+	/*
+	 * Takes a slot, waiting up to maxWaitNanos behind requests of the same or higher
+	 * priority. Returns false when the request should be shed.
+	 */
+	public boolean acquire(Priority priority, long maxWaitNanos) {
+		Waiter waiter;
+		lock.lock();
+		try {
+			if (!hasWaitersFrom(priority) && inFlight < capacity(priority)) {
+				inFlight++;
+				accepted.incrementAndGet();
+				return true;
+			}
+			if (maxWaitNanos <= 0 || queued >= maxQueued) {
+				rejected.get(priority).incrementAndGet();
+				return false;
+			}
+			waiter = new Waiter(lock.newCondition());
+			queues.get(priority).addLast(waiter);
+			queued++;
+			long remaining = maxWaitNanos;
+			try {
+				while (!waiter.granted && remaining > 0) {
+					remaining = waiter.condition.awaitNanos(remaining);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (waiter.granted) {
+				accepted.incrementAndGet();
+				return true;
+			}
+			queues.get(priority).remove(waiter);
+			queued--;
+			rejected.get(priority).incrementAndGet();
+			return false;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void release(long rttNanos, boolean dropped) {
+		int current;
+		lock.lock();
+		try {
+			current = inFlight;
+			inFlight--;
+		}
+		finally {
+			lock.unlock();
+		}
+		limit.onSample(rttNanos, current, dropped);
+		grantWaiters();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getLimit() {
+		return limit.getLimit();
+	}
+
+	public long getBaselineNanos() {
+		return limit.getBaselineNanos();
+	}
+
+	public int getInFlight() {
+		return inFlight;
+	}
+
+	public int getQueued() {
+		return queued;
+	}
+
+	public long getAccepted() {
+		return accepted.get();
+	}
+
+	public long getRejected() {
+		long total = 0L;
+		for (AtomicLong count : rejected.values()) {
+			total += count.get();
+		}
+		return total;
+	}
+
+	public long getRejected(Priority priority) {
+		return rejected.get(priority).get();
+	}
+
+	private void grantWaiters() {
+		lock.lock();
+		try {
+			for (Priority priority : Priority.values()) {
+				Deque<Waiter> queue = queues.get(priority);
+				while (!queue.isEmpty() && inFlight < capacity(priority)) {
+					Waiter waiter = queue.pollFirst();
+					queued--;
+					inFlight++;
+					waiter.granted = true;
+					waiter.condition.signal();
+				}
+				if (!queue.isEmpty()) {
+					return;
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean hasWaitersFrom(Priority priority) {
+		for (Priority p : Priority.values()) {
+			if (!queues.get(p).isEmpty()) {
+				return true;
+			}
+			if (p == priority) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	private int capacity(Priority priority) {
+		int current = limit.getLimit();
+		return (priority == Priority.LOW) ? Math.max(1, (int) (current * lowPriorityShare)) : current;
+	}
+
+	private static class Waiter {
+
+		private final Condition condition;
+		private boolean granted;
+
+		Waiter(Condition condition) {
+			this.condition = condition;
+		}
+	}
+}
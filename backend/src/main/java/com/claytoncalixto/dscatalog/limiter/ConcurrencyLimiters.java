@@ -0,0 +1,38 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * One limiter per route group. Requests outside the groups are not limited.
+ */
+public class ConcurrencyLimiters {
+
+	private final Map<String, ConcurrencyLimiter> limiters = new LinkedHashMap<>();
+
+	public void register(ConcurrencyLimiter limiter) {
+		limiters.put(limiter.getName(), limiter);
+	}
+
+	public ConcurrencyLimiter forPath(String path) {
+		if (path.startsWith("/oauth/token")) {
+			return limiters.get("auth");
+		}
+		if (path.startsWith("/products")) {
+			return limiters.get("products");
+		}
+		if (path.startsWith("/categories")) {
+			return limiters.get("categories");
+		}
+		if (path.startsWith("/users")) {
+			return limiters.get("users");
+		}
+		return null;
+	}
+
+	public List<ConcurrencyLimiter> getLimiters() {
+		return new ArrayList<>(limiters.values());
+	}
+}
@@ -0,0 +1,6 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+public enum Priority {
+
+	HIGH, NORMAL, LOW;
+}
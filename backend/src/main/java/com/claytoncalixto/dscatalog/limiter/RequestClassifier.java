@@ -0,0 +1,41 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/*
+ * Logins and writes by operators or admins are HIGH, other authenticated requests are
+ * NORMAL and anonymous storefront reads are LOW. Uses the same roles as
+ * ResourceServerConfig.
+ */
+public class RequestClassifier {
+
+	public Priority classify(HttpServletRequest request, Authentication authentication) {
+		boolean read = HttpMethod.GET.matches(request.getMethod());
+		if (request.getRequestURI().startsWith("/oauth/token")) {
+			return Priority.HIGH;
+		}
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+				|| !authentication.isAuthenticated()) {
+			return read ? Priority.LOW : Priority.NORMAL;
+		}
+		if (!read && isOperatorOrAdmin(authentication)) {
+			return Priority.HIGH;
+		}
+		return Priority.NORMAL;
+	}
+
+	private static boolean isOperatorOrAdmin(Authentication authentication) {
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			String role = authority.getAuthority();
+			if (role.equals("ROLE_ADMIN") || role.equals("ROLE_OPERATOR")) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
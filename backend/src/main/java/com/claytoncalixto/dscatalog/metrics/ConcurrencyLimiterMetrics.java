@@ -0,0 +1,46 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiter;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiters;
+import com.claytoncalixto.dscatalog.limiter.Priority;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+	private final ConcurrencyLimiters limiters;
+
+	public ConcurrencyLimiterMetrics(ConcurrencyLimiters limiters) {
+		this.limiters = limiters;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (ConcurrencyLimiter limiter : limiters.getLimiters()) {
+			Gauge.builder("dscatalog.limiter.limit", limiter, ConcurrencyLimiter::getLimit)
+					.description("Current concurrency limit")
+					.tag("group", limiter.getName())
+					.register(registry);
+			Gauge.builder("dscatalog.limiter.in.flight", limiter, ConcurrencyLimiter::getInFlight)
+					.description("Requests holding a slot")
+					.tag("group", limiter.getName())
+					.register(registry);
+			Gauge.builder("dscatalog.limiter.queued", limiter, ConcurrencyLimiter::getQueued)
+					.description("Requests waiting for a slot")
+					.tag("group", limiter.getName())
+					.register(registry);
+			FunctionCounter.builder("dscatalog.limiter.accepted", limiter, ConcurrencyLimiter::getAccepted)
+					.tag("group", limiter.getName())
+					.register(registry);
+			for (Priority priority : Priority.values()) {
+				FunctionCounter.builder("dscatalog.limiter.rejected", limiter, x -> x.getRejected(priority))
+						.tag("group", limiter.getName())
+						.tag("priority", priority.name().toLowerCase())
+						.register(registry);
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.function.ToIntFunction;
+
+import com.claytoncalixto.dscatalog.datasource.DataSourcePools;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+ * Gauges for every Hikari pool in DataSourcePools. The pools are not Spring beans, so
+ * Boot's own pool metrics do not see them.
+ */
+public class DataSourcePoolMetrics implements MeterBinder {
+
+	private final DataSourcePools pools;
+
+	public DataSourcePoolMetrics(DataSourcePools pools) {
+		this.pools = pools;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (HikariDataSource pool : pools.getPools()) {
+			gauge(registry, pool, "hikaricp.connections.active", "Active connections", HikariPoolMXBean::getActiveConnections);
+			gauge(registry, pool, "hikaricp.connections.idle", "Idle connections", HikariPoolMXBean::getIdleConnections);
+			gauge(registry, pool, "hikaricp.connections.pending", "Threads waiting for a connection", HikariPoolMXBean::getThreadsAwaitingConnection);
+			gauge(registry, pool, "hikaricp.connections", "Total connections", HikariPoolMXBean::getTotalConnections);
+			Gauge.builder("hikaricp.connections.max", pool, HikariDataSource::getMaximumPoolSize)
+					.description("Maximum connections")
+					.tag("pool", pool.getPoolName())
+					.register(registry);
+			Gauge.builder("hikaricp.connections.usage", pool, DataSourcePoolMetrics::usage)
+					.description("Active connections divided by the maximum pool size")
+					.tag("pool", pool.getPoolName())
+					.register(registry);
+		}
+	}
+
+	private static void gauge(MeterRegistry registry, HikariDataSource pool, String name, String description,
+			ToIntFunction<HikariPoolMXBean> value) {
+		Gauge.builder(name, pool, x -> {
+					HikariPoolMXBean mxBean = x.getHikariPoolMXBean();
+					return (mxBean == null) ? 0.0 : value.applyAsInt(mxBean);
+				})
+				.description(description)
+				.tag("pool", pool.getPoolName())
+				.register(registry);
+	}
+
+	private static double usage(HikariDataSource pool) {
+		HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+		return (mxBean == null) ? 0.0 : (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+	}
+}
@@ -0,0 +1,40 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+ * Reports the email filter like a cache: a hit is a lookup answered without the database.
+ */
+public class EmailFilterMetrics implements MeterBinder {
+
+	private final EmailBloomFilter filter;
+
+	public EmailFilterMetrics(EmailBloomFilter filter) {
+		this.filter = filter;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("cache.gets", filter, EmailBloomFilter::getHits)
+				.tag("cache", "email-filter")
+				.tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder("cache.gets", filter, EmailBloomFilter::getMisses)
+				.tag("cache", "email-filter")
+				.tag("result", "miss")
+				.register(registry);
+		Gauge.builder("cache.hit.ratio", filter, EmailFilterMetrics::hitRatio)
+				.tag("cache", "email-filter")
+				.register(registry);
+	}
+
+	private static double hitRatio(EmailBloomFilter filter) {
+		long total = filter.getHits() + filter.getMisses();
+		return (total == 0) ? 0.0 : (double) filter.getHits() / total;
+	}
+}
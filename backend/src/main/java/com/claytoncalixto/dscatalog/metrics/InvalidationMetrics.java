@@ -0,0 +1,40 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.claytoncalixto.dscatalog.invalidation.InvalidationBus;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class InvalidationMetrics implements MeterBinder {
+
+	private final InvalidationBus bus;
+
+	public InvalidationMetrics(InvalidationBus bus) {
+		this.bus = bus;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		TimeGauge.builder("dscatalog.invalidation.pending.age", bus, TimeUnit.MILLISECONDS, InvalidationBus::getPendingAgeMillis)
+				.description("Age of the oldest invalidation waiting to be sent")
+				.register(registry);
+		Gauge.builder("dscatalog.invalidation.pending", bus, InvalidationBus::getPending)
+				.description("Ids waiting to be sent")
+				.register(registry);
+		FunctionCounter.builder("dscatalog.invalidation.published", bus, InvalidationBus::getPublished)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.invalidation.coalesced", bus, InvalidationBus::getCoalesced)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.invalidation.sent", bus, InvalidationBus::getSent)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.invalidation.received", bus, InvalidationBus::getReceived)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.invalidation.failures", bus, InvalidationBus::getFailures)
+				.register(registry);
+	}
+}
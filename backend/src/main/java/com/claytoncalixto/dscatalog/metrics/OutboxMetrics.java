@@ -0,0 +1,36 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.claytoncalixto.dscatalog.outbox.OutboxDispatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class OutboxMetrics implements MeterBinder {
+
+	private final OutboxDispatcher dispatcher;
+
+	public OutboxMetrics(OutboxDispatcher dispatcher) {
+		this.dispatcher = dispatcher;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		TimeGauge.builder("dscatalog.outbox.lag", dispatcher, TimeUnit.MILLISECONDS, OutboxDispatcher::getLagMillis)
+				.description("Age of the oldest undelivered change event")
+				.register(registry);
+		TimeGauge.builder("dscatalog.outbox.delivery.lag", dispatcher, TimeUnit.MILLISECONDS, OutboxDispatcher::getLastLagMillis)
+				.description("Time from write to delivery of the last change event")
+				.register(registry);
+		FunctionCounter.builder("dscatalog.outbox.delivered", dispatcher, OutboxDispatcher::getDelivered)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.outbox.failures", dispatcher, OutboxDispatcher::getFailures)
+				.register(registry);
+		FunctionCounter.builder("dscatalog.outbox.dead.letters", dispatcher, OutboxDispatcher::getDeadLetters)
+				.description("Change events moved to tb_outbox_dead_letter after app.outbox.max-attempts failures")
+				.register(registry);
+	}
+}
@@ -0,0 +1,44 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Hibernate sessions and JDBC statements opened on behalf of one HTTP request, on any
+ * thread the request hands work to.
+ */
+public class RequestMetrics {
+
+	private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+	private final AtomicInteger sessions = new AtomicInteger();
+	private final AtomicInteger statements = new AtomicInteger();
+
+	public static RequestMetrics current() {
+		return CURRENT.get();
+	}
+
+	public static void setCurrent(RequestMetrics metrics) {
+		if (metrics == null) {
+			CURRENT.remove();
+		}
+		else {
+			CURRENT.set(metrics);
+		}
+	}
+
+	public void sessionOpened() {
+		sessions.incrementAndGet();
+	}
+
+	public void statementPrepared() {
+		statements.incrementAndGet();
+	}
+
+	public int getSessions() {
+		return sessions.get();
+	}
+
+	public int getStatements() {
+		return statements.get();
+	}
+}
@@ -0,0 +1,94 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * Records how many Hibernate sessions and JDBC statements each request needed, tagged
+ * with the matched endpoint.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+	private final MeterRegistry registry;
+
+	public RequestMetricsFilter(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		RequestMetrics metrics = new RequestMetrics();
+		RequestMetrics.setCurrent(metrics);
+		boolean async = false;
+		try {
+			chain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new RecordListener(metrics));
+				async = true;
+			}
+		}
+		finally {
+			RequestMetrics.setCurrent(null);
+			if (!async) {
+				record(request, metrics);
+			}
+		}
+	}
+
+	private void record(HttpServletRequest request, RequestMetrics metrics) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pattern == null) {
+			return;
+		}
+		String uri = pattern.toString();
+		DistributionSummary.builder("dscatalog.hibernate.sessions.per.request")
+				.tags("method", request.getMethod(), "uri", uri)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(registry)
+				.record(metrics.getSessions());
+		DistributionSummary.builder("dscatalog.hibernate.statements.per.request")
+				.tags("method", request.getMethod(), "uri", uri)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(registry)
+				.record(metrics.getStatements());
+	}
+
+	private class RecordListener implements AsyncListener {
+
+		private final RequestMetrics metrics;
+
+		RecordListener(RequestMetrics metrics) {
+			this.metrics = metrics;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			record((HttpServletRequest) event.getSuppliedRequest(), metrics);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/*
+ * Registered through hibernate.session.events.auto, so Hibernate creates one instance per
+ * session.
+ */
+public class RequestSessionListener extends BaseSessionEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient RequestMetrics metrics;
+	private final transient ServerTiming timing;
+
+	private long executeStart;
+
+	public RequestSessionListener() {
+		metrics = RequestMetrics.current();
+		timing = ServerTiming.current();
+		if (metrics != null) {
+			metrics.sessionOpened();
+		}
+	}
+
+	@Override
+	public void jdbcPrepareStatementStart() {
+		if (metrics != null) {
+			metrics.statementPrepared();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		if (timing != null) {
+			executeStart = System.nanoTime();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		if (timing != null) {
+			timing.statementExecuted(System.nanoTime() - executeStart);
+		}
+	}
+}
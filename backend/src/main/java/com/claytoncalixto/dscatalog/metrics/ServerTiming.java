@@ -0,0 +1,82 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Per-phase durations of one sampled request, rendered as a Server-Timing header. Phases
+ * may overlap (service includes sql) and are added from every thread the request uses.
+ */
+public class ServerTiming {
+
+	public enum Phase {
+		SECURITY("security"), JWT("jwt"), SERVICE("service"), SQL("sql"), SERIALIZATION("serialization");
+
+		private final String metric;
+
+		Phase(String metric) {
+			this.metric = metric;
+		}
+
+		public String getMetric() {
+			return metric;
+		}
+	}
+
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+	private final long startNanos = System.nanoTime();
+	private final AtomicLongArray nanos = new AtomicLongArray(Phase.values().length);
+	private final AtomicInteger statements = new AtomicInteger();
+
+	public static ServerTiming current() {
+		return CURRENT.get();
+	}
+
+	public static void setCurrent(ServerTiming timing) {
+		if (timing == null) {
+			CURRENT.remove();
+		}
+		else {
+			CURRENT.set(timing);
+		}
+	}
+
+	public void add(Phase phase, long elapsedNanos) {
+		nanos.addAndGet(phase.ordinal(), elapsedNanos);
+	}
+
+	public void statementExecuted(long elapsedNanos) {
+		statements.incrementAndGet();
+		add(Phase.SQL, elapsedNanos);
+	}
+
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	public long getNanos(Phase phase) {
+		return nanos.get(phase.ordinal());
+	}
+
+	public int getStatements() {
+		return statements.get();
+	}
+
+	public String toHeader() {
+		StringBuilder sb = new StringBuilder();
+		for (Phase phase : Phase.values()) {
+			sb.append(phase.getMetric()).append(";dur=").append(millis(getNanos(phase)));
+			if (phase == Phase.SQL) {
+				sb.append(";desc=\"").append(getStatements()).append(" statements\"");
+			}
+			sb.append(", ");
+		}
+		return sb.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+	}
+
+	private static String millis(long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+	}
+}
@@ -0,0 +1,37 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/*
+ * Times the outermost service call of a sampled request, including its transaction. Runs
+ * outside HedgedReadAspect, so a hedged call counts once and not once per attempt.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingAspect {
+
+	private static final ThreadLocal<Boolean> IN_SERVICE = new ThreadLocal<>();
+
+	@Around("within(com.claytoncalixto.dscatalog.services..*)")
+	public Object time(ProceedingJoinPoint pjp) throws Throwable {
+		ServerTiming timing = ServerTiming.current();
+		if (timing == null || IN_SERVICE.get() != null) {
+			return pjp.proceed();
+		}
+		IN_SERVICE.set(Boolean.TRUE);
+		long start = System.nanoTime();
+		try {
+			return pjp.proceed();
+		}
+		finally {
+			timing.add(ServerTiming.Phase.SERVICE, System.nanoTime() - start);
+			IN_SERVICE.remove();
+		}
+	}
+}
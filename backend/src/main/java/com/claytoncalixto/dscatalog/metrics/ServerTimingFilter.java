@@ -0,0 +1,87 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/*
+ * Starts the timing of sampled requests just before the security chain and adds the
+ * Server-Timing header once the response is complete. The body is buffered so that the
+ * header can still be set after serialization; async requests keep their timing in a
+ * request attribute and finish on the async dispatch.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Server-Timing";
+
+	private static final String TIMING_ATTRIBUTE = ServerTimingFilter.class.getName() + ".TIMING";
+
+	private final double sampleRate;
+
+	public ServerTimingFilter(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		ServerTiming timing = (ServerTiming) request.getAttribute(TIMING_ATTRIBUTE);
+		if (timing == null) {
+			if (isAsyncDispatch(request) || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+				chain.doFilter(request, response);
+				return;
+			}
+			timing = new ServerTiming();
+			request.setAttribute(TIMING_ATTRIBUTE, timing);
+		}
+
+		ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+		if (wrapper == null) {
+			wrapper = new ContentCachingResponseWrapper(response);
+		}
+		ServerTiming.setCurrent(timing);
+		try {
+			chain.doFilter(request, wrapper);
+		}
+		finally {
+			ServerTiming.setCurrent(null);
+			if (!request.isAsyncStarted()) {
+				request.removeAttribute(TIMING_ATTRIBUTE);
+				if (!wrapper.isCommitted()) {
+					wrapper.setHeader(HEADER, timing.toHeader());
+				}
+				wrapper.copyBodyToResponse();
+			}
+		}
+	}
+
+	/*
+	 * Registered right after the security chain; everything between the two filters is
+	 * attributed to security.
+	 */
+	public static class SecurityBoundaryFilter extends OncePerRequestFilter {
+
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+				throws ServletException, IOException {
+			ServerTiming timing = ServerTiming.current();
+			if (timing != null) {
+				timing.add(ServerTiming.Phase.SECURITY, System.nanoTime() - timing.getStartNanos());
+			}
+			chain.doFilter(request, response);
+		}
+	}
+}
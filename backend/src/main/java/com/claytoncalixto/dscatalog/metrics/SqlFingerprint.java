@@ -0,0 +1,26 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.regex.Pattern;
+
+/*
+ * Normalizes SQL so that statements differing only in literals, IN list length or
+ * whitespace share one fingerprint.
+ */
+public final class SqlFingerprint {
+
+	private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+	private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private SqlFingerprint() {
+	}
+
+	public static String of(String sql) {
+		String result = STRING.matcher(sql).replaceAll("?");
+		result = NUMBER.matcher(result).replaceAll("?");
+		result = IN_LIST.matcher(result).replaceAll("in (...)");
+		result = WHITESPACE.matcher(result).replaceAll(" ");
+		return result.trim();
+	}
+}
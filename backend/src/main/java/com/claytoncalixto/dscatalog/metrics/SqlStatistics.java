@@ -0,0 +1,177 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/*
+ * In-app equivalent of pg_stat_statements: calls, time and rows per SQL fingerprint, plus
+ * the most recent statements slower than the threshold with their (redacted) bind
+ * parameters and execution plan.
+ */
+public class SqlStatistics {
+
+	private final long slowThresholdNanos;
+	private final int maxFingerprints;
+	private final int maxSlowSamples;
+	private final long planIntervalNanos;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Entry> entriesBySql = new ConcurrentHashMap<>();
+	private final Deque<SlowSample> slowSamples = new ArrayDeque<>();
+
+	public SqlStatistics(long slowThresholdNanos, int maxFingerprints, int maxSlowSamples, long planIntervalNanos) {
+		this.slowThresholdNanos = slowThresholdNanos;
+		this.maxFingerprints = maxFingerprints;
+		this.maxSlowSamples = maxSlowSamples;
+		this.planIntervalNanos = planIntervalNanos;
+	}
+
+	/*
+	 * Returns null once maxFingerprints distinct statements have been seen. The entry of
+	 * a SQL text is cached (up to four texts per fingerprint on average), so repeated
+	 * statements skip the fingerprint regexes.
+	 */
+	public Entry entry(String sql) {
+		Entry entry = entriesBySql.get(sql);
+		if (entry != null) {
+			return entry;
+		}
+		String fingerprint = SqlFingerprint.of(sql);
+		entry = entries.get(fingerprint);
+		if (entry == null && entries.size() < maxFingerprints) {
+			entry = entries.computeIfAbsent(fingerprint, Entry::new);
+		}
+		if (entry != null && entriesBySql.size() < maxFingerprints * 4) {
+			entriesBySql.put(sql, entry);
+		}
+		return entry;
+	}
+
+	public boolean isSlow(long nanos) {
+		return nanos >= slowThresholdNanos;
+	}
+
+	/*
+	 * A fingerprint gets at most one execution plan per interval.
+	 */
+	public boolean shouldExplain(Entry entry) {
+		long now = System.nanoTime();
+		long last = entry.lastPlanNanos.get();
+		return (last == 0L || now - last >= planIntervalNanos) && entry.lastPlanNanos.compareAndSet(last, now);
+	}
+
+	public synchronized void addSlowSample(SlowSample sample) {
+		slowSamples.addFirst(sample);
+		while (slowSamples.size() > maxSlowSamples) {
+			slowSamples.removeLast();
+		}
+	}
+
+	public List<Entry> getEntries() {
+		return entries.values().stream()
+				.sorted(Comparator.comparingLong(Entry::getTotalNanos).reversed())
+				.collect(Collectors.toList());
+	}
+
+	public synchronized List<SlowSample> getSlowSamples() {
+		return new ArrayList<>(slowSamples);
+	}
+
+	public synchronized void reset() {
+		entries.clear();
+		entriesBySql.clear();
+		slowSamples.clear();
+	}
+
+	public static class Entry {
+
+		private final String fingerprint;
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAdder rows = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final AtomicLong lastPlanNanos = new AtomicLong();
+
+		public Entry(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		public void record(long nanos) {
+			calls.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		public void addRows(long count) {
+			rows.add(count);
+		}
+
+		public String getFingerprint() {
+			return fingerprint;
+		}
+
+		public long getCalls() {
+			return calls.sum();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		public long getRows() {
+			return rows.sum();
+		}
+	}
+
+	public static class SlowSample {
+
+		private final long timestamp;
+		private final String sql;
+		private final long nanos;
+		private final List<String> parameters;
+		private volatile String plan;
+
+		public SlowSample(long timestamp, String sql, long nanos, List<String> parameters) {
+			this.timestamp = timestamp;
+			this.sql = sql;
+			this.nanos = nanos;
+			this.parameters = parameters;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		public List<String> getParameters() {
+			return parameters;
+		}
+
+		public String getPlan() {
+			return plan;
+		}
+
+		public void setPlan(String plan) {
+			this.plan = plan;
+		}
+	}
+}
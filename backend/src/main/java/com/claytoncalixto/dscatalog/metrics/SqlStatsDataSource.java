@@ -0,0 +1,185 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.claytoncalixto.dscatalog.datasource.BindParameters;
+import com.claytoncalixto.dscatalog.datasource.JdbcProxies;
+
+/*
+ * Times every statement executed through its connections and feeds SqlStatistics. Bind
+ * parameters are only kept in memory for the statement itself; slow samples get numbers
+ * and booleans as they are and every other value redacted. Slow SELECTs are explained on
+ * planExecutor with a connection of their own, off the request path.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+	private final SqlStatistics statistics;
+	private final Executor planExecutor;
+
+	public SqlStatsDataSource(DataSource target, SqlStatistics statistics, Executor planExecutor) {
+		super(target);
+		this.statistics = statistics;
+		this.planExecutor = planExecutor;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection con) {
+		return JdbcProxies.wrapConnection(con, (statement, sql) -> new StatementHandler(statement, sql).proxy());
+	}
+
+	private class StatementHandler {
+
+		private final Statement statement;
+		private final String preparedSql;
+		private final BindParameters parameters = new BindParameters();
+
+		StatementHandler(Statement statement, String preparedSql) {
+			this.statement = statement;
+			this.preparedSql = preparedSql;
+		}
+
+		Statement proxy() {
+			return JdbcProxies.wrapStatement(statement, (proxy, method, args) -> handle(method, args));
+		}
+
+		private Object handle(Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (parameters.capture(method, args)) {
+				return JdbcProxies.invoke(statement, method, args);
+			}
+			if (name.startsWith("execute")) {
+				return execute(method, args);
+			}
+			if (name.equals("getResultSet")) {
+				return countRows((ResultSet) JdbcProxies.invoke(statement, method, args), statistics.entry(sql(args)));
+			}
+			return JdbcProxies.invoke(statement, method, args);
+		}
+
+		private Object execute(Method method, Object[] args) throws Throwable {
+			String sql = sql(args);
+			SqlStatistics.Entry entry = (sql == null) ? null : statistics.entry(sql);
+			long start = System.nanoTime();
+			Object result = JdbcProxies.invoke(statement, method, args);
+			long elapsed = System.nanoTime() - start;
+			if (entry == null) {
+				return result;
+			}
+			entry.record(elapsed);
+			if (result instanceof Integer || result instanceof Long) {
+				entry.addRows(((Number) result).longValue());
+			}
+			else if (result instanceof int[]) {
+				for (int count : (int[]) result) {
+					entry.addRows(Math.max(0, count));
+				}
+			}
+			if (statistics.isSlow(elapsed)) {
+				SqlStatistics.SlowSample sample = new SqlStatistics.SlowSample(System.currentTimeMillis(), sql, elapsed,
+						describeParameters());
+				statistics.addSlowSample(sample);
+				if (isSelect(sql) && statistics.shouldExplain(entry)) {
+					explainLater(sample, (preparedSql != null) ? parameters.toMap() : Map.of());
+				}
+			}
+			return (result instanceof ResultSet) ? countRows((ResultSet) result, entry) : result;
+		}
+
+		private String sql(Object[] args) {
+			if (preparedSql != null) {
+				return preparedSql;
+			}
+			return JdbcProxies.sqlArgument(args);
+		}
+
+		private List<String> describeParameters() {
+			List<String> list = new ArrayList<>();
+			for (Object value : parameters.toList()) {
+				list.add(redact(value));
+			}
+			return list;
+		}
+	}
+
+	private void explainLater(SqlStatistics.SlowSample sample, Map<Integer, Object> parameters) {
+		try {
+			planExecutor.execute(() -> sample.setPlan(explain(sample.getSql(), parameters)));
+		}
+		catch (RejectedExecutionException e) {
+			sample.setPlan("unavailable: plan queue is full");
+		}
+	}
+
+	private String explain(String sql, Map<Integer, Object> parameters) {
+		try (Connection con = obtainTargetDataSource().getConnection();
+				PreparedStatement st = con.prepareStatement("EXPLAIN " + sql)) {
+			for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+				st.setObject(parameter.getKey(), parameter.getValue());
+			}
+			StringBuilder sb = new StringBuilder();
+			try (ResultSet rs = st.executeQuery()) {
+				while (rs.next()) {
+					sb.append(sb.length() == 0 ? "" : "\n").append(rs.getString(1));
+				}
+			}
+			return sb.toString();
+		}
+		catch (SQLException e) {
+			return "unavailable: " + e.getMessage();
+		}
+	}
+
+	private static String redact(Object value) {
+		if (value == null || value instanceof Number || value instanceof Boolean) {
+			return String.valueOf(value);
+		}
+		if (value instanceof String) {
+			return "<redacted, " + ((String) value).length() + " chars>";
+		}
+		return "<redacted " + value.getClass().getSimpleName() + ">";
+	}
+
+	private static ResultSet countRows(ResultSet rs, SqlStatistics.Entry entry) {
+		if (rs == null || entry == null) {
+			return rs;
+		}
+		return (ResultSet) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+					Object result = JdbcProxies.invoke(rs, method, args);
+					if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+						entry.addRows(1L);
+					}
+					return result;
+				});
+	}
+
+	private static boolean isSelect(String sql) {
+		String trimmed = sql.trim().toLowerCase(Locale.ROOT);
+		return trimmed.startsWith("select") || trimmed.startsWith("with");
+	}
+}
@@ -0,0 +1,38 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Replaces the auto-configured Jackson converter so that response serialization shows up
+ * as its own Server-Timing phase.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		ServerTiming timing = ServerTiming.current();
+		if (timing == null) {
+			super.writeInternal(object, type, outputMessage);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			super.writeInternal(object, type, outputMessage);
+		}
+		finally {
+			timing.add(ServerTiming.Phase.SERIALIZATION, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.util.Map;
+
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+/*
+ * Adds the JWT signature check and claim parsing to the Server-Timing jwt phase.
+ */
+public class TimedJwtAccessTokenConverter extends JwtAccessTokenConverter {
+
+	@Override
+	protected Map<String, Object> decode(String token) {
+		ServerTiming timing = ServerTiming.current();
+		if (timing == null) {
+			return super.decode(token);
+		}
+		long start = System.nanoTime();
+		try {
+			return super.decode(token);
+		}
+		finally {
+			timing.add(ServerTiming.Phase.JWT, System.nanoTime() - start);
+		}
+	}
+}
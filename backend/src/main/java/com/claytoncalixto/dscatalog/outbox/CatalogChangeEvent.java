@@ -0,0 +1,66 @@
+package com.claytoncalixto.dscatalog.outbox;
+
+import java.time.Instant;
+
+import com.claytoncalixto.dscatalog.entities.OutboxEvent;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+
+/*
+ * Published by OutboxDispatcher to @EventListener methods once the change has committed.
+ * Delivery is at least once: a listener may see the same event id again. A delete
+ * carries the last version the entity had.
+ */
+public class CatalogChangeEvent {
+
+	private final Long id;
+	private final ChangedEntity entity;
+	private final Long entityId;
+	private final Long entityVersion;
+	private final ChangeOperation operation;
+	private final Instant createdAt;
+
+	public CatalogChangeEvent(Long id, ChangedEntity entity, Long entityId, Long entityVersion, ChangeOperation operation,
+			Instant createdAt) {
+		this.id = id;
+		this.entity = entity;
+		this.entityId = entityId;
+		this.entityVersion = entityVersion;
+		this.operation = operation;
+		this.createdAt = createdAt;
+	}
+
+	public CatalogChangeEvent(OutboxEvent event) {
+		this(event.getId(), event.getEntity(), event.getEntityId(), event.getEntityVersion(), event.getOperation(),
+				event.getCreatedAt());
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public ChangedEntity getEntity() {
+		return entity;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public Long getEntityVersion() {
+		return entityVersion;
+	}
+
+	public ChangeOperation getOperation() {
+		return operation;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	@Override
+	public String toString() {
+		return "CatalogChangeEvent [id=" + id + ", entity=" + entity + ", entityId=" + entityId + ", entityVersion="
+				+ entityVersion + ", operation=" + operation + "]";
+	}
+}
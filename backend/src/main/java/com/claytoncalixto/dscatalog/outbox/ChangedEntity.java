@@ -0,0 +1,6 @@
+package com.claytoncalixto.dscatalog.outbox;
+
+public enum ChangedEntity {
+	PRODUCT,
+	CATEGORY
+}
@@ -0,0 +1,153 @@
+package com.claytoncalixto.dscatalog.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.entities.OutboxDeadLetter;
+import com.claytoncalixto.dscatalog.entities.OutboxEvent;
+import com.claytoncalixto.dscatalog.repositories.OutboxDeadLetterRepository;
+import com.claytoncalixto.dscatalog.repositories.OutboxEventRepository;
+
+/*
+ * Delivers tb_outbox_event rows to in-process listeners as CatalogChangeEvents, in id
+ * order and in batches of app.outbox.batch-size, polling every app.outbox.poll-interval.
+ * Rows are deleted only after their listeners returned, so a crash or a failing listener
+ * means redelivery, never loss. A failing event stops the round and is retried first on
+ * the next poll, keeping later events behind it, until it has failed
+ * app.outbox.max-attempts times: it is then moved to tb_outbox_dead_letter and delivery
+ * goes on with the events after it.
+ *
+ * Ids are taken at insert, not at commit, so events of concurrent transactions may be
+ * delivered out of id order; events of the same entity are not, as its row lock orders
+ * their transactions. Several instances polling one database may deliver an event twice.
+ */
+@Component
+public class OutboxDispatcher {
+
+	private static Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+	@Autowired
+	private OutboxEventRepository repository;
+
+	@Autowired
+	private OutboxDeadLetterRepository deadLetterRepository;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@Value("${app.outbox.batch-size:100}")
+	private Integer batchSize;
+
+	@Value("${app.outbox.max-attempts:5}")
+	private Integer maxAttempts;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final AtomicLong delivered = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicLong deadLetters = new AtomicLong();
+	private volatile long lastLagMillis;
+
+	public OutboxDispatcher(PlatformTransactionManager transactionManager) {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval:500}", initialDelayString = "${app.outbox.poll-interval:500}")
+	public synchronized int dispatch() {
+		int count = 0;
+		while (true) {
+			List<OutboxEvent> batch = transactionTemplate.execute(status -> repository.findNext(PageRequest.of(0, batchSize)));
+			if (batch.isEmpty()) {
+				return count;
+			}
+			List<Long> done = new ArrayList<>(batch.size());
+			try {
+				for (OutboxEvent event : batch) {
+					publisher.publishEvent(new CatalogChangeEvent(event));
+					done.add(event.getId());
+					lastLagMillis = Duration.between(event.getCreatedAt(), Instant.now()).toMillis();
+				}
+			}
+			catch (RuntimeException e) {
+				failures.incrementAndGet();
+				count += remove(done);
+				if (!fail(batch.get(done.size()), e)) {
+					return count;
+				}
+				continue;
+			}
+			count += remove(done);
+			if (batch.size() < batchSize) {
+				return count;
+			}
+		}
+	}
+
+	/* Age of the oldest undelivered event, zero when the outbox is drained */
+	public long getLagMillis() {
+		Instant oldest = transactionTemplate.execute(status -> repository.findOldestCreatedAt());
+		return (oldest == null) ? 0L : Math.max(0L, Duration.between(oldest, Instant.now()).toMillis());
+	}
+
+	/* Commit to delivery time of the last delivered event */
+	public long getLastLagMillis() {
+		return lastLagMillis;
+	}
+
+	public long getDelivered() {
+		return delivered.get();
+	}
+
+	public long getFailures() {
+		return failures.get();
+	}
+
+	public long getDeadLetters() {
+		return deadLetters.get();
+	}
+
+	/*
+	 * Counts the failed attempt; returns true when it was the last one and the event has
+	 * been moved out of the way.
+	 */
+	private boolean fail(OutboxEvent event, RuntimeException e) {
+		int attempts = event.getAttempts() + 1;
+		if (attempts < maxAttempts) {
+			transactionTemplate.executeWithoutResult(status -> repository.incrementAttempts(event.getId()));
+			logger.error("Outbox event " + event.getId() + " failed (attempt " + attempts + " of " + maxAttempts
+					+ ") and will be redelivered", e);
+			return false;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
+			deadLetterRepository.save(new OutboxDeadLetter(event, attempts, String.valueOf(e)));
+			repository.deleteByIds(List.of(event.getId()));
+		});
+		deadLetters.incrementAndGet();
+		logger.error("Outbox event " + event.getId() + " failed " + attempts + " times and was moved to the dead letters", e);
+		return true;
+	}
+
+	private int remove(List<Long> ids) {
+		if (!ids.isEmpty()) {
+			transactionTemplate.executeWithoutResult(status -> repository.deleteByIds(ids));
+			delivered.addAndGet(ids.size());
+		}
+		return ids.size();
+	}
+}
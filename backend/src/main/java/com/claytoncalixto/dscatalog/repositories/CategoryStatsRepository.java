@@ -0,0 +1,55 @@
+package com.claytoncalixto.dscatalog.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.entities.CategoryStats;
+
+@Repository
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, Long> {
+
+	@Modifying
+	@Query("UPDATE CategoryStats obj SET obj.productCount = obj.productCount + :count, obj.updatedAt = :now "
+			+ "WHERE obj.categoryId = :categoryId")
+	int addUnpriced(Long categoryId, long count, Instant now);
+
+	@Modifying
+	@Query("UPDATE CategoryStats obj SET obj.productCount = obj.productCount + 1, obj.pricedCount = obj.pricedCount + 1, "
+			+ "obj.priceSum = obj.priceSum + :price, "
+			+ "obj.minPrice = CASE WHEN obj.minPrice IS NULL OR obj.minPrice > :price THEN :price ELSE obj.minPrice END, "
+			+ "obj.maxPrice = CASE WHEN obj.maxPrice IS NULL OR obj.maxPrice < :price THEN :price ELSE obj.maxPrice END, "
+			+ "obj.updatedAt = :now WHERE obj.categoryId = :categoryId")
+	int addPriced(Long categoryId, Double price, Instant now);
+
+	/* Min/max are only recounted, in the same statement, when the removed price was one of the extremes */
+	@Modifying
+	@Query("UPDATE CategoryStats obj SET obj.productCount = obj.productCount - 1, obj.pricedCount = obj.pricedCount - 1, "
+			+ "obj.priceSum = obj.priceSum - :price, "
+			+ "obj.minPrice = CASE WHEN obj.minPrice >= :price "
+			+ "THEN (SELECT MIN(p.price) FROM Product p JOIN p.categories c WHERE c.id = :categoryId) ELSE obj.minPrice END, "
+			+ "obj.maxPrice = CASE WHEN obj.maxPrice <= :price "
+			+ "THEN (SELECT MAX(p.price) FROM Product p JOIN p.categories c WHERE c.id = :categoryId) ELSE obj.maxPrice END, "
+			+ "obj.updatedAt = :now WHERE obj.categoryId = :categoryId")
+	int removePriced(Long categoryId, Double price, Instant now);
+
+	@Query("SELECT new com.claytoncalixto.dscatalog.entities.CategoryStats(c.id, COUNT(p), COUNT(p.price), SUM(p.price), "
+			+ "MIN(p.price), MAX(p.price)) FROM Category c LEFT JOIN c.products p GROUP BY c.id")
+	List<CategoryStats> aggregateAll();
+
+	@Query("SELECT new com.claytoncalixto.dscatalog.entities.CategoryStats(c.id, COUNT(p), COUNT(p.price), SUM(p.price), "
+			+ "MIN(p.price), MAX(p.price)) FROM Category c LEFT JOIN c.products p WHERE c.id IN :categoryIds GROUP BY c.id")
+	List<CategoryStats> aggregate(Collection<Long> categoryIds);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT obj FROM CategoryStats obj WHERE obj.categoryId IN :categoryIds ORDER BY obj.categoryId")
+	List<CategoryStats> findAllForUpdate(Collection<Long> categoryIds);
+}
@@ -0,0 +1,11 @@
+package com.claytoncalixto.dscatalog.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.entities.OutboxDeadLetter;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+
+}
@@ -0,0 +1,31 @@
+package com.claytoncalixto.dscatalog.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.entities.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	@Query("SELECT obj FROM OutboxEvent obj ORDER BY obj.id")
+	List<OutboxEvent> findNext(Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent obj WHERE obj.id IN :ids")
+	int deleteByIds(Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent obj SET obj.attempts = obj.attempts + 1 WHERE obj.id = :id")
+	int incrementAttempts(Long id);
+
+	@Query("SELECT MIN(obj.createdAt) FROM OutboxEvent obj")
+	Instant findOldestCreatedAt();
+}
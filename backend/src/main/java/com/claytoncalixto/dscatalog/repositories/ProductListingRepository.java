@@ -0,0 +1,43 @@
+package com.claytoncalixto.dscatalog.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.entities.ProductListing;
+import com.claytoncalixto.dscatalog.entities.ProductListingPK;
+
+@Repository
+public interface ProductListingRepository extends JpaRepository<ProductListing, ProductListingPK> {
+
+	@Query("SELECT obj FROM ProductListing obj WHERE obj.id.listingCategoryId = :categoryId AND "
+			+ "(LOWER(obj.name) LIKE LOWER(CONCAT('%',:name,'%')))")
+	Page<ProductListing> find(Long categoryId, String name, Pageable pageable);
+
+	/* Without a name filter the page can be read in index order */
+	@Query("SELECT obj FROM ProductListing obj WHERE obj.id.listingCategoryId = :categoryId")
+	Page<ProductListing> findByCategory(Long categoryId, Pageable pageable);
+
+	@Query("SELECT obj FROM ProductListing obj WHERE obj.id.productId IN :productIds")
+	List<ProductListing> findByProductIds(Collection<Long> productIds);
+
+	@Query("SELECT obj.id.productId FROM ProductListing obj WHERE obj.id.listingCategoryId = :categoryId")
+	List<Long> findProductIdsByCategory(Long categoryId);
+
+	@Modifying
+	@Query("DELETE FROM ProductListing obj WHERE obj.id.productId = :productId")
+	int deleteByProductId(Long productId);
+
+	@Modifying
+	@Query("DELETE FROM ProductListing obj WHERE obj.id.productId NOT IN (SELECT p.id FROM Product p)")
+	int deleteOrphans();
+
+	@Query("SELECT COUNT(c) FROM Product obj JOIN obj.categories c")
+	long countProductCategories();
+}
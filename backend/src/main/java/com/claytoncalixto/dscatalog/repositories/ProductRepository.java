@@ -1,11 +1,17 @@
 package com.claytoncalixto.dscatalog.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.claytoncalixto.dscatalog.entities.Category;
@@ -21,4 +27,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 	
 	@Query("SELECT obj FROM Product obj JOIN FETCH obj.categories WHERE obj IN :products")
 	List<Product> findProductsWithCategories(List<Product> products);
+
+	@Query("SELECT DISTINCT obj FROM Product obj LEFT JOIN FETCH obj.categories WHERE obj.id IN :ids")
+	List<Product> findWithCategoriesByIds(Collection<Long> ids);
+
+	@Query("SELECT obj.id FROM Product obj WHERE obj.id > :after ORDER BY obj.id")
+	List<Long> findIdsAfter(Long after, Pageable pageable);
+
+	/* Rows are (category id, price); must be consumed inside a transaction */
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT cats.id, obj.price FROM Product obj INNER JOIN obj.categories cats WHERE obj.price IS NOT NULL")
+	Stream<Object[]> streamCategoryPrices();
+
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT cats.id, obj.price FROM Product obj INNER JOIN obj.categories cats "
+			+ "WHERE obj.price IS NOT NULL AND cats.id IN :categoryIds")
+	Stream<Object[]> streamCategoryPrices(Collection<Long> categoryIds);
+
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT obj.price FROM Product obj WHERE obj.price IS NOT NULL")
+	Stream<Double> streamPrices();
 }
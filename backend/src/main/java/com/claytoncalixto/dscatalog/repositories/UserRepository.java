@@ -1,6 +1,10 @@
 package com.claytoncalixto.dscatalog.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.claytoncalixto.dscatalog.entities.User;
@@ -10,4 +14,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	User findByEmail(String email);
 
+	boolean existsByEmail(String email);
+
+	boolean existsByEmailAndIdNot(String email, Long id);
+
+	@Query("SELECT obj.email FROM User obj")
+	List<String> findAllEmails();
+
+	@Query("SELECT obj.email FROM User obj WHERE obj.id IN :ids")
+	List<String> findEmailsByIds(Collection<Long> ids);
 }
@@ -0,0 +1,143 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+import com.claytoncalixto.dscatalog.dto.LimiterStatsDTO;
+import com.claytoncalixto.dscatalog.dto.PoolStatsDTO;
+import com.claytoncalixto.dscatalog.dto.PriceStatisticsDTO;
+import com.claytoncalixto.dscatalog.dto.SlowQueryDTO;
+import com.claytoncalixto.dscatalog.dto.SqlStatsDTO;
+import com.claytoncalixto.dscatalog.services.AdminService;
+
+@RestController
+@RequestMapping(value = "/admin")
+public class AdminResource {
+
+	@Autowired
+	private AdminService service;
+
+	@GetMapping(value = "/pools")
+	public ResponseEntity<List<PoolStatsDTO>> findPoolStats() {
+		List<PoolStatsDTO> list = service.findPoolStats();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@GetMapping(value = "/limits")
+	public ResponseEntity<List<LimiterStatsDTO>> findLimiterStats() {
+		List<LimiterStatsDTO> list = service.findLimiterStats();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@GetMapping(value = "/sql-stats")
+	public ResponseEntity<List<SqlStatsDTO>> findSqlStats() {
+		List<SqlStatsDTO> list = service.findSqlStats();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@GetMapping(value = "/sql-stats/slow")
+	public ResponseEntity<List<SlowQueryDTO>> findSlowQueries() {
+		List<SlowQueryDTO> list = service.findSlowQueries();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@DeleteMapping(value = "/sql-stats")
+	public ResponseEntity<Void> resetSqlStats() {
+		service.resetSqlStats();
+		return ResponseEntity.noContent().build();
+	}
+
+	@PostMapping(value = "/category-stats/reconcile")
+	public ResponseEntity<List<CategoryStatsDTO>> reconcileCategoryStats() {
+		List<CategoryStatsDTO> list = service.reconcileCategoryStats();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@PostMapping(value = "/price-sketches/rebuild")
+	public ResponseEntity<PriceStatisticsDTO> rebuildPriceSketches() {
+		PriceStatisticsDTO dto = service.rebuildPriceSketches();
+		return ResponseEntity.ok().body(dto);
+	}
+
+	@PostMapping(value = "/product-listing/rebuild")
+	public ResponseEntity<Void> rebuildProductListing() {
+		service.rebuildProductListing();
+		return ResponseEntity.noContent().build();
+	}
+
+	@PostMapping(value = "/catalog-snapshot/reload")
+	public ResponseEntity<Void> reloadCatalogSnapshot() {
+		service.reloadCatalogSnapshot();
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping(value = "/jfr")
+	public DeferredResult<ResponseEntity<Resource>> recordJfr(
+			@RequestParam(value = "seconds", defaultValue = "30") Integer seconds,
+			@RequestParam(value = "settings", defaultValue = "profile") String settings) {
+		DeferredResult<ResponseEntity<Resource>> result = new DeferredResult<>(TimeUnit.SECONDS.toMillis(Math.max(seconds, 1) + 30));
+		/* The dump is a temp file: remove it however the request ends, even if it was never sent */
+		AtomicReference<Path> dump = new AtomicReference<>();
+		result.onCompletion(() -> deleteQuietly(dump.get()));
+		service.recordJfr(seconds, settings).whenComplete((file, e) -> {
+			if (e != null) {
+				result.setErrorResult(e.getCause() != null ? e.getCause() : e);
+				return;
+			}
+			dump.set(file);
+			if (result.isSetOrExpired() || !result.setResult(jfrFile(file))) {
+				deleteQuietly(file);
+			}
+		});
+		return result;
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException e) {
+			file.toFile().deleteOnExit();
+		}
+	}
+
+	private static ResponseEntity<Resource> jfrFile(Path file) {
+		try {
+			long size = Files.size(file);
+			Resource body = new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+			return ResponseEntity.ok()
+					.contentType(MediaType.APPLICATION_OCTET_STREAM)
+					.contentLength(size)
+					.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"dscatalog-" + Instant.now().getEpochSecond() + ".jfr\"")
+					.body(body);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
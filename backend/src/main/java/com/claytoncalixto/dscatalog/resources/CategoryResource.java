@@ -1,8 +1,13 @@
 package com.claytoncalixto.dscatalog.resources;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +21,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.claytoncalixto.dscatalog.datasource.QueryBudget;
 import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+import com.claytoncalixto.dscatalog.services.CatalogSnapshotService;
 import com.claytoncalixto.dscatalog.services.CategoryService;
+import com.claytoncalixto.dscatalog.services.CategoryStatsService;
 
 @RestController
 @RequestMapping(value = "/categories")
@@ -26,17 +35,48 @@ public class CategoryResource {
 	@Autowired
 	private CategoryService service;
 
+	@Autowired
+	private CategoryStatsService statsService;
+
+	@Autowired
+	private CatalogSnapshotService snapshotService;
+	
+	@Autowired
+	@Qualifier("databaseExecutor")
+	private Executor executor;
+
+	@QueryBudget("categories-search")
 	@GetMapping
-	public ResponseEntity<Page<CategoryDTO>> findAll(Pageable pageable) {
-		
-		Page<CategoryDTO> list = service.findAllPaged(pageable);
-		
-		return ResponseEntity.ok().body(list);
+	public CompletableFuture<ResponseEntity<Page<CategoryDTO>>> findAll(Pageable pageable) {
+		Optional<Page<CategoryDTO>> snapshot = snapshotService.findCategories(pageable);
+		if (snapshot.isPresent()) {
+			return CompletableFuture.completedFuture(ResponseEntity.ok().body(snapshot.get()));
+		}
+
+		return CompletableFuture.supplyAsync(() -> service.findAllPaged(pageable), executor)
+				.thenApply(list -> ResponseEntity.ok().body(list));
 	}
 
+	@QueryBudget("categories-find")
 	@GetMapping(value = "/{id}")
-	public ResponseEntity<CategoryDTO> findById(@PathVariable Long id) {
-		CategoryDTO dto = service.findById(id);
+	public CompletableFuture<ResponseEntity<CategoryDTO>> findById(@PathVariable Long id) {
+		Optional<CategoryDTO> snapshot = snapshotService.findCategory(id);
+		if (snapshot.isPresent()) {
+			return CompletableFuture.completedFuture(ResponseEntity.ok().body(snapshot.get()));
+		}
+		return CompletableFuture.supplyAsync(() -> service.findById(id), executor)
+				.thenApply(dto -> ResponseEntity.ok().body(dto));
+	}
+
+	@GetMapping(value = "/stats")
+	public ResponseEntity<List<CategoryStatsDTO>> findAllStats() {
+		List<CategoryStatsDTO> list = statsService.findAll();
+		return ResponseEntity.ok().body(list);
+	}
+
+	@GetMapping(value = "/{id}/stats")
+	public ResponseEntity<CategoryStatsDTO> findStatsById(@PathVariable Long id) {
+		CategoryStatsDTO dto = statsService.findById(id);
 		return ResponseEntity.ok().body(dto);
 	}
 
@@ -1,10 +1,15 @@
 package com.claytoncalixto.dscatalog.resources;
 
 import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
@@ -20,7 +25,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.claytoncalixto.dscatalog.datasource.QueryBudget;
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.services.CatalogSnapshotService;
 import com.claytoncalixto.dscatalog.services.ProductService;
 
 @RestController
@@ -30,8 +37,19 @@ public class ProductResource {
 	@Autowired
 	private ProductService service;
 
+	@Autowired
+	private CatalogSnapshotService snapshotService;
+	
+	@Autowired
+	@Qualifier("databaseExecutor")
+	private Executor executor;
+
+	@Value("${app.paging.max-lines-per-page:100}")
+	private Integer maxLinesPerPage;
+
+	@QueryBudget("products-search")
 	@GetMapping
-	public ResponseEntity<Page<ProductDTO>> findAll(
+	public CompletableFuture<ResponseEntity<Page<ProductDTO>>> findAll(
 			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
 			@RequestParam(value = "name", defaultValue = "") String name,
 			@RequestParam(value = "page", defaultValue = "0") Integer page,
@@ -40,16 +58,26 @@ public class ProductResource {
 			@RequestParam(value = "orderBy", defaultValue = "name") String orderBy
 			) {
 		
+		linesPerPage = Math.max(1, Math.min(linesPerPage, maxLinesPerPage));
 		PageRequest pageRequest = PageRequest.of(page, linesPerPage, Direction.valueOf(direction), orderBy);
-			
-		Page<ProductDTO> list = service.findAllPaged(categoryId, name.trim(), pageRequest);		
-		return ResponseEntity.ok().body(list);
+		Optional<Page<ProductDTO>> snapshot = snapshotService.findProducts(categoryId, name.trim(), pageRequest);
+		if (snapshot.isPresent()) {
+			return CompletableFuture.completedFuture(ResponseEntity.ok().body(snapshot.get()));
+		}
+
+		return CompletableFuture.supplyAsync(() -> service.findAllPaged(categoryId, name.trim(), pageRequest), executor)
+				.thenApply(list -> ResponseEntity.ok().body(list));
 	}
 
+	@QueryBudget("products-find")
 	@GetMapping(value = "/{id}")
-	public ResponseEntity<ProductDTO> findById(@PathVariable Long id) {
-		ProductDTO dto = service.findById(id);
-		return ResponseEntity.ok().body(dto);
+	public CompletableFuture<ResponseEntity<ProductDTO>> findById(@PathVariable Long id) {
+		Optional<ProductDTO> snapshot = snapshotService.findProduct(id);
+		if (snapshot.isPresent()) {
+			return CompletableFuture.completedFuture(ResponseEntity.ok().body(snapshot.get()));
+		}
+		return CompletableFuture.supplyAsync(() -> service.findById(id), executor)
+				.thenApply(dto -> ResponseEntity.ok().body(dto));
 	}
 
 	@PostMapping
@@ -0,0 +1,32 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.claytoncalixto.dscatalog.dto.PriceQuantilesDTO;
+import com.claytoncalixto.dscatalog.dto.PriceStatisticsDTO;
+import com.claytoncalixto.dscatalog.services.PriceStatisticsService;
+
+@RestController
+@RequestMapping(value = "/statistics")
+public class StatisticsResource {
+
+	@Autowired
+	private PriceStatisticsService service;
+
+	@GetMapping(value = "/prices")
+	public ResponseEntity<PriceStatisticsDTO> findPrices() {
+		PriceStatisticsDTO dto = service.findAll();
+		return ResponseEntity.ok().body(dto);
+	}
+
+	@GetMapping(value = "/prices/{categoryId}")
+	public ResponseEntity<PriceQuantilesDTO> findPricesByCategory(@PathVariable Long categoryId) {
+		PriceQuantilesDTO dto = service.findByCategory(categoryId);
+		return ResponseEntity.ok().body(dto);
+	}
+}
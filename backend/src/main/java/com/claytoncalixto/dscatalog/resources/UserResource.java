@@ -1,10 +1,13 @@
 package com.claytoncalixto.dscatalog.resources;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.claytoncalixto.dscatalog.datasource.QueryBudget;
 import com.claytoncalixto.dscatalog.dto.UserDTO;
 import com.claytoncalixto.dscatalog.dto.UserInsertDTO;
 import com.claytoncalixto.dscatalog.dto.UserUpdateDTO;
@@ -29,18 +33,24 @@ public class UserResource {
 
 	@Autowired
 	private UserService service;
+	
+	@Autowired
+	@Qualifier("databaseExecutor")
+	private Executor executor;
 
+	@QueryBudget("users-search")
 	@GetMapping
-	public ResponseEntity<Page<UserDTO>> findAll(Pageable pageable) {
+	public CompletableFuture<ResponseEntity<Page<UserDTO>>> findAll(Pageable pageable) {
 			
-		Page<UserDTO> list = service.findAllPaged(pageable);		
-		return ResponseEntity.ok().body(list);
+		return CompletableFuture.supplyAsync(() -> service.findAllPaged(pageable), executor)
+				.thenApply(list -> ResponseEntity.ok().body(list));
 	}
 
+	@QueryBudget("users-find")
 	@GetMapping(value = "/{id}")
-	public ResponseEntity<UserDTO> findById(@PathVariable Long id) {
-		UserDTO dto = service.findById(id);
-		return ResponseEntity.ok().body(dto);
+	public CompletableFuture<ResponseEntity<UserDTO>> findById(@PathVariable Long id) {
+		return CompletableFuture.supplyAsync(() -> service.findById(id), executor)
+				.thenApply(dto -> ResponseEntity.ok().body(dto));
 	}
 
 	@PostMapping
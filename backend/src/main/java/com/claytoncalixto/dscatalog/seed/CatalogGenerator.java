@@ -0,0 +1,235 @@
+package com.claytoncalixto.dscatalog.seed;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * Fills the catalog tables with synthetic data through plain JDBC batches, bypassing JPA.
+ * Work is split in chunks of rows written in parallel; every chunk draws from its own
+ * Random derived from the seed and gets a fixed id range, so the same seed produces the
+ * same catalog whatever the thread scheduling. Products are spread over categories with
+ * a Zipf skew, like real catalogs where a handful of categories hold most items.
+ * Identity columns are moved past the generated ids afterwards so JPA inserts keep working.
+ */
+public class CatalogGenerator {
+
+	private static Logger logger = LoggerFactory.getLogger(CatalogGenerator.class);
+
+	/* BCrypt hash of "123456", the same password as the seeded test users */
+	private static final String PASSWORD_HASH = "$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG";
+
+	private static final String IMG_URL = "https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/%d-big.jpg";
+
+	private static final int BATCHES_PER_CHUNK = 10;
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final int threads;
+	private final int batchSize;
+	private final long seed;
+
+	private double categorySkew = 1.1;
+	private int medianDescriptionWords = 60;
+	private int maxDescriptionWords = 2000;
+
+	public CatalogGenerator(DataSource dataSource, int threads, int batchSize, long seed) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.threads = Math.max(1, threads);
+		this.batchSize = Math.max(1, batchSize);
+		this.seed = seed;
+	}
+
+	public void setCategorySkew(double categorySkew) {
+		this.categorySkew = categorySkew;
+	}
+
+	public void setMedianDescriptionWords(int medianDescriptionWords) {
+		this.medianDescriptionWords = medianDescriptionWords;
+	}
+
+	public void setMaxDescriptionWords(int maxDescriptionWords) {
+		this.maxDescriptionWords = maxDescriptionWords;
+	}
+
+	public void generate(int categories, int products, int users) {
+		if (products > 0 && categories < 1) {
+			throw new IllegalArgumentException("Products need at least one category");
+		}
+		long start = System.nanoTime();
+		long firstCategoryId = maxId("tb_category") + 1;
+		long firstProductId = maxId("tb_product") + 1;
+		long firstUserId = maxId("tb_user") + 1;
+
+		insertCategories(firstCategoryId, categories);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			int chunkSize = batchSize * BATCHES_PER_CHUNK;
+			ZipfSampler categorySampler = new ZipfSampler(categories, categorySkew);
+			for (int from = 0; from < products; from += chunkSize) {
+				int chunk = from / chunkSize;
+				int count = Math.min(chunkSize, products - from);
+				long firstId = firstProductId + from;
+				futures.add(executor.submit(() -> insertProducts(chunk, firstId, count, firstCategoryId, categorySampler)));
+			}
+			Long operatorRoleId = roleId("ROLE_OPERATOR");
+			for (int from = 0; from < users; from += chunkSize) {
+				int chunk = from / chunkSize;
+				int count = Math.min(chunkSize, users - from);
+				long firstId = firstUserId + from;
+				futures.add(executor.submit(() -> insertUsers(chunk, firstId, count, operatorRoleId)));
+			}
+			await(futures);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		restartIdentity("tb_category", firstCategoryId + categories);
+		restartIdentity("tb_product", firstProductId + products);
+		restartIdentity("tb_user", firstUserId + users);
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		logger.info("Generated " + categories + " categories, " + products + " products and " + users + " users in "
+				+ elapsed + " ms (" + threads + " threads, batches of " + batchSize + ")");
+	}
+
+	private void insertCategories(long firstId, int count) {
+		Timestamp now = Timestamp.from(Instant.now());
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String name = Vocabulary.CATEGORIES[i % Vocabulary.CATEGORIES.length];
+			if (i >= Vocabulary.CATEGORIES.length) {
+				name = name + " " + (i / Vocabulary.CATEGORIES.length + 1);
+			}
+			rows.add(new Object[] { firstId + i, name, now });
+		}
+		batch("INSERT INTO tb_category (id, name, created_at) VALUES (?, ?, ?)", rows);
+	}
+
+	private void insertProducts(int chunk, long firstId, int count, long firstCategoryId, ZipfSampler categorySampler) {
+		Random random = new Random(seed * 1_000_003L + chunk);
+		Instant now = Instant.now();
+		long dateRange = Duration.ofDays(3 * 365).getSeconds();
+		List<Object[]> products = new ArrayList<>(batchSize);
+		List<Object[]> links = new ArrayList<>(batchSize * 2);
+		for (int i = 0; i < count; i++) {
+			long id = firstId + i;
+			double price = Math.max(1.0, Math.round(Math.exp(Math.log(150.0) + 1.2 * random.nextGaussian()) * 100.0) / 100.0);
+			Timestamp date = Timestamp.from(now.minusSeconds((long) (random.nextDouble() * dateRange)));
+			products.add(new Object[] { id, Vocabulary.productName(random),
+					Vocabulary.description(random, medianDescriptionWords, maxDescriptionWords), price,
+					String.format(IMG_URL, random.nextInt(25) + 1), date });
+
+			Set<Integer> categories = new HashSet<>();
+			categories.add(categorySampler.sample(random));
+			double extra = random.nextDouble();
+			int wanted = (extra < 0.1) ? 3 : (extra < 0.35) ? 2 : 1;
+			for (int attempt = 0; categories.size() < wanted && attempt < 10; attempt++) {
+				categories.add(categorySampler.sample(random));
+			}
+			for (Integer category : categories) {
+				links.add(new Object[] { id, firstCategoryId + category });
+			}
+
+			if (products.size() == batchSize || i == count - 1) {
+				batch("INSERT INTO tb_product (id, name, description, price, img_url, date) VALUES (?, ?, ?, ?, ?, ?)", products);
+				batch("INSERT INTO tb_product_category (product_id, category_id) VALUES (?, ?)", links);
+				products.clear();
+				links.clear();
+			}
+		}
+	}
+
+	private void insertUsers(int chunk, long firstId, int count, Long roleId) {
+		Random random = new Random(seed * 1_000_003L + chunk + 0x5DEECE66DL);
+		List<Object[]> users = new ArrayList<>(batchSize);
+		List<Object[]> roles = new ArrayList<>(batchSize);
+		for (int i = 0; i < count; i++) {
+			long id = firstId + i;
+			String firstName = Vocabulary.pick(Vocabulary.FIRST_NAMES, random);
+			String lastName = Vocabulary.pick(Vocabulary.LAST_NAMES, random);
+			users.add(new Object[] { id, firstName, lastName, Vocabulary.email(firstName, lastName, id, random), PASSWORD_HASH });
+			if (roleId != null) {
+				roles.add(new Object[] { id, roleId });
+			}
+
+			if (users.size() == batchSize || i == count - 1) {
+				batch("INSERT INTO tb_user (id, first_name, last_name, email, password) VALUES (?, ?, ?, ?, ?)", users);
+				batch("INSERT INTO tb_user_role (user_id, role_id) VALUES (?, ?)", roles);
+				users.clear();
+				roles.clear();
+			}
+		}
+	}
+
+	private void batch(String sql, List<Object[]> rows) {
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, rows);
+		}
+	}
+
+	private long maxId(String table) {
+		Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+		return (max == null) ? 0L : max;
+	}
+
+	private Long roleId(String authority) {
+		List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tb_role WHERE authority = ?", Long.class, authority);
+		return ids.isEmpty() ? null : ids.get(0);
+	}
+
+	private void restartIdentity(String table, long next) {
+		if (isPostgres()) {
+			jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, 'id'), ?, false)", Long.class, table, next);
+		}
+		else {
+			jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+		}
+	}
+
+	private boolean isPostgres() {
+		try (Connection con = dataSource.getConnection()) {
+			return con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Could not read database metadata", e);
+		}
+	}
+
+	private static void await(List<Future<?>> futures) {
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Catalog generation interrupted", e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException("Catalog generation failed", e.getCause());
+		}
+	}
+}
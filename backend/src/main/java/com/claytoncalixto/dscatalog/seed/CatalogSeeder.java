@@ -0,0 +1,58 @@
+package com.claytoncalixto.dscatalog.seed;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/*
+ * Adds a synthetic catalog on startup when the seed profile is active, e.g.
+ * APP_PROFILE=test,seed SEED_PRODUCTS=1000000 java -jar dscatalog.jar
+ * With app.seed.exit=true the application stops once the data is written, which is
+ * handy to fill a persistent database from the command line.
+ */
+@Component
+@Profile("seed")
+public class CatalogSeeder implements ApplicationRunner {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Value("${app.seed.categories:30}")
+	private Integer categories;
+
+	@Value("${app.seed.products:100000}")
+	private Integer products;
+
+	@Value("${app.seed.users:10000}")
+	private Integer users;
+
+	@Value("${app.seed.threads:4}")
+	private Integer threads;
+
+	@Value("${app.seed.batch-size:500}")
+	private Integer batchSize;
+
+	@Value("${app.seed.seed:42}")
+	private Long seed;
+
+	@Value("${app.seed.exit:false}")
+	private Boolean exit;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		new CatalogGenerator(dataSource, threads, batchSize, seed).generate(categories, products, users);
+		if (exit) {
+			System.exit(SpringApplication.exit(context));
+		}
+	}
+}
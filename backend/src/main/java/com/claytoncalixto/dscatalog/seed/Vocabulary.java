@@ -0,0 +1,113 @@
+package com.claytoncalixto.dscatalog.seed;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+
+/*
+ * Word lists used to build names and descriptions that look like the real catalog:
+ * mostly Portuguese, with accents, mixed with brand and model codes.
+ */
+final class Vocabulary {
+
+	static final String[] CATEGORIES = { "Livros", "Eletrônicos", "Computadores", "Celulares", "Games",
+			"Eletrodomésticos", "Móveis", "Decoração", "Cama, Mesa e Banho", "Esporte e Lazer", "Ferramentas",
+			"Automotivo", "Brinquedos", "Bebês", "Beleza e Perfumaria", "Saúde", "Moda", "Calçados", "Relógios",
+			"Papelaria", "Instrumentos Musicais", "Jardim", "Pet Shop", "Alimentos e Bebidas", "Câmeras e Drones",
+			"Áudio", "Informática", "Utilidades Domésticas", "Construção", "Climatização" };
+
+	static final String[] PRODUCT_NOUNS = { "Smart TV", "Notebook", "Geladeira", "Fogão", "Micro-ondas",
+			"Liquidificador", "Cafeteira", "Ventilador", "Ar-condicionado", "Fone de Ouvido", "Caixa de Som",
+			"Câmera", "Relógio", "Tênis", "Mochila", "Cadeira", "Mesa", "Sofá", "Colchão", "Travesseiro", "Livro",
+			"Caderno", "Console", "Controle", "Monitor", "Teclado", "Mouse", "Impressora", "Roteador", "Tablet",
+			"Smartphone", "Furadeira", "Parafusadeira", "Bicicleta", "Patinete", "Panela", "Frigideira", "Violão",
+			"Guitarra", "Perfume", "Secador", "Aspirador", "Máquina de Lavar", "Lâmpada", "Luminária", "Edredom",
+			"Toalha", "Boneca", "Quebra-cabeça", "Ração" };
+
+	static final String[] BRANDS = { "Positivo", "Multilaser", "Tramontina", "Brastemp", "Consul", "Mondial",
+			"Britânia", "Arno", "Electrolux", "Intelbras", "Samsung", "LG", "Philco", "Dell", "Lenovo", "Acer",
+			"Asus", "Sony", "JBL", "Philips", "Oster", "Caloi", "Tilibra", "Faber-Castell", "Natura", "Boticário",
+			"Havaianas", "Olympikus", "Estrela", "Ortobom" };
+
+	static final String[] ADJECTIVES = { "Profissional", "Portátil", "Inteligente", "Premium", "Elegante",
+			"Resistente", "Sustentável", "Versátil", "Confortável", "Digital", "Infantil", "Multifuncional",
+			"Essencial", "Ultra", "Plus", "Max", "Slim", "Turbo", "Silencioso", "Compacto", "Clássico",
+			"Econômico", "Térmico", "Sem Fio", "Bivolt" };
+
+	static final String[] DESCRIPTION_WORDS = { "produto", "qualidade", "garantia", "acabamento", "ótimo",
+			"excelente", "design", "moderno", "durável", "prático", "fácil", "uso", "diário", "família", "casa",
+			"trabalho", "escritório", "viagem", "tecnologia", "função", "funções", "também", "você", "além",
+			"disso", "três", "anos", "meses", "material", "alumínio", "plástico", "aço", "inoxidável", "algodão",
+			"madeira", "tamanho", "peso", "cor", "preto", "branco", "azul", "vermelho", "cinza", "bateria",
+			"energia", "consumo", "baixo", "alto", "desempenho", "potência", "velocidade", "conexão", "Bluetooth",
+			"Wi-Fi", "USB", "tela", "resolução", "som", "imagem", "limpeza", "manutenção", "segurança", "proteção",
+			"conforto", "ergonomia", "ajustável", "regulagem", "inclui", "acompanha", "manual", "instruções",
+			"português", "embalagem", "caixa", "itens", "peças", "compatível", "modelo", "versão", "nova", "novo",
+			"ideal", "para", "com", "sem", "de", "da", "do", "em", "e", "ou", "mais", "menos", "até", "não", "é",
+			"são", "está", "ficará", "possui", "oferece", "garante", "permite", "indicado", "recomendado",
+			"avaliação", "clientes", "promoção", "distribuição", "nacional", "importado", "útil", "rápido",
+			"rápida", "saúde", "ambiente", "água", "ação", "atenção", "informações", "características" };
+
+	static final String[] FIRST_NAMES = { "João", "José", "Antônio", "Francisco", "Carlos", "Paulo", "Pedro",
+			"Lucas", "Luiz", "Marcos", "Gabriel", "Rafael", "Daniel", "Marcelo", "Bruno", "Eduardo", "Felipe",
+			"Raimundo", "Rodrigo", "Sebastião", "Maria", "Ana", "Francisca", "Antônia", "Adriana", "Juliana",
+			"Márcia", "Fernanda", "Patrícia", "Aline", "Sandra", "Camila", "Amanda", "Bruna", "Jéssica", "Letícia",
+			"Júlia", "Luciana", "Vanessa", "Mariana", "Conceição", "Inês", "Célia", "Régis", "Vitória" };
+
+	static final String[] LAST_NAMES = { "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+			"Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes",
+			"Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes",
+			"Marques", "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Araújo", "Simões",
+			"Magalhães", "Brandão", "Assunção", "Conceição", "Falcão" };
+
+	static final String[] EMAIL_DOMAINS = { "gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br",
+			"uol.com.br", "bol.com.br", "terra.com.br" };
+
+	private Vocabulary() {
+	}
+
+	static String pick(String[] words, Random random) {
+		return words[random.nextInt(words.length)];
+	}
+
+	static String productName(Random random) {
+		StringBuilder sb = new StringBuilder(pick(PRODUCT_NOUNS, random));
+		sb.append(' ').append(pick(BRANDS, random));
+		if (random.nextInt(3) > 0) {
+			sb.append(' ').append(pick(ADJECTIVES, random));
+		}
+		if (random.nextBoolean()) {
+			sb.append(' ').append((char) ('A' + random.nextInt(26))).append(random.nextInt(900) + 100);
+		}
+		return sb.toString();
+	}
+
+	/*
+	 * Word count follows a log-normal distribution: most descriptions are a short
+	 * paragraph, a few are several pages long.
+	 */
+	static String description(Random random, int medianWords, int maxWords) {
+		int words = (int) Math.round(Math.exp(Math.log(medianWords) + 0.9 * random.nextGaussian()));
+		words = Math.max(5, Math.min(words, maxWords));
+		StringBuilder sb = new StringBuilder(words * 8);
+		for (int i = 0; i < words; i++) {
+			String word = pick(DESCRIPTION_WORDS, random);
+			if (i == 0) {
+				sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+			}
+			else {
+				sb.append(' ').append(word);
+			}
+			if (i < words - 1 && random.nextInt(12) == 0) {
+				sb.append(random.nextBoolean() ? "," : ".");
+			}
+		}
+		return sb.append('.').toString();
+	}
+
+	static String email(String firstName, String lastName, long id, Random random) {
+		String local = firstName + "." + lastName + "." + id;
+		local = Normalizer.normalize(local, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+		return local + "@" + pick(EMAIL_DOMAINS, random);
+	}
+}
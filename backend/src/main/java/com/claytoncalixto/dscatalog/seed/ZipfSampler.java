@@ -0,0 +1,31 @@
+package com.claytoncalixto.dscatalog.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent, so a
+ * few ranks take most of the draws and the rest form a long tail.
+ */
+class ZipfSampler {
+
+	private final double[] cumulative;
+
+	ZipfSampler(int n, double exponent) {
+		cumulative = new double[n];
+		double sum = 0.0;
+		for (int i = 0; i < n; i++) {
+			sum += 1.0 / Math.pow(i + 1, exponent);
+			cumulative[i] = sum;
+		}
+		for (int i = 0; i < n; i++) {
+			cumulative[i] /= sum;
+		}
+	}
+
+	int sample(Random random) {
+		int index = Arrays.binarySearch(cumulative, random.nextDouble());
+		index = (index >= 0) ? index : -index - 1;
+		return Math.min(index, cumulative.length - 1);
+	}
+}
@@ -0,0 +1,135 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.claytoncalixto.dscatalog.datasource.DataSourcePools;
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+import com.claytoncalixto.dscatalog.dto.LimiterStatsDTO;
+import com.claytoncalixto.dscatalog.dto.PoolStatsDTO;
+import com.claytoncalixto.dscatalog.dto.PriceStatisticsDTO;
+import com.claytoncalixto.dscatalog.dto.SlowQueryDTO;
+import com.claytoncalixto.dscatalog.dto.SqlStatsDTO;
+import com.claytoncalixto.dscatalog.limiter.ConcurrencyLimiters;
+import com.claytoncalixto.dscatalog.metrics.SqlStatistics;
+import com.claytoncalixto.dscatalog.services.exceptions.RecordingException;
+import com.claytoncalixto.dscatalog.services.exceptions.RecordingSettingsException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+@Service
+public class AdminService {
+
+	@Autowired
+	private DataSourcePools dataSourcePools;
+
+	@Autowired
+	private ConcurrencyLimiters concurrencyLimiters;
+
+	@Autowired
+	private SqlStatistics sqlStatistics;
+
+	@Autowired
+	private CategoryStatsService categoryStatsService;
+
+	@Autowired
+	private PriceStatisticsService priceStatisticsService;
+
+	@Autowired
+	private ProductListingService productListingService;
+
+	@Autowired
+	private CatalogSnapshotService catalogSnapshotService;
+
+	@Value("${app.jfr.max-duration:300}")
+	private Integer maxJfrSeconds;
+
+	private final AtomicBoolean recording = new AtomicBoolean();
+
+	public List<PoolStatsDTO> findPoolStats() {
+		return dataSourcePools.getPools().stream().map(x -> new PoolStatsDTO(x)).collect(Collectors.toList());
+	}
+
+	public List<LimiterStatsDTO> findLimiterStats() {
+		return concurrencyLimiters.getLimiters().stream().map(x -> new LimiterStatsDTO(x)).collect(Collectors.toList());
+	}
+
+	public List<SqlStatsDTO> findSqlStats() {
+		return sqlStatistics.getEntries().stream().map(x -> new SqlStatsDTO(x)).collect(Collectors.toList());
+	}
+
+	public List<SlowQueryDTO> findSlowQueries() {
+		return sqlStatistics.getSlowSamples().stream().map(x -> new SlowQueryDTO(x)).collect(Collectors.toList());
+	}
+
+	public void resetSqlStats() {
+		sqlStatistics.reset();
+	}
+
+	public List<CategoryStatsDTO> reconcileCategoryStats() {
+		return categoryStatsService.reconcile();
+	}
+
+	public PriceStatisticsDTO rebuildPriceSketches() {
+		return priceStatisticsService.rebuildAll();
+	}
+
+	public void rebuildProductListing() {
+		productListingService.rebuildAll();
+	}
+
+	public void reloadCatalogSnapshot() {
+		catalogSnapshotService.reload();
+	}
+
+	/*
+	 * Starts a flight recording with one of the JDK settings ("default", "profile") and
+	 * completes with the dumped file once the duration has elapsed. Only one recording
+	 * runs at a time; no thread is held while it records.
+	 */
+	public CompletableFuture<Path> recordJfr(Integer seconds, String settings) {
+		if (!recording.compareAndSet(false, true)) {
+			throw new RecordingException("A recording is already running");
+		}
+		Recording jfr;
+		try {
+			jfr = new Recording(Configuration.getConfiguration(settings));
+		}
+		catch (IOException | ParseException e) {
+			recording.set(false);
+			throw new RecordingSettingsException("Unknown recording settings: " + settings);
+		}
+		jfr.setName("dscatalog-admin");
+		jfr.setToDisk(true);
+		jfr.start();
+		long duration = Math.max(1, Math.min(seconds, maxJfrSeconds));
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				jfr.stop();
+				Path file = Files.createTempFile("dscatalog-", ".jfr");
+				jfr.dump(file);
+				return file;
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			finally {
+				jfr.close();
+				recording.set(false);
+			}
+		}, CompletableFuture.delayedExecutor(duration, TimeUnit.SECONDS));
+	}
+}
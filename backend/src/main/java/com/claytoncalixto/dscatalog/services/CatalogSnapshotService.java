@@ -0,0 +1,333 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.components.CatalogSnapshot;
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.entities.Product;
+import com.claytoncalixto.dscatalog.invalidation.CacheInvalidationEvent;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationType;
+import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+
+/*
+ * Serving mode that answers catalog reads from a CatalogSnapshot held in an
+ * AtomicReference: readers take the current reference and never lock or open a
+ * connection. Disabled unless app.catalog-snapshot.enabled is set.
+ *
+ * After a product or category transaction commits, the changed row is read back and
+ * applied copy-on-write. Reads run outside the service monitor; only the latest read
+ * issued for a row may publish it, so late callbacks cannot publish an older state. A
+ * change that cannot be read back marks the snapshot stale, and requests go to the
+ * database until the next full reload. That reload runs at startup and every
+ * app.catalog-snapshot.refresh-interval to pick up writes made outside the services;
+ * rows changed while it scans are read back again before it publishes.
+ */
+@Service
+public class CatalogSnapshotService {
+
+	private static Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+	private static final int LOAD_CHUNK = 1000;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Value("${app.catalog-snapshot.enabled:false}")
+	private Boolean enabled;
+
+	private final TransactionTemplate readTemplate;
+	/* Read-write, so it runs on the primary: a replica may not have the change yet */
+	private final TransactionTemplate primaryTemplate;
+	private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+	/* Held for a whole reload, so only one scan runs at a time */
+	private final Object reloadLock = new Object();
+
+	/* Rows written while a full reload scans; guarded by this */
+	private Set<Long> touchedProducts;
+	private Set<Long> touchedCategories;
+
+	/* Row id -> number of the latest read issued for it; guarded by this */
+	private final Map<Long, Long> productReads = new HashMap<>();
+	private final Map<Long, Long> categoryReads = new HashMap<>();
+	private long reads;
+
+	private volatile boolean stale;
+
+	public CatalogSnapshotService(PlatformTransactionManager transactionManager) {
+		readTemplate = new TransactionTemplate(transactionManager);
+		readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		readTemplate.setReadOnly(true);
+		primaryTemplate = new TransactionTemplate(transactionManager);
+		primaryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public boolean isServing() {
+		return serving() != null;
+	}
+
+	public CatalogSnapshot getSnapshot() {
+		return snapshot.get();
+	}
+
+	public Optional<Page<ProductDTO>> findProducts(Long categoryId, String name, Pageable pageable) {
+		CatalogSnapshot current = serving();
+		return (current != null) ? current.findProducts(categoryId, name, pageable) : Optional.empty();
+	}
+
+	/* Empty when not serving or on a miss: the database then answers, 404 included */
+	public Optional<ProductDTO> findProduct(Long id) {
+		CatalogSnapshot current = serving();
+		return (current != null) ? Optional.ofNullable(current.findProduct(id)) : Optional.empty();
+	}
+
+	public Optional<Page<CategoryDTO>> findCategories(Pageable pageable) {
+		CatalogSnapshot current = serving();
+		return (current != null) ? current.findCategories(pageable) : Optional.empty();
+	}
+
+	public Optional<CategoryDTO> findCategory(Long id) {
+		CatalogSnapshot current = serving();
+		return (current != null) ? Optional.ofNullable(current.findCategory(id)) : Optional.empty();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductWrite(ProductWriteEvent event) {
+		if (enabled) {
+			applyProducts(Set.of(event.getId()));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryWrite(CategoryWriteEvent event) {
+		if (enabled) {
+			applyCategories(Set.of(event.getId()));
+		}
+	}
+
+	/* Rows changed on another instance */
+	@EventListener
+	public void onInvalidation(CacheInvalidationEvent event) {
+		if (!enabled) {
+			return;
+		}
+		if (event.getType() == InvalidationType.PRODUCT) {
+			applyProducts(event.getIds());
+		}
+		else if (event.getType() == InvalidationType.CATEGORY) {
+			applyCategories(event.getIds());
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${app.catalog-snapshot.refresh-interval:600000}",
+			initialDelayString = "${app.catalog-snapshot.refresh-interval:600000}")
+	public void scheduledReload() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	public CatalogSnapshot reload() {
+		synchronized (reloadLock) {
+			return load();
+		}
+	}
+
+	private CatalogSnapshot load() {
+		long start = System.nanoTime();
+		synchronized (this) {
+			touchedProducts = new HashSet<>();
+			touchedCategories = new HashSet<>();
+		}
+		CatalogSnapshot built;
+		try {
+			List<CategoryDTO> categories = readTemplate.execute(status ->
+					categoryRepository.findAll().stream().map(x -> new CategoryDTO(x)).collect(Collectors.toList()));
+			List<ProductDTO> products = new ArrayList<>();
+			Long after = 0L;
+			while (true) {
+				Long from = after;
+				List<ProductDTO> chunk = readTemplate.execute(status -> {
+					List<Long> ids = productRepository.findIdsAfter(from, PageRequest.of(0, LOAD_CHUNK));
+					return ids.isEmpty() ? List.<ProductDTO>of() : toDto(productRepository.findWithCategoriesByIds(ids));
+				});
+				if (chunk.isEmpty()) {
+					break;
+				}
+				products.addAll(chunk);
+				after = chunk.stream().mapToLong(ProductDTO::getId).max().getAsLong();
+			}
+			built = CatalogSnapshot.build(0L, categories, products);
+
+			/* Re-read rows written during the scan until none are left, then publish */
+			while (true) {
+				Set<Long> pendingProducts;
+				Set<Long> pendingCategories;
+				synchronized (this) {
+					pendingProducts = touchedProducts;
+					pendingCategories = touchedCategories;
+					if (pendingProducts.isEmpty() && pendingCategories.isEmpty()) {
+						/* Follows whatever was applied meanwhile, so versions never go backwards */
+						CatalogSnapshot current = snapshot.get();
+						built = built.withVersion(current == null ? 1L : current.getVersion() + 1);
+						snapshot.set(built);
+						stale = false;
+						break;
+					}
+					touchedProducts = new HashSet<>();
+					touchedCategories = new HashSet<>();
+				}
+				built = withCategories(built, pendingCategories, readCategories(pendingCategories));
+				built = withProducts(built, pendingProducts, readProducts(pendingProducts));
+			}
+		}
+		finally {
+			synchronized (this) {
+				touchedProducts = null;
+				touchedCategories = null;
+			}
+		}
+		logger.info("Catalog snapshot " + built.getVersion() + " loaded with " + built.getProductCount() + " products and "
+				+ built.getCategoryCount() + " categories in " + (System.nanoTime() - start) / 1_000_000L + " ms");
+		return built;
+	}
+
+	private void applyProducts(Set<Long> ids) {
+		long read;
+		synchronized (this) {
+			if (touchedProducts != null) {
+				touchedProducts.addAll(ids);
+			}
+			read = ++reads;
+			ids.forEach(x -> productReads.put(x, read));
+		}
+		List<ProductDTO> fresh = null;
+		try {
+			fresh = readProducts(ids);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Catalog snapshot could not read products " + ids + "; serving from the database until the next reload", e);
+		}
+		synchronized (this) {
+			Set<Long> latest = ids.stream().filter(x -> productReads.remove(x, read)).collect(Collectors.toSet());
+			if (fresh == null) {
+				stale = true;
+			}
+			else if (snapshot.get() != null) {
+				snapshot.set(withProducts(snapshot.get(), latest, fresh));
+			}
+		}
+	}
+
+	private void applyCategories(Set<Long> ids) {
+		long read;
+		synchronized (this) {
+			if (touchedCategories != null) {
+				touchedCategories.addAll(ids);
+			}
+			read = ++reads;
+			ids.forEach(x -> categoryReads.put(x, read));
+		}
+		List<CategoryDTO> fresh = null;
+		try {
+			fresh = readCategories(ids);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Catalog snapshot could not read categories " + ids + "; serving from the database until the next reload", e);
+		}
+		synchronized (this) {
+			Set<Long> latest = ids.stream().filter(x -> categoryReads.remove(x, read)).collect(Collectors.toSet());
+			if (fresh == null) {
+				stale = true;
+			}
+			else if (snapshot.get() != null) {
+				snapshot.set(withCategories(snapshot.get(), latest, fresh));
+			}
+		}
+	}
+
+	private List<ProductDTO> readProducts(Set<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return primaryTemplate.execute(status -> toDto(productRepository.findWithCategoriesByIds(ids)));
+	}
+
+	private List<CategoryDTO> readCategories(Set<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return primaryTemplate.execute(status ->
+				categoryRepository.findAllById(ids).stream().map(x -> new CategoryDTO(x)).collect(Collectors.toList()));
+	}
+
+	/*
+	 * Category names embedded in the products are taken from base: a rename read later
+	 * than base is published by its own category change, which rewrites them.
+	 */
+	private static CatalogSnapshot withProducts(CatalogSnapshot base, Set<Long> ids, List<ProductDTO> fresh) {
+		Map<Long, ProductDTO> byId = fresh.stream().collect(Collectors.toMap(ProductDTO::getId, x -> x));
+		/* A null value removes the product, which Collectors.toMap would reject */
+		Map<Long, ProductDTO> changes = new HashMap<>();
+		for (Long id : ids) {
+			ProductDTO dto = byId.get(id);
+			if (dto != null) {
+				dto.getCategories().replaceAll(x -> {
+					CategoryDTO category = base.findCategory(x.getId());
+					return (category == null) ? x : new CategoryDTO(x.getId(), category.getName());
+				});
+			}
+			changes.put(id, dto);
+		}
+		return base.withProducts(changes);
+	}
+
+	private static CatalogSnapshot withCategories(CatalogSnapshot base, Set<Long> ids, List<CategoryDTO> fresh) {
+		Map<Long, CategoryDTO> byId = fresh.stream().collect(Collectors.toMap(CategoryDTO::getId, x -> x));
+		CatalogSnapshot result = base;
+		for (Long id : ids) {
+			result = result.withCategory(id, byId.get(id));
+		}
+		return result;
+	}
+
+	private CatalogSnapshot serving() {
+		return (enabled && !stale) ? snapshot.get() : null;
+	}
+
+	private static List<ProductDTO> toDto(List<Product> list) {
+		return list.stream().map(x -> new ProductDTO(x, x.getCategories())).collect(Collectors.toList());
+	}
+}
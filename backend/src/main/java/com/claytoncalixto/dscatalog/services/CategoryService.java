@@ -5,6 +5,7 @@ import java.util.Optional;
 import javax.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -12,9 +13,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.claytoncalixto.dscatalog.datasource.HedgedRead;
+import com.claytoncalixto.dscatalog.datasource.Workload;
+import com.claytoncalixto.dscatalog.datasource.WorkloadPool;
 import com.claytoncalixto.dscatalog.dto.CategoryDTO;
 import com.claytoncalixto.dscatalog.entities.Category;
 import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
 import com.claytoncalixto.dscatalog.services.exceptions.DatabaseException;
 import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
 
@@ -24,12 +30,19 @@ public class CategoryService {
 	@Autowired
 	private CategoryRepository repository;
 
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@WorkloadPool(Workload.SEARCH)
+	@HedgedRead
 	@Transactional(readOnly = true)
 	public Page<CategoryDTO> findAllPaged(Pageable pageable){
 		Page<Category> list = repository.findAll(pageable);	
 		return list.map(x -> new CategoryDTO(x));		
 	}
 
+	@WorkloadPool(Workload.SEARCH)
+	@HedgedRead
 	@Transactional(readOnly = true)
 	public CategoryDTO findById(Long id) {
 		Optional<Category> obj = repository.findById(id);
@@ -37,29 +50,39 @@ public class CategoryService {
 		return new CategoryDTO(entity);
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public CategoryDTO insert(CategoryDTO dto) {
 		Category entity = new Category();
 		entity.setName(dto.getName());
 		entity = repository.save(entity);
+		publisher.publishEvent(new CategoryWriteEvent(ChangeOperation.CREATED, entity.getId(), entity.getVersion()));
 		return new CategoryDTO(entity);
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public CategoryDTO update(Long id, CategoryDTO dto) {
 		try {
 		Category entity =  repository.getOne(id);
 		entity.setName(dto.getName());
 		entity = repository.save(entity);
+		repository.flush();
+		publisher.publishEvent(new CategoryWriteEvent(ChangeOperation.UPDATED, id, entity.getVersion()));
 		return new CategoryDTO(entity);
 		} catch (EntityNotFoundException e){
 			throw new ResourceNotFoundException("Id not found " + id);
 		}
 	}
 
+	@WorkloadPool(Workload.WRITE)
+	@Transactional
 	public void  delete(Long id) {
 		try {
+		Optional<Category> obj = repository.findById(id);
 		repository.deleteById(id);
+		repository.flush();
+		obj.ifPresent(x -> publisher.publishEvent(new CategoryWriteEvent(ChangeOperation.DELETED, id, x.getVersion())));
 		} catch (EmptyResultDataAccessException e ) {
 			throw new ResourceNotFoundException("Id not found "  + id);
 		} catch (DataIntegrityViolationException e) {
@@ -0,0 +1,249 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.components.CategoryStatsView;
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+import com.claytoncalixto.dscatalog.entities.CategoryStats;
+import com.claytoncalixto.dscatalog.invalidation.CacheInvalidationEvent;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationType;
+import com.claytoncalixto.dscatalog.repositories.CategoryStatsRepository;
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+
+/*
+ * Keeps tb_category_stats in step with product writes by applying deltas in the same
+ * transaction, and serves reads from CategoryStatsView without touching the database.
+ * Counts and sums are adjusted with atomic UPDATEs; min/max are only recomputed when a
+ * removed price was one of the extremes. A periodic reconciliation compares every row
+ * with a GROUP BY and repairs the ones that drifted, e.g. after writes that bypassed
+ * ProductService.
+ */
+@Service
+public class CategoryStatsService {
+
+	private static Logger logger = LoggerFactory.getLogger(CategoryStatsService.class);
+
+	@Autowired
+	private CategoryStatsRepository repository;
+
+	@Autowired
+	private CategoryStatsView view;
+
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readTemplate;
+
+	public CategoryStatsService(PlatformTransactionManager transactionManager) {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		readTemplate = new TransactionTemplate(transactionManager);
+		readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		readTemplate.setReadOnly(true);
+	}
+
+	public List<CategoryStatsDTO> findAll() {
+		return view.findAll();
+	}
+
+	public CategoryStatsDTO findById(Long categoryId) {
+		CategoryStatsDTO dto = view.findById(categoryId);
+		if (dto == null) {
+			throw new ResourceNotFoundException("Entity not found");
+		}
+		return dto;
+	}
+
+	/*
+	 * Applies the difference between the previous and the new state of a product. Runs in
+	 * the product transaction, which has flushed the product changes already.
+	 */
+	@EventListener
+	@Transactional
+	public void onProductWrite(ProductWriteEvent event) {
+		Collection<Long> oldCategoryIds = event.getOldCategoryIds();
+		Collection<Long> newCategoryIds = event.getNewCategoryIds();
+		Double oldPrice = event.getOldPrice();
+		Double newPrice = event.getNewPrice();
+		Instant now = Instant.now();
+		boolean priceChanged = !Objects.equals(oldPrice, newPrice);
+		Set<Long> touched = new HashSet<>();
+		for (Long categoryId : oldCategoryIds) {
+			if (priceChanged || !newCategoryIds.contains(categoryId)) {
+				remove(categoryId, oldPrice, now);
+				touched.add(categoryId);
+			}
+		}
+		for (Long categoryId : newCategoryIds) {
+			if (priceChanged || !oldCategoryIds.contains(categoryId)) {
+				add(categoryId, newPrice, now);
+				touched.add(categoryId);
+			}
+		}
+		refreshAfterCommit(touched);
+	}
+
+	@EventListener
+	@Transactional
+	public void onCategoryWrite(CategoryWriteEvent event) {
+		if (event.getOperation() == ChangeOperation.CREATED) {
+			onCategoryInserted(event.getId());
+		}
+		else if (event.getOperation() == ChangeOperation.DELETED) {
+			onCategoryDeleted(event.getId());
+		}
+	}
+
+	private void onCategoryInserted(Long categoryId) {
+		repository.save(new CategoryStats(categoryId, 0L, 0L, 0.0, null, null));
+		refreshAfterCommit(Set.of(categoryId));
+	}
+
+	private void onCategoryDeleted(Long categoryId) {
+		repository.findById(categoryId).ifPresent(x -> repository.delete(x));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					view.remove(categoryId);
+				}
+			});
+		}
+		else {
+			view.remove(categoryId);
+		}
+	}
+
+	/* Stats rows written by another instance, by product writes or category inserts and deletes */
+	@EventListener
+	public void onInvalidation(CacheInvalidationEvent event) {
+		if (event.getType() != InvalidationType.CATEGORY && event.getType() != InvalidationType.CATEGORY_AGGREGATES) {
+			return;
+		}
+		/* Read-write, so it runs on the primary: a replica may not have the change yet */
+		List<CategoryStatsDTO> list = transactionTemplate.execute(status -> toDto(repository.findAllById(event.getIds())));
+		view.put(list);
+		event.getIds().stream()
+				.filter(id -> list.stream().noneMatch(x -> id.equals(x.getCategoryId())))
+				.forEach(view::remove);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${app.category-stats.reconcile-interval:600000}",
+			initialDelayString = "${app.category-stats.reconcile-interval:600000}")
+	public void scheduledReconcile() {
+		reconcile();
+	}
+
+	/*
+	 * Finds drifted rows without locks, then recomputes just those under a row lock: a
+	 * concurrent writer either commits before the lock and is included in the recount, or
+	 * applies its delta on top of the repaired row afterwards. Returns the repaired rows.
+	 */
+	public List<CategoryStatsDTO> reconcile() {
+		Set<Long> orphans = new HashSet<>();
+		Set<Long> drifted = readTemplate.execute(status -> {
+			Map<Long, CategoryStats> current = byId(repository.findAll());
+			Map<Long, CategoryStats> expected = byId(repository.aggregateAll());
+			orphans.addAll(current.keySet());
+			orphans.removeAll(expected.keySet());
+			return expected.values().stream()
+					.filter(x -> !current.containsKey(x.getCategoryId()) || !current.get(x.getCategoryId()).hasSameValues(x))
+					.map(CategoryStats::getCategoryId)
+					.collect(Collectors.toSet());
+		});
+
+		List<CategoryStatsDTO> repaired = new ArrayList<>();
+		if (!drifted.isEmpty() || !orphans.isEmpty()) {
+			transactionTemplate.executeWithoutResult(status -> {
+				Map<Long, CategoryStats> locked = drifted.isEmpty() ? Map.of() : byId(repository.findAllForUpdate(drifted));
+				for (CategoryStats fresh : drifted.isEmpty() ? List.<CategoryStats>of() : repository.aggregate(drifted)) {
+					CategoryStats row = locked.get(fresh.getCategoryId());
+					if (row == null) {
+						repaired.add(new CategoryStatsDTO(repository.save(fresh)));
+					}
+					else if (!row.hasSameValues(fresh)) {
+						row.copyValues(fresh);
+						repaired.add(new CategoryStatsDTO(row));
+					}
+				}
+				orphans.forEach(x -> repository.deleteById(x));
+			});
+		}
+		if (!repaired.isEmpty() || !orphans.isEmpty()) {
+			logger.warn("Category stats reconciled: " + repaired.size() + " repaired, " + orphans.size() + " orphans removed");
+		}
+		view.replaceAll(readTemplate.execute(status -> toDto(repository.findAll())));
+		return repaired;
+	}
+
+	private void add(Long categoryId, Double price, Instant now) {
+		int updated = (price == null) ? repository.addUnpriced(categoryId, 1L, now) : repository.addPriced(categoryId, price, now);
+		if (updated == 0) {
+			/* Category created outside CategoryService: start from a full count, which already includes this product */
+			repository.aggregate(Set.of(categoryId)).forEach(x -> repository.save(x));
+		}
+	}
+
+	private void remove(Long categoryId, Double price, Instant now) {
+		if (price == null) {
+			repository.addUnpriced(categoryId, -1L, now);
+		}
+		else {
+			repository.removePriced(categoryId, price, now);
+		}
+	}
+
+	private void refreshAfterCommit(Set<Long> categoryIds) {
+		if (categoryIds.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					refresh(categoryIds);
+				}
+			});
+		}
+		else {
+			refresh(categoryIds);
+		}
+	}
+
+	private void refresh(Set<Long> categoryIds) {
+		view.put(transactionTemplate.execute(status -> toDto(repository.findAllById(categoryIds))));
+	}
+
+	private static Map<Long, CategoryStats> byId(List<CategoryStats> list) {
+		return list.stream().collect(Collectors.toMap(CategoryStats::getCategoryId, Function.identity()));
+	}
+
+	private static List<CategoryStatsDTO> toDto(List<CategoryStats> list) {
+		return list.stream().map(x -> new CategoryStatsDTO(x)).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,42 @@
+package com.claytoncalixto.dscatalog.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.claytoncalixto.dscatalog.entities.OutboxEvent;
+import com.claytoncalixto.dscatalog.outbox.ChangedEntity;
+import com.claytoncalixto.dscatalog.repositories.OutboxEventRepository;
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+
+/*
+ * Writes change events into tb_outbox_event. Must join the transaction of the catalog
+ * write, so the event exists if and only if the change committed.
+ */
+@Service
+public class OutboxService {
+
+	@Autowired
+	private OutboxEventRepository repository;
+
+	@EventListener
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void onProductWrite(ProductWriteEvent event) {
+		record(ChangedEntity.PRODUCT, event.getId(), event.getVersion(), event.getOperation());
+	}
+
+	@EventListener
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void onCategoryWrite(CategoryWriteEvent event) {
+		record(ChangedEntity.CATEGORY, event.getId(), event.getVersion(), event.getOperation());
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(ChangedEntity entity, Long entityId, Long entityVersion, ChangeOperation operation) {
+		repository.save(new OutboxEvent(entity, entityId, entityVersion, operation));
+	}
+}
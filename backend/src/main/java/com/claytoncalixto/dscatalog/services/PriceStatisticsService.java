@@ -0,0 +1,215 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.components.KllSketch;
+import com.claytoncalixto.dscatalog.components.PriceSketches;
+import com.claytoncalixto.dscatalog.dto.PriceQuantilesDTO;
+import com.claytoncalixto.dscatalog.dto.PriceStatisticsDTO;
+import com.claytoncalixto.dscatalog.invalidation.CacheInvalidationEvent;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationType;
+import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+
+/*
+ * Price percentiles per category and for the whole catalog, answered from KLL sketches
+ * of bounded size instead of sorting tb_product. New prices are added after the product
+ * transaction commits; removed prices mark the sketch stale and the scheduled refresh
+ * rebuilds only those sketches. A full rebuild runs at startup and on demand.
+ *
+ * The OVERALL sketch can only be rebuilt by scanning every price: sketches cannot drop a
+ * value, and a PRODUCT invalidation from another instance carries ids but not the old
+ * prices, so there is nothing to apply incrementally. With writes on every instance it
+ * would be stale at nearly every refresh, so its scan runs at most once per
+ * app.price-sketches.overall-rebuild-interval and it is served as stale in between.
+ */
+@Service
+public class PriceStatisticsService {
+
+	private static Logger logger = LoggerFactory.getLogger(PriceStatisticsService.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriceSketches sketches;
+
+	@Value("${app.price-sketches.overall-rebuild-interval:300000}")
+	private Long overallRebuildInterval;
+
+	private volatile long lastOverallRebuild;
+
+	private final TransactionTemplate readTemplate;
+
+	public PriceStatisticsService(PlatformTransactionManager transactionManager) {
+		readTemplate = new TransactionTemplate(transactionManager);
+		readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		readTemplate.setReadOnly(true);
+	}
+
+	public PriceStatisticsDTO findAll() {
+		List<PriceQuantilesDTO> categories = sketches.getCategories().entrySet().stream()
+				.map(x -> new PriceQuantilesDTO(x.getKey(), x.getValue(), sketches.isStale(x.getKey())))
+				.collect(Collectors.toList());
+		return new PriceStatisticsDTO(overall(), categories);
+	}
+
+	public PriceQuantilesDTO findByCategory(Long categoryId) {
+		KllSketch sketch = sketches.get(categoryId);
+		if (sketch == null && (PriceSketches.OVERALL.equals(categoryId) || !categoryRepository.existsById(categoryId))) {
+			throw new ResourceNotFoundException("Entity not found");
+		}
+		return new PriceQuantilesDTO(categoryId, sketch, sketches.isStale(categoryId));
+	}
+
+	/*
+	 * Runs inside the product transaction so the ticket is taken before it commits; the
+	 * sketches change only once it has.
+	 */
+	@EventListener
+	public void onProductWrite(ProductWriteEvent event) {
+		Collection<Long> oldCategoryIds = event.getOldCategoryIds();
+		Collection<Long> newCategoryIds = event.getNewCategoryIds();
+		Double oldPrice = event.getOldPrice();
+		Double newPrice = event.getNewPrice();
+		boolean priceChanged = !Objects.equals(oldPrice, newPrice);
+		Set<Long> removed = new HashSet<>();
+		Set<Long> added = new HashSet<>();
+		if (oldPrice != null) {
+			oldCategoryIds.stream().filter(x -> priceChanged || !newCategoryIds.contains(x)).forEach(removed::add);
+			if (priceChanged) {
+				removed.add(PriceSketches.OVERALL);
+			}
+		}
+		if (newPrice != null) {
+			newCategoryIds.stream().filter(x -> priceChanged || !oldCategoryIds.contains(x)).forEach(added::add);
+			if (priceChanged) {
+				added.add(PriceSketches.OVERALL);
+			}
+		}
+		if (removed.isEmpty() && added.isEmpty()) {
+			return;
+		}
+		long ticket = sketches.nextTicket();
+		Runnable apply = () -> {
+			sketches.invalidate(removed);
+			if (!added.isEmpty()) {
+				sketches.add(ticket, added, newPrice);
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		}
+		else {
+			apply.run();
+		}
+	}
+
+	/* Prices changed on another instance; the scheduled refresh rebuilds these sketches */
+	@EventListener
+	public void onInvalidation(CacheInvalidationEvent event) {
+		if (event.getType() == InvalidationType.PRODUCT) {
+			sketches.invalidate(Set.of(PriceSketches.OVERALL));
+		}
+		else if (event.getType() == InvalidationType.CATEGORY_AGGREGATES) {
+			sketches.invalidate(event.getIds());
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		rebuildAll();
+	}
+
+	public PriceStatisticsDTO rebuildAll() {
+		long start = sketches.beginRebuild();
+		long begin = System.nanoTime();
+		Map<Long, KllSketch> rebuilt = readTemplate.execute(status -> {
+			Map<Long, KllSketch> map = scanCategories(productRepository.streamCategoryPrices());
+			map.put(PriceSketches.OVERALL, scanOverall());
+			return map;
+		});
+		Set<Long> keys = new HashSet<>(sketches.getKeys());
+		keys.addAll(rebuilt.keySet());
+		sketches.install(start, keys, rebuilt);
+		logger.info("Price sketches rebuilt for " + (rebuilt.size() - 1) + " categories in "
+				+ (System.nanoTime() - begin) / 1_000_000L + " ms");
+		return findAll();
+	}
+
+	@Scheduled(fixedDelayString = "${app.price-sketches.refresh-interval:60000}",
+			initialDelayString = "${app.price-sketches.refresh-interval:60000}")
+	public void rebuildStale() {
+		Set<Long> keys = new HashSet<>(sketches.getStale());
+		if (System.currentTimeMillis() - lastOverallRebuild < overallRebuildInterval) {
+			keys.remove(PriceSketches.OVERALL);
+		}
+		if (keys.isEmpty()) {
+			return;
+		}
+		long start = sketches.beginRebuild();
+		Set<Long> categoryIds = keys.stream().filter(x -> !PriceSketches.OVERALL.equals(x)).collect(Collectors.toSet());
+		Map<Long, KllSketch> rebuilt = readTemplate.execute(status -> {
+			Map<Long, KllSketch> map = categoryIds.isEmpty() ? new HashMap<>()
+					: scanCategories(productRepository.streamCategoryPrices(categoryIds));
+			if (keys.contains(PriceSketches.OVERALL)) {
+				map.put(PriceSketches.OVERALL, scanOverall());
+			}
+			return map;
+		});
+		sketches.install(start, keys, rebuilt);
+	}
+
+	private PriceQuantilesDTO overall() {
+		return new PriceQuantilesDTO(null, sketches.get(PriceSketches.OVERALL), sketches.isStale(PriceSketches.OVERALL));
+	}
+
+	private Map<Long, KllSketch> scanCategories(Stream<Object[]> rows) {
+		Map<Long, KllSketch> map = new HashMap<>();
+		try (rows) {
+			rows.forEach(row -> map.computeIfAbsent((Long) row[0], x -> sketches.newSketch()).update((Double) row[1]));
+		}
+		return map;
+	}
+
+	private KllSketch scanOverall() {
+		lastOverallRebuild = System.currentTimeMillis();
+		KllSketch sketch = sketches.newSketch();
+		try (Stream<Double> prices = productRepository.streamPrices()) {
+			prices.forEach(sketch::update);
+		}
+		return sketch;
+	}
+}
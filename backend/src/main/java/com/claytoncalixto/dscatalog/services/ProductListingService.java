@@ -0,0 +1,208 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.entities.Product;
+import com.claytoncalixto.dscatalog.entities.ProductListing;
+import com.claytoncalixto.dscatalog.entities.ProductListingPK;
+import com.claytoncalixto.dscatalog.repositories.ProductListingRepository;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.services.events.CategoryWriteEvent;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Maintains tb_product_listing, the denormalized read model behind GET /products, in the
+ * same transaction as the product and category writes, and serves pages from it. The
+ * listing is checked against the catalog at startup and rebuilt when the row counts
+ * differ, e.g. after bulk JDBC loads; until then, or when app.product-listing.enabled is
+ * false, ProductService keeps using the normalized join.
+ */
+@Service
+public class ProductListingService {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductListingService.class);
+
+	private static final Long ALL_CATEGORIES = 0L;
+	private static final int REBUILD_CHUNK = 500;
+	private static final TypeReference<List<CategoryDTO>> CATEGORY_LIST = new TypeReference<List<CategoryDTO>>() {};
+
+	@Autowired
+	private ProductListingRepository repository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${app.product-listing.enabled:true}")
+	private Boolean enabled;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private volatile boolean ready;
+
+	public ProductListingService(PlatformTransactionManager transactionManager) {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	@Transactional(readOnly = true)
+	public Page<ProductDTO> findAllPaged(Long categoryId, String name, Pageable pageable) {
+		Page<ProductListing> page = name.isEmpty() ? repository.findByCategory(categoryId, pageable)
+				: repository.find(categoryId, name, pageable);
+		return page.map(x -> toDto(x));
+	}
+
+	/* Brings the rows of the given products in line with their current state */
+	@Transactional
+	public void sync(Collection<Product> products) {
+		if (products.isEmpty()) {
+			return;
+		}
+		Map<ProductListingPK, ProductListing> existing = repository.findByProductIds(
+				products.stream().map(Product::getId).collect(Collectors.toList())).stream()
+				.collect(Collectors.toMap(ProductListing::getId, Function.identity()));
+		List<ProductListing> created = new ArrayList<>();
+		for (Product product : products) {
+			String categories = categoriesJson(product);
+			List<Long> keys = new ArrayList<>();
+			keys.add(ALL_CATEGORIES);
+			product.getCategories().forEach(x -> keys.add(x.getId()));
+			for (Long key : keys) {
+				ProductListingPK id = new ProductListingPK(key, product.getId());
+				ProductListing row = existing.remove(id);
+				if (row == null) {
+					row = new ProductListing(id);
+					created.add(row);
+				}
+				row.copy(product, categories);
+			}
+		}
+		repository.saveAll(created);
+		repository.deleteAll(existing.values());
+	}
+
+	/* Runs in the product transaction, so the rows change with the product */
+	@EventListener
+	@Transactional
+	public void onProductWrite(ProductWriteEvent event) {
+		if (event.getOperation() == ChangeOperation.DELETED) {
+			repository.deleteByProductId(event.getId());
+		}
+		else {
+			sync(List.of(event.getProduct()));
+		}
+	}
+
+	/* Category names are embedded in every row of their products */
+	@EventListener
+	@Transactional
+	public void onCategoryWrite(CategoryWriteEvent event) {
+		if (event.getOperation() != ChangeOperation.UPDATED) {
+			return;
+		}
+		List<Long> ids = repository.findProductIdsByCategory(event.getId());
+		for (int from = 0; from < ids.size(); from += REBUILD_CHUNK) {
+			sync(productRepository.findWithCategoriesByIds(ids.subList(from, Math.min(ids.size(), from + REBUILD_CHUNK))));
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void verify() {
+		long expected = productRepository.count() + repository.countProductCategories();
+		long actual = repository.count();
+		if (expected != actual) {
+			logger.warn("Product listing has " + actual + " rows, expected " + expected + "; rebuilding");
+			rebuildAll();
+		}
+		ready = true;
+	}
+
+	/*
+	 * Re-syncs every product in chunks of their own transactions. Reads fall back to the
+	 * join meanwhile; concurrent writes are safe because sync only reconciles rows.
+	 */
+	public void rebuildAll() {
+		ready = false;
+		long start = System.nanoTime();
+		int count = 0;
+		transactionTemplate.executeWithoutResult(status -> repository.deleteOrphans());
+		Long after = 0L;
+		while (true) {
+			Long from = after;
+			List<Long> ids = transactionTemplate.execute(status -> {
+				List<Long> chunk = productRepository.findIdsAfter(from, PageRequest.of(0, REBUILD_CHUNK));
+				if (!chunk.isEmpty()) {
+					sync(productRepository.findWithCategoriesByIds(chunk));
+				}
+				return chunk;
+			});
+			if (ids.isEmpty()) {
+				break;
+			}
+			count += ids.size();
+			after = ids.get(ids.size() - 1);
+		}
+		ready = true;
+		logger.info("Product listing rebuilt for " + count + " products in " + (System.nanoTime() - start) / 1_000_000L + " ms");
+	}
+
+	private ProductDTO toDto(ProductListing row) {
+		ProductDTO dto = new ProductDTO(row.getId().getProductId(), row.getName(), row.getDescription(), row.getPrice(),
+				row.getImgUrl(), row.getDate());
+		if (row.getCategories() != null) {
+			try {
+				dto.getCategories().addAll(objectMapper.readValue(row.getCategories(), CATEGORY_LIST));
+			}
+			catch (JsonProcessingException e) {
+				throw new IllegalStateException("Unreadable categories in listing of product " + row.getId().getProductId(), e);
+			}
+		}
+		return dto;
+	}
+
+	private String categoriesJson(Product product) {
+		List<CategoryDTO> list = product.getCategories().stream()
+				.map(x -> new CategoryDTO(x))
+				.sorted(Comparator.comparing(CategoryDTO::getId))
+				.collect(Collectors.toList());
+		try {
+			return objectMapper.writeValueAsString(list);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not write categories of product " + product.getId(), e);
+		}
+	}
+}
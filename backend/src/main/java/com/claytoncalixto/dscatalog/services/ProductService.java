@@ -3,10 +3,13 @@ package com.claytoncalixto.dscatalog.services;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -14,12 +17,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.claytoncalixto.dscatalog.datasource.HedgedRead;
+import com.claytoncalixto.dscatalog.datasource.Workload;
+import com.claytoncalixto.dscatalog.datasource.WorkloadPool;
 import com.claytoncalixto.dscatalog.dto.CategoryDTO;
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
 import com.claytoncalixto.dscatalog.entities.Category;
 import com.claytoncalixto.dscatalog.entities.Product;
 import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
 import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.services.events.ChangeOperation;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
 import com.claytoncalixto.dscatalog.services.exceptions.DatabaseException;
 import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
 
@@ -32,14 +40,27 @@ public class ProductService {
 	@Autowired
 	private CategoryRepository categoryRepository;
 
+	@Autowired
+	private ProductListingService listingService;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@WorkloadPool(Workload.SEARCH)
+	@HedgedRead
 	@Transactional(readOnly = true)
 	public Page<ProductDTO> findAllPaged(Long categoryId, String name, Pageable pageable){
+		if (listingService.isReady()) {
+			return listingService.findAllPaged(categoryId, name, pageable);
+		}
 		List<Category> categories = (categoryId == 0) ? null : Arrays.asList(categoryRepository.getOne(categoryId));
 		Page<Product> page = repository.find(categories, name, pageable);	
 		repository.findProductsWithCategories(page.getContent());
 		return page.map(x -> new ProductDTO(x, x.getCategories()));		
 	}
 
+	@WorkloadPool(Workload.SEARCH)
+	@HedgedRead
 	@Transactional(readOnly = true)
 	public ProductDTO findById(Long id) {
 		Optional<Product> obj = repository.findById(id);
@@ -47,30 +68,47 @@ public class ProductService {
 		return new ProductDTO(entity, entity.getCategories());
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public ProductDTO insert(ProductDTO dto) {
 		Product entity = new Product();
 		copyDtoToEntity(dto, entity);
 		entity = repository.save(entity);
+		repository.flush();
+		publisher.publishEvent(new ProductWriteEvent(ChangeOperation.CREATED, entity.getId(), entity.getVersion(), entity,
+				Set.of(), null, categoryIds(entity), entity.getPrice()));
 		return new ProductDTO(entity);
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public ProductDTO update(Long id, ProductDTO dto) {
 		try {
 		Product entity =  repository.getOne(id);
+		Set<Long> oldCategoryIds = categoryIds(entity);
+		Double oldPrice = entity.getPrice();
 		copyDtoToEntity(dto, entity);
 		//entity.setName(dto.getName());
 		entity = repository.save(entity);
+		repository.flush();
+		publisher.publishEvent(new ProductWriteEvent(ChangeOperation.UPDATED, entity.getId(), entity.getVersion(), entity,
+				oldCategoryIds, oldPrice, categoryIds(entity), entity.getPrice()));
 		return new ProductDTO(entity);
 		} catch (EntityNotFoundException e){
 			throw new ResourceNotFoundException("Id not found " + id);
 		}
 	}
 
+	@WorkloadPool(Workload.WRITE)
+	@Transactional
 	public void  delete(Long id) {
 		try {
+		Optional<Product> obj = repository.findById(id);
+		Set<Long> oldCategoryIds = obj.map(x -> categoryIds(x)).orElse(Set.of());
 		repository.deleteById(id);
+		repository.flush();
+		obj.ifPresent(x -> publisher.publishEvent(new ProductWriteEvent(ChangeOperation.DELETED, id, x.getVersion(), null,
+				oldCategoryIds, x.getPrice(), Set.of(), null)));
 		} catch (EmptyResultDataAccessException e ) {
 			throw new ResourceNotFoundException("Id not found "  + id);
 		} catch (DataIntegrityViolationException e) {
@@ -79,6 +117,10 @@ public class ProductService {
 	}
 	
 
+	private static Set<Long> categoryIds(Product entity) {
+		return entity.getCategories().stream().map(Category::getId).collect(Collectors.toSet());
+	}
+
 	private void copyDtoToEntity(ProductDTO dto, Product entity) {
 		
 		entity.setName(dto.getName());
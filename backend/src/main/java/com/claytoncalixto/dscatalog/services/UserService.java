@@ -1,11 +1,13 @@
 package com.claytoncalixto.dscatalog.services;
 
 import java.util.Optional;
+import java.util.Set;
 
 import javax.persistence.EntityNotFoundException;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -18,12 +20,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
+import com.claytoncalixto.dscatalog.datasource.Workload;
+import com.claytoncalixto.dscatalog.datasource.WorkloadPool;
 import com.claytoncalixto.dscatalog.dto.RoleDTO;
 import com.claytoncalixto.dscatalog.dto.UserDTO;
 import com.claytoncalixto.dscatalog.dto.UserInsertDTO;
 import com.claytoncalixto.dscatalog.dto.UserUpdateDTO;
 import com.claytoncalixto.dscatalog.entities.Role;
 import com.claytoncalixto.dscatalog.entities.User;
+import com.claytoncalixto.dscatalog.invalidation.CacheInvalidationEvent;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationBus;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationType;
 import com.claytoncalixto.dscatalog.repositories.RoleRepository;
 import com.claytoncalixto.dscatalog.repositories.UserRepository;
 import com.claytoncalixto.dscatalog.services.exceptions.DatabaseException;
@@ -42,13 +50,21 @@ public class UserService implements UserDetailsService{
 	
 	@Autowired
 	private RoleRepository roleRepository;
+	
+	@Autowired
+	private EmailBloomFilter emailFilter;
+
+	@Autowired
+	private InvalidationBus invalidationBus;
 
+	@WorkloadPool(Workload.SEARCH)
 	@Transactional(readOnly = true)
 	public Page<UserDTO> findAllPaged(Pageable pageable){
 		Page<User> list = repository.findAll(pageable);	
 		return list.map(x -> new UserDTO(x));		
 	}
 
+	@WorkloadPool(Workload.SEARCH)
 	@Transactional(readOnly = true)
 	public UserDTO findById(Long id) {
 		Optional<User> obj = repository.findById(id);
@@ -56,6 +72,7 @@ public class UserService implements UserDetailsService{
 		return new UserDTO(entity);
 	}
 	
+	@WorkloadPool(Workload.SEARCH)
 	@Transactional(readOnly = true)
 	public UserDTO findByEmail(Long id) {
 		Optional<User> obj = repository.findById(id);
@@ -63,30 +80,46 @@ public class UserService implements UserDetailsService{
 		return new UserDTO(entity);
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public UserDTO insert( @RequestBody UserInsertDTO dto) {
 		User entity = new User();
 		copyDtoToEntity(dto, entity);
 		entity.setPassword(passwordEncoder.encode(dto.getPassword()));
-		entity = repository.save(entity);
+		try {
+			entity = repository.save(entity);
+			repository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw new DatabaseException("Email already exists");
+		}
+		emailFilter.put(entity.getEmail());
+		invalidationBus.publish(InvalidationType.USER, Set.of(entity.getId()));
 		return new UserDTO(entity);
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	@Transactional
 	public UserDTO update(Long id, UserUpdateDTO dto) {
 		try {
-		User entity =  repository.getOne(id);
-		copyDtoToEntity(dto, entity);
-		entity = repository.save(entity);
-		return new UserDTO(entity);
-		} catch (EntityNotFoundException e){
+			User entity = repository.getOne(id);
+			copyDtoToEntity(dto, entity);
+			entity = repository.save(entity);
+			repository.flush();
+			emailFilter.put(entity.getEmail());
+			invalidationBus.publish(InvalidationType.USER, Set.of(entity.getId()));
+			return new UserDTO(entity);
+		} catch (EntityNotFoundException e) {
 			throw new ResourceNotFoundException("Id not found " + id);
+		} catch (DataIntegrityViolationException e) {
+			throw new DatabaseException("Email already exists");
 		}
 	}
 
+	@WorkloadPool(Workload.WRITE)
 	public void  delete(Long id) {
 		try {
 		repository.deleteById(id);
+		invalidationBus.publish(InvalidationType.USER, Set.of(id));
 		} catch (EmptyResultDataAccessException e ) {
 			throw new ResourceNotFoundException("Id not found "  + id);
 		} catch (DataIntegrityViolationException e) {
@@ -95,6 +128,18 @@ public class UserService implements UserDetailsService{
 	}
 	
 
+	/*
+	 * Users registered on another instance must pass this instance's email filter. Read-write,
+	 * so the emails are read on the primary: a replica may not have the users yet.
+	 */
+	@EventListener
+	@Transactional
+	public void onInvalidation(CacheInvalidationEvent event) {
+		if (event.getType() == InvalidationType.USER) {
+			repository.findEmailsByIds(event.getIds()).forEach(emailFilter::put);
+		}
+	}
+
 	private void copyDtoToEntity(UserDTO dto, User entity) {
 		
 		entity.setFirstName(dto.getFirstName());
@@ -109,6 +154,7 @@ public class UserService implements UserDetailsService{
 		}		
 	}
 
+	@WorkloadPool(Workload.AUTH)
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		
@@ -0,0 +1,35 @@
+package com.claytoncalixto.dscatalog.services.events;
+
+/*
+ * Published once by CategoryService for every write, inside its transaction; see
+ * ProductWriteEvent for how listeners pick their phase.
+ */
+public class CategoryWriteEvent {
+
+	private final ChangeOperation operation;
+	private final Long id;
+	private final Long version;
+
+	public CategoryWriteEvent(ChangeOperation operation, Long id, Long version) {
+		this.operation = operation;
+		this.id = id;
+		this.version = version;
+	}
+
+	public ChangeOperation getOperation() {
+		return operation;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	@Override
+	public String toString() {
+		return "CategoryWriteEvent [operation=" + operation + ", id=" + id + ", version=" + version + "]";
+	}
+}
@@ -0,0 +1,7 @@
+package com.claytoncalixto.dscatalog.services.events;
+
+public enum ChangeOperation {
+	CREATED,
+	UPDATED,
+	DELETED
+}
@@ -0,0 +1,82 @@
+package com.claytoncalixto.dscatalog.services.events;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.claytoncalixto.dscatalog.entities.Product;
+
+/*
+ * Published once by ProductService for every write, inside its transaction and after the
+ * product changes were flushed. Carries the previous and the new categories and price; a
+ * created product has no previous state and a deleted one no new state nor entity.
+ * Listeners that write with the change use @EventListener and join the transaction; the
+ * others use @TransactionalEventListener and only see committed writes.
+ */
+public class ProductWriteEvent {
+
+	private final ChangeOperation operation;
+	private final Long id;
+	private final Long version;
+	private final Product product;
+	private final Set<Long> oldCategoryIds;
+	private final Double oldPrice;
+	private final Set<Long> newCategoryIds;
+	private final Double newPrice;
+
+	public ProductWriteEvent(ChangeOperation operation, Long id, Long version, Product product, Set<Long> oldCategoryIds,
+			Double oldPrice, Set<Long> newCategoryIds, Double newPrice) {
+		this.operation = operation;
+		this.id = id;
+		this.version = version;
+		this.product = product;
+		this.oldCategoryIds = oldCategoryIds;
+		this.oldPrice = oldPrice;
+		this.newCategoryIds = newCategoryIds;
+		this.newPrice = newPrice;
+	}
+
+	public ChangeOperation getOperation() {
+		return operation;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	/* The managed entity; null on delete */
+	public Product getProduct() {
+		return product;
+	}
+
+	public Set<Long> getOldCategoryIds() {
+		return oldCategoryIds;
+	}
+
+	public Double getOldPrice() {
+		return oldPrice;
+	}
+
+	public Set<Long> getNewCategoryIds() {
+		return newCategoryIds;
+	}
+
+	public Double getNewPrice() {
+		return newPrice;
+	}
+
+	/* Categories the product left, joined or stayed in */
+	public Set<Long> getCategoryIds() {
+		Set<Long> ids = new HashSet<>(oldCategoryIds);
+		ids.addAll(newCategoryIds);
+		return ids;
+	}
+
+	@Override
+	public String toString() {
+		return "ProductWriteEvent [operation=" + operation + ", id=" + id + ", version=" + version + "]";
+	}
+}
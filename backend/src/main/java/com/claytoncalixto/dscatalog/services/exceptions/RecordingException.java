@@ -0,0 +1,10 @@
+package com.claytoncalixto.dscatalog.services.exceptions;
+
+public class RecordingException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	public RecordingException(String msg) {
+		super(msg);
+	}
+}
@@ -0,0 +1,10 @@
+package com.claytoncalixto.dscatalog.services.exceptions;
+
+public class RecordingSettingsException extends RecordingException {
+
+	private static final long serialVersionUID = 1L;
+	
+	public RecordingSettingsException(String msg) {
+		super(msg);
+	}
+}
@@ -8,8 +8,8 @@ import javax.validation.ConstraintValidatorContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
 import com.claytoncalixto.dscatalog.dto.UserInsertDTO;
-import com.claytoncalixto.dscatalog.entities.User;
 import com.claytoncalixto.dscatalog.repositories.UserRepository;
 import com.claytoncalixto.dscatalog.resources.exceptions.FieldMessage;
 
@@ -18,6 +18,9 @@ public class UserInsertValidator implements ConstraintValidator<UserInsertValid,
 	@Autowired
 	private UserRepository repository;
 	
+	@Autowired
+	private EmailBloomFilter emailFilter;
+	
 	@Override
 	public void initialize(UserInsertValid ann) {
 	}
@@ -29,9 +32,7 @@ public class UserInsertValidator implements ConstraintValidator<UserInsertValid,
 		
 		// Coloque aqui seus testes de validação, acrescentando objetos FieldMessage à lista
 		
-		User user = repository.findByEmail(dto.getEmail());
-		
-		if (user != null) {
+		if (emailFilter.mightContain(dto.getEmail()) && repository.existsByEmail(dto.getEmail())) {
 			list.add(new FieldMessage("email", "Email já existe!"));
 		}
 		
@@ -11,8 +11,8 @@ import javax.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.servlet.HandlerMapping;
 
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
 import com.claytoncalixto.dscatalog.dto.UserUpdateDTO;
-import com.claytoncalixto.dscatalog.entities.User;
 import com.claytoncalixto.dscatalog.repositories.UserRepository;
 import com.claytoncalixto.dscatalog.resources.exceptions.FieldMessage;
 
@@ -24,6 +24,9 @@ public class UserUpdateValidator implements ConstraintValidator<UserUpdateValid,
 	@Autowired
 	private UserRepository repository;
 	
+	@Autowired
+	private EmailBloomFilter emailFilter;
+	
 	@Override
 	public void initialize(UserUpdateValid ann) {
 	}
@@ -37,9 +40,7 @@ public class UserUpdateValidator implements ConstraintValidator<UserUpdateValid,
 		
 		List<FieldMessage> list = new ArrayList<>();
 		
-		User user = repository.findByEmail(dto.getEmail());
-		
-		if (user != null && userId != user.getId()) {
+		if (emailFilter.mightContain(dto.getEmail()) && repository.existsByEmailAndIdNot(dto.getEmail(), userId)) {
 			list.add(new FieldMessage("email", "Email já existe!"));
 		}
 		
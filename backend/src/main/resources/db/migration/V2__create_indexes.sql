@@ -0,0 +1,10 @@
+-- Products of a category; the primary key only serves lookups by product
+CREATE INDEX idx_product_category_category ON tb_product_category (category_id, product_id);
+
+-- Sort keys offered by GET /products?orderBy=
+CREATE INDEX idx_product_name ON tb_product (name);
+CREATE INDEX idx_product_price ON tb_product (price);
+CREATE INDEX idx_product_date ON tb_product (date);
+
+-- Foreign keys of tb_user_role; user_id leads the primary key, role_id needs its own
+CREATE INDEX idx_user_role_role ON tb_user_role (role_id);
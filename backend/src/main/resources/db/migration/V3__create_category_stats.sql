@@ -0,0 +1,19 @@
+-- Per-category aggregates maintained by CategoryStatsService. No foreign key to
+-- tb_category so stats never block deleting a category; reconciliation drops orphans.
+CREATE TABLE tb_category_stats (
+	category_id BIGINT NOT NULL,
+	product_count BIGINT NOT NULL,
+	priced_count BIGINT NOT NULL,
+	price_sum DOUBLE PRECISION NOT NULL,
+	min_price DOUBLE PRECISION,
+	max_price DOUBLE PRECISION,
+	updated_at TIMESTAMP WITHOUT TIME ZONE,
+	CONSTRAINT pk_category_stats PRIMARY KEY (category_id)
+);
+
+INSERT INTO tb_category_stats (category_id, product_count, priced_count, price_sum, min_price, max_price, updated_at)
+SELECT c.id, COUNT(p.id), COUNT(p.price), COALESCE(SUM(p.price), 0), MIN(p.price), MAX(p.price), CURRENT_TIMESTAMP
+FROM tb_category c
+LEFT JOIN tb_product_category pc ON pc.category_id = c.id
+LEFT JOIN tb_product p ON p.id = pc.product_id
+GROUP BY c.id;
@@ -0,0 +1,20 @@
+-- Read model for GET /products maintained by ProductListingService: one row per product
+-- under listing_category_id 0 plus one per category it belongs to, each carrying every
+-- column the listing returns, so a page is a single-table range scan on one index.
+-- Filled at startup when its row count does not match the catalog.
+CREATE TABLE tb_product_listing (
+	listing_category_id BIGINT NOT NULL,
+	product_id BIGINT NOT NULL,
+	name VARCHAR(255),
+	description TEXT,
+	price DOUBLE PRECISION,
+	img_url VARCHAR(255),
+	date TIMESTAMP WITHOUT TIME ZONE,
+	categories TEXT,
+	CONSTRAINT pk_product_listing PRIMARY KEY (listing_category_id, product_id)
+);
+
+CREATE INDEX idx_product_listing_name ON tb_product_listing (listing_category_id, name);
+CREATE INDEX idx_product_listing_price ON tb_product_listing (listing_category_id, price);
+CREATE INDEX idx_product_listing_date ON tb_product_listing (listing_category_id, date);
+CREATE INDEX idx_product_listing_product ON tb_product_listing (product_id);
@@ -0,0 +1,15 @@
+-- Optimistic lock versions, also carried by the change events as the state they describe
+ALTER TABLE tb_category ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tb_product ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Change events written in the same transaction as the catalog write and deleted once
+-- OutboxDispatcher has delivered them; the identity orders them.
+CREATE TABLE tb_outbox_event (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+	entity VARCHAR(32) NOT NULL,
+	entity_id BIGINT NOT NULL,
+	entity_version BIGINT NOT NULL,
+	operation VARCHAR(16) NOT NULL,
+	created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+	CONSTRAINT pk_outbox_event PRIMARY KEY (id)
+);
@@ -0,0 +1,19 @@
+-- Delivery attempts of each change event; after app.outbox.max-attempts failures
+-- OutboxDispatcher moves the event to tb_outbox_dead_letter so later events can proceed.
+ALTER TABLE tb_outbox_event ADD COLUMN attempts INTEGER DEFAULT 0 NOT NULL;
+
+-- The dscatalog.outbox.lag gauge reads MIN(created_at)
+CREATE INDEX idx_outbox_event_created_at ON tb_outbox_event (created_at);
+
+CREATE TABLE tb_outbox_dead_letter (
+	id BIGINT NOT NULL,
+	entity VARCHAR(32) NOT NULL,
+	entity_id BIGINT NOT NULL,
+	entity_version BIGINT NOT NULL,
+	operation VARCHAR(16) NOT NULL,
+	created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+	attempts INTEGER NOT NULL,
+	failed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+	error VARCHAR(1000),
+	CONSTRAINT pk_outbox_dead_letter PRIMARY KEY (id)
+);
@@ -63,4 +63,25 @@ INSERT INTO tb_product_category (product_id, category_id) VALUES (21, 3);
 INSERT INTO tb_product_category (product_id, category_id) VALUES (22, 3);
 INSERT INTO tb_product_category (product_id, category_id) VALUES (23, 3);
 INSERT INTO tb_product_category (product_id, category_id) VALUES (24, 3);
-INSERT INTO tb_product_category (product_id, category_id) VALUES (25, 3);
\ No newline at end of file
+INSERT INTO tb_product_category (product_id, category_id) VALUES (25, 3);
+
+-- Derived tables are filled from the rows above, as the write path would have, so startup
+-- finds them in line with the catalog instead of repairing them.
+DELETE FROM tb_category_stats;
+INSERT INTO tb_category_stats (category_id, product_count, priced_count, price_sum, min_price, max_price, updated_at)
+SELECT c.id, COUNT(p.id), COUNT(p.price), COALESCE(SUM(p.price), 0), MIN(p.price), MAX(p.price), CURRENT_TIMESTAMP
+FROM tb_category c
+LEFT JOIN tb_product_category pc ON pc.category_id = c.id
+LEFT JOIN tb_product p ON p.id = pc.product_id
+GROUP BY c.id;
+
+DELETE FROM tb_product_listing;
+INSERT INTO tb_product_listing (listing_category_id, product_id, name, description, price, img_url, date, categories)
+SELECT k.listing_category_id, p.id, p.name, p.description, p.price, p.img_url, p.date, COALESCE(j.categories, '[]')
+FROM tb_product p
+INNER JOIN (SELECT 0 AS listing_category_id, id AS product_id FROM tb_product
+	UNION ALL SELECT category_id, product_id FROM tb_product_category) k ON k.product_id = p.id
+LEFT JOIN (SELECT pc.product_id, '[' || LISTAGG('{"id":' || c.id || ',"name":"' || c.name || '"}', ',')
+	WITHIN GROUP (ORDER BY c.id) || ']' AS categories
+	FROM tb_product_category pc INNER JOIN tb_category c ON c.id = pc.category_id
+	GROUP BY pc.product_id) j ON j.product_id = p.id;
@@ -0,0 +1,186 @@
+package com.claytoncalixto.dscatalog.components;
+
+import static com.claytoncalixto.dscatalog.tests.CatalogFixture.describe;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+
+public class CatalogSnapshotTests {
+
+	private List<CategoryDTO> categories;
+	private List<ProductDTO> products;
+	private CatalogSnapshot snapshot;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		categories = List.of(new CategoryDTO(1L, "Livros"), new CategoryDTO(2L, "Eletrônicos"), new CategoryDTO(3L, "Computadores"));
+		products = new ArrayList<>();
+		for (long i = 1; i <= 30; i++) {
+			ProductDTO dto = new ProductDTO(i, "Product " + (char) ('A' + (i * 7) % 26), "Description", (double) ((i * 13) % 10),
+					"", Instant.parse("2020-07-13T20:50:07Z").plusSeconds(i % 5));
+			dto.getCategories().add(categories.get((int) (i % 3)));
+			if (i % 4 == 0) {
+				dto.getCategories().add(categories.get((int) ((i + 1) % 3)));
+			}
+			products.add(dto);
+		}
+		snapshot = CatalogSnapshot.build(1L, categories, products);
+	}
+
+	@Test
+	public void findProductsShouldPageSortedAndFilteredLists() {
+
+		for (Long category : List.of(0L, 1L, 3L)) {
+			for (String orderBy : List.of("id", "name", "price", "date")) {
+				for (Direction direction : Direction.values()) {
+					for (String name : List.of("", "product b", "C")) {
+						for (int page = 0; page < 3; page++) {
+							PageRequest pageRequest = PageRequest.of(page, 4, direction, orderBy);
+							Assertions.assertEquals(expected(category, name, pageRequest),
+									describe(snapshot.findProducts(category, name, pageRequest).get()),
+									category + " " + orderBy + " " + direction + " '" + name + "' " + page);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void findProductsShouldReturnEmptyForOrdersNotPrebuilt() {
+
+		Assertions.assertTrue(snapshot.findProducts(0L, "", PageRequest.of(0, 10, Direction.ASC, "description")).isEmpty());
+		Assertions.assertTrue(snapshot.findProducts(0L, "", PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id")))).isEmpty());
+		Assertions.assertEquals(0, snapshot.findProducts(99L, "", PageRequest.of(0, 10, Direction.ASC, "name")).get().getTotalElements());
+	}
+
+	@Test
+	public void findCategoriesShouldPageInRequestedOrder() {
+
+		Page<CategoryDTO> page = snapshot.findCategories(PageRequest.of(0, 2)).get();
+		Assertions.assertEquals(3, page.getTotalElements());
+		Assertions.assertEquals(List.of(1L, 2L), page.getContent().stream().map(CategoryDTO::getId).collect(Collectors.toList()));
+
+		page = snapshot.findCategories(PageRequest.of(0, 3, Direction.DESC, "name")).get();
+		Assertions.assertEquals(List.of("Livros", "Eletrônicos", "Computadores"),
+				page.getContent().stream().map(CategoryDTO::getName).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void incrementalChangesShouldMatchFullBuild() {
+
+		CatalogSnapshot original = snapshot;
+		ProductDTO moved = new ProductDTO(5L, "Product Z", "Description", 9.5, "", Instant.parse("2021-01-01T00:00:00Z"));
+		moved.getCategories().add(categories.get(0));
+		ProductDTO created = new ProductDTO(31L, "Product A", "Description", 0.5, "", Instant.parse("2019-01-01T00:00:00Z"));
+		created.getCategories().add(new CategoryDTO(3L, "Informática"));
+		CategoryDTO renamed = new CategoryDTO(3L, "Informática");
+
+		CatalogSnapshot changed = snapshot.withProduct(5L, moved).withProduct(31L, created).withProduct(12L, null)
+				.withCategory(3L, renamed).withCategory(4L, new CategoryDTO(4L, "Jogos"));
+
+		List<ProductDTO> expected = new ArrayList<>();
+		for (ProductDTO x : products) {
+			ProductDTO copy = new ProductDTO(x.getId(), x.getName(), x.getDescription(), x.getPrice(), x.getImgUrl(), x.getDate());
+			x.getCategories().forEach(c -> copy.getCategories().add(c.getId().equals(3L) ? renamed : c));
+			expected.add(copy);
+		}
+		expected.set(4, moved);
+		expected.add(created);
+		expected.removeIf(x -> x.getId().equals(12L));
+		List<CategoryDTO> allCategories = List.of(categories.get(0), categories.get(1), renamed, new CategoryDTO(4L, "Jogos"));
+		CatalogSnapshot rebuilt = CatalogSnapshot.build(1L, allCategories, expected);
+
+		Assertions.assertEquals(6L, changed.getVersion());
+		Assertions.assertEquals(rebuilt.getProductCount(), changed.getProductCount());
+		Assertions.assertEquals(4, changed.getCategoryCount());
+		Assertions.assertNull(changed.findProduct(12L));
+		for (Long category : List.of(0L, 1L, 2L, 3L, 4L)) {
+			for (String orderBy : List.of("id", "name", "price", "date")) {
+				PageRequest pageRequest = PageRequest.of(0, 40, Direction.ASC, orderBy);
+				Assertions.assertEquals(describe(rebuilt.findProducts(category, "", pageRequest).get()),
+						describe(changed.findProducts(category, "", pageRequest).get()), category + " " + orderBy);
+			}
+		}
+
+		for (String orderBy : List.of("id", "name")) {
+			for (Direction direction : Direction.values()) {
+				PageRequest pageRequest = PageRequest.of(0, 10, direction, orderBy);
+				Assertions.assertEquals(categoryIds(rebuilt.findCategories(pageRequest).get()),
+						categoryIds(changed.findCategories(pageRequest).get()), orderBy + " " + direction);
+			}
+		}
+
+		Assertions.assertEquals(1L, original.getVersion());
+		Assertions.assertEquals(30, original.getProductCount());
+		Assertions.assertEquals("Product " + (char) ('A' + 35 % 26), original.findProduct(5L).getName());
+		Assertions.assertEquals("Computadores", original.findProduct(2L).getCategories().get(0).getName());
+	}
+
+	@Test
+	public void withProductsShouldApplyBatchAsOneVersion() {
+
+		ProductDTO moved = new ProductDTO(5L, "Product Z", "Description", 9.5, "", Instant.parse("2021-01-01T00:00:00Z"));
+		moved.getCategories().add(categories.get(0));
+		ProductDTO created = new ProductDTO(31L, "Product A", "Description", 0.5, "", Instant.parse("2019-01-01T00:00:00Z"));
+		created.getCategories().add(categories.get(2));
+		Map<Long, ProductDTO> changes = new HashMap<>();
+		changes.put(5L, moved);
+		changes.put(31L, created);
+		changes.put(12L, null);
+
+		CatalogSnapshot batched = snapshot.withProducts(changes);
+		CatalogSnapshot chained = snapshot.withProduct(5L, moved).withProduct(31L, created).withProduct(12L, null);
+
+		Assertions.assertEquals(2L, batched.getVersion());
+		Assertions.assertEquals(chained.getProductCount(), batched.getProductCount());
+		for (Long category : List.of(0L, 1L, 2L, 3L)) {
+			for (String orderBy : List.of("id", "name", "price", "date")) {
+				PageRequest pageRequest = PageRequest.of(0, 40, Direction.ASC, orderBy);
+				Assertions.assertEquals(describe(chained.findProducts(category, "", pageRequest).get()),
+						describe(batched.findProducts(category, "", pageRequest).get()), category + " " + orderBy);
+			}
+		}
+	}
+
+	private static List<Long> categoryIds(Page<CategoryDTO> page) {
+		return page.getContent().stream().map(CategoryDTO::getId).collect(Collectors.toList());
+	}
+
+	private String expected(Long category, String name, PageRequest pageRequest) {
+		Sort.Order order = pageRequest.getSort().iterator().next();
+		List<ProductDTO> list = products.stream()
+				.filter(x -> category == 0L || x.getCategories().stream().anyMatch(c -> c.getId().equals(category)))
+				.filter(x -> x.getName().toLowerCase().contains(name.toLowerCase()))
+				.sorted((a, b) -> {
+					int result;
+					switch (order.getProperty()) {
+					case "name": result = a.getName().compareTo(b.getName()); break;
+					case "price": result = a.getPrice().compareTo(b.getPrice()); break;
+					case "date": result = a.getDate().compareTo(b.getDate()); break;
+					default: result = 0;
+					}
+					result = (result != 0) ? result : a.getId().compareTo(b.getId());
+					return order.isDescending() ? -result : result;
+				})
+				.collect(Collectors.toList());
+		return describe(list.size(), list.stream().skip(pageRequest.getOffset()).limit(pageRequest.getPageSize())
+				.collect(Collectors.toList()));
+	}
+}
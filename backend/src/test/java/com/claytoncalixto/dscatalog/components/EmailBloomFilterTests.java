@@ -0,0 +1,68 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.claytoncalixto.dscatalog.repositories.UserRepository;
+
+@ExtendWith(SpringExtension.class)
+public class EmailBloomFilterTests {
+
+	@Mock
+	private UserRepository repository;
+
+	private EmailBloomFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		filter = new EmailBloomFilter(1000, 0.01);
+		ReflectionTestUtils.setField(filter, "repository", repository);
+		Mockito.when(repository.findAllEmails()).thenReturn(List.of("alex@gmail.com", "maria@gmail.com"));
+	}
+
+	@Test
+	public void mightContainShouldReturnTrueBeforeLoad() {
+
+		Assertions.assertTrue(filter.mightContain("new@gmail.com"));
+	}
+
+	@Test
+	public void mightContainShouldReturnTrueWhenEmailWasLoaded() {
+
+		filter.load();
+
+		Assertions.assertTrue(filter.mightContain("alex@gmail.com"));
+		Assertions.assertTrue(filter.mightContain("maria@gmail.com"));
+	}
+
+	@Test
+	public void mightContainShouldReturnTrueWhenEmailWasPutAfterLoad() {
+
+		filter.load();
+		filter.put("bob@gmail.com");
+
+		Assertions.assertTrue(filter.mightContain("bob@gmail.com"));
+	}
+
+	@Test
+	public void mightContainShouldRejectMostUnknownEmails() {
+
+		filter.load();
+
+		int falsePositives = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (filter.mightContain("user" + i + "@example.com")) {
+				falsePositives++;
+			}
+		}
+		Assertions.assertTrue(falsePositives < 50);
+	}
+}
@@ -0,0 +1,88 @@
+package com.claytoncalixto.dscatalog.components;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KllSketchTests {
+
+	private int k;
+	private double[] values;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		k = 200;
+		Random random = new Random(7L);
+		values = new double[200_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Math.exp(Math.log(150.0) + 1.2 * random.nextGaussian());
+		}
+	}
+
+	@Test
+	public void quantilesShouldReturnNullsWhenEmpty() {
+
+		KllSketch sketch = new KllSketch(k, 1L);
+
+		Assertions.assertNull(sketch.quantiles(0.5)[0]);
+		Assertions.assertNull(sketch.getMin());
+		Assertions.assertEquals(0L, sketch.getCount());
+	}
+
+	@Test
+	public void quantilesShouldBeExactWhileEverythingFits() {
+
+		KllSketch sketch = new KllSketch(k, 1L);
+		for (int i = 1; i <= 100; i++) {
+			sketch.update(i);
+		}
+
+		Double[] result = sketch.quantiles(0.0, 0.1, 0.5, 0.9, 1.0);
+		Assertions.assertArrayEquals(new Double[] { 1.0, 10.0, 50.0, 90.0, 100.0 }, result);
+	}
+
+	@Test
+	public void quantilesShouldStayWithinRankErrorWithBoundedMemory() {
+
+		KllSketch sketch = new KllSketch(k, 1L);
+		for (double value : values) {
+			sketch.update(value);
+		}
+
+		assertRankError(sketch);
+		Assertions.assertEquals(values.length, sketch.getCount());
+		Assertions.assertTrue(sketch.getRetained() < 4 * k, "retained " + sketch.getRetained());
+		Assertions.assertEquals(Arrays.stream(values).min().getAsDouble(), sketch.getMin());
+		Assertions.assertEquals(Arrays.stream(values).max().getAsDouble(), sketch.getMax());
+	}
+
+	@Test
+	public void mergeShouldMatchSingleSketchAccuracy() {
+
+		KllSketch left = new KllSketch(k, 1L);
+		KllSketch right = new KllSketch(k, 2L);
+		for (int i = 0; i < values.length; i++) {
+			(i % 3 == 0 ? left : right).update(values[i]);
+		}
+		left.merge(right);
+
+		assertRankError(left);
+		Assertions.assertEquals(values.length, left.getCount());
+		Assertions.assertTrue(left.getRetained() < 4 * k, "retained " + left.getRetained());
+	}
+
+	private void assertRankError(KllSketch sketch) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		double[] fractions = { 0.1, 0.5, 0.9 };
+		Double[] estimates = sketch.quantiles(fractions);
+		for (int i = 0; i < fractions.length; i++) {
+			int rank = Arrays.binarySearch(sorted, estimates[i]);
+			double error = Math.abs((double) rank / sorted.length - fractions[i]);
+			Assertions.assertTrue(error < 0.02, "rank error " + error + " at " + fractions[i]);
+		}
+	}
+}
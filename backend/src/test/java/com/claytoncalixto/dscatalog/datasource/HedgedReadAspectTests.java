@@ -0,0 +1,143 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class HedgedReadAspectTests {
+
+	public static class SlowFirstReplica {
+
+		@HedgedRead
+		public Integer read(long slowMillis) throws InterruptedException {
+			Integer replica = RoutingContext.getReplica();
+			if (replica != null && replica == 0) {
+				Thread.sleep(slowMillis);
+			}
+			return replica;
+		}
+	}
+
+	public static class SlowQueryOnFirstReplica {
+
+		private static final String SLOW_QUERY = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) a, SYSTEM_RANGE(1, 100000) b";
+
+		private final DataSource dataSource = new StatementTimeoutDataSource(
+				new DriverManagerDataSource("jdbc:h2:mem:hedges;DB_CLOSE_DELAY=-1", "sa", ""));
+		private final CompletableFuture<SQLException> loserError = new CompletableFuture<>();
+
+		@HedgedRead
+		public Integer read() throws SQLException {
+			Integer replica = RoutingContext.getReplica();
+			if (replica != null && replica == 0) {
+				try (Connection con = dataSource.getConnection(); PreparedStatement st = con.prepareStatement(SLOW_QUERY)) {
+					st.executeQuery();
+				}
+				catch (SQLException e) {
+					loserError.complete(e);
+					throw e;
+				}
+			}
+			return replica;
+		}
+	}
+
+	private ThreadPoolTaskExecutor executor;
+	private ReplicaSet replicaSet;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(0);
+		executor.setTaskDecorator(new RoutingContextTaskDecorator());
+		executor.initialize();
+		replicaSet = new ReplicaSet(List.of(Mockito.mock(DataSource.class), Mockito.mock(DataSource.class)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void hedgeShouldAnswerFromSecondReplicaWhenFirstIsSlow() throws Exception {
+
+		HedgedReadAspect aspect = aspect(true, 1.0);
+		SlowFirstReplica target = proxy(aspect);
+
+		Assertions.assertEquals(1, target.read(2000L));
+		Assertions.assertEquals(1, target.read(2000L));
+		Assertions.assertEquals(1, aspect.getHedges());
+		Assertions.assertEquals(1, aspect.getHedgeWins());
+	}
+
+	@Test
+	public void hedgeShouldCancelStatementOfLosingAttempt() throws Exception {
+
+		HedgedReadAspect aspect = aspect(true, 1.0);
+		SlowQueryOnFirstReplica slow = new SlowQueryOnFirstReplica();
+		AspectJProxyFactory factory = new AspectJProxyFactory(slow);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		SlowQueryOnFirstReplica target = factory.getProxy();
+
+		Assertions.assertEquals(1, target.read());
+		Assertions.assertEquals(1, target.read());
+		Assertions.assertEquals(1, aspect.getHedgeWins());
+		Assertions.assertNotNull(slow.loserError.get(10L, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void hedgeShouldNotRunWhenBudgetIsExhausted() throws Exception {
+
+		HedgedReadAspect aspect = aspect(true, 0.0);
+		ReflectionTestUtils.setField(aspect, "budget", new HedgeBudget(0.0, 0.0));
+		SlowFirstReplica target = proxy(aspect);
+
+		target.read(100L);
+		target.read(100L);
+
+		Assertions.assertEquals(0, aspect.getHedges());
+	}
+
+	@Test
+	public void hedgeShouldCallTargetDirectlyWhenDisabled() throws Exception {
+
+		HedgedReadAspect aspect = aspect(false, 1.0);
+		SlowFirstReplica target = proxy(aspect);
+
+		Assertions.assertNull(target.read(0L));
+		Assertions.assertEquals(0, aspect.getHedges());
+	}
+
+	private HedgedReadAspect aspect(boolean enabled, double budgetRatio) {
+		HedgedReadAspect aspect = new HedgedReadAspect(enabled, 0.95, 20L, budgetRatio);
+		ReflectionTestUtils.setField(aspect, "replicaSet", replicaSet);
+		ReflectionTestUtils.setField(aspect, "executor", executor);
+		return aspect;
+	}
+
+	private static SlowFirstReplica proxy(HedgedReadAspect aspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new SlowFirstReplica());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		return factory.getProxy();
+	}
+}
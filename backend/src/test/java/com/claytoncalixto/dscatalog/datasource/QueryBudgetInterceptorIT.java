@@ -0,0 +1,84 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "app.query-budget.products-search=0")
+@AutoConfigureMockMvc
+public class QueryBudgetInterceptorIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	public void findAllShouldReturnServiceUnavailableWhenQueryBudgetIsExhausted() throws Exception {
+
+		MvcResult result = mockMvc.perform(get("/products")
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(jsonPath("$.error").value("Query timeout"));
+	}
+
+	@Test
+	public void asyncErrorShouldCancelQueryDeadline() throws Exception {
+
+		MvcResult result = startFindById();
+		QueryDeadline deadline = deadline(result);
+		Assertions.assertFalse(deadline.isCancelled());
+
+		/* What the container does when writing to a client that went away fails */
+		MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+		}
+
+		Assertions.assertTrue(deadline.isCancelled());
+	}
+
+	@Test
+	public void asyncTimeoutShouldCancelQueryDeadline() throws Exception {
+
+		MvcResult result = startFindById();
+		QueryDeadline deadline = deadline(result);
+
+		MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+
+		Assertions.assertTrue(deadline.isCancelled());
+	}
+
+	private MvcResult startFindById() throws Exception {
+		return mockMvc.perform(get("/products/{id}", 1L)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+	}
+
+	private static QueryDeadline deadline(MvcResult result) {
+		return (QueryDeadline) result.getRequest().getAttribute(QueryDeadline.class.getName());
+	}
+}
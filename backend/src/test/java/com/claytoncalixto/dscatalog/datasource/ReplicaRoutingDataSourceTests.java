@@ -0,0 +1,174 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSourceTests {
+
+	private DataSource primary;
+	private DataSource replica1;
+	private DataSource replica2;
+	private ReadYourWritesTracker tracker;
+	private ReplicaRoutingDataSource routing;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		primary = node("primary");
+		replica1 = node("replica1");
+		replica2 = node("replica2");
+		tracker = new ReadYourWritesTracker(60000L);
+		routing = new ReplicaRoutingDataSource(primary, new ReplicaSet(List.of(replica1, replica2)), tracker);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		RoutingContext.clear();
+	}
+
+	@Test
+	public void getConnectionShouldUsePrimaryWhenTransactionIsNotReadOnly() throws Exception {
+
+		Assertions.assertEquals("primary", nodeName(routing));
+		Assertions.assertEquals("primary", nodeName(routing));
+	}
+
+	@Test
+	public void getConnectionShouldBalanceReplicasWhenTransactionIsReadOnly() throws Exception {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		String first = nodeName(routing);
+		String second = nodeName(routing);
+
+		Assertions.assertTrue(first.startsWith("replica"));
+		Assertions.assertTrue(second.startsWith("replica"));
+		Assertions.assertNotEquals(first, second);
+	}
+
+	@Test
+	public void getConnectionShouldSkipUnhealthyReplica() throws Exception {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		routing.getReplicaSet().getReplicas().get(0).setHealthy(false);
+
+		Assertions.assertEquals("replica2", nodeName(routing));
+		Assertions.assertEquals("replica2", nodeName(routing));
+	}
+
+	@Test
+	public void getConnectionShouldFallBackToPrimaryWhenReplicasAreDown() throws Exception {
+
+		DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/none", "sa", "");
+		routing = new ReplicaRoutingDataSource(primary, new ReplicaSet(List.of(broken)), tracker);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		Assertions.assertEquals("primary", nodeName(routing));
+		Assertions.assertFalse(routing.getReplicaSet().getReplicas().get(0).isHealthy());
+	}
+
+	@Test
+	public void getConnectionShouldKeepReplicaHealthyWhenItsPoolIsExhausted() throws Exception {
+
+		DriverManagerDataSource exhausted = new DriverManagerDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				throw new SQLTransientConnectionException("Connection is not available, request timed out");
+			}
+		};
+		routing = new ReplicaRoutingDataSource(primary, new ReplicaSet(List.of(exhausted, replica2)), tracker);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		RoutingContext.setReplica(0);
+
+		Assertions.assertEquals("replica2", nodeName(routing));
+		Assertions.assertTrue(routing.getReplicaSet().getReplicas().get(0).isHealthy());
+	}
+
+	@Test
+	public void isReplicaDownShouldTreatTransientFailureWithConnectionCauseAsDown() {
+
+		SQLException refused = new SQLException("Connection refused", "08001");
+
+		Assertions.assertTrue(ReplicaSet.isReplicaDown(refused));
+		Assertions.assertTrue(ReplicaSet.isReplicaDown(new SQLTransientConnectionException("timed out", "08001", refused)));
+		Assertions.assertFalse(ReplicaSet.isReplicaDown(new SQLTransientConnectionException("timed out")));
+	}
+
+	@Test
+	public void checkHealthShouldRestoreReplicaWhenItAnswersAgain() throws Exception {
+
+		routing.getReplicaSet().getReplicas().get(0).setHealthy(false);
+
+		routing.getReplicaSet().checkHealth();
+
+		Assertions.assertTrue(routing.getReplicaSet().getReplicas().get(0).isHealthy());
+	}
+
+	@Test
+	public void getConnectionShouldUsePinnedReplica() throws Exception {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		RoutingContext.setReplica(1);
+
+		Assertions.assertEquals("replica2", nodeName(routing));
+		Assertions.assertEquals("replica2", nodeName(routing));
+	}
+
+	@Test
+	public void getConnectionShouldUsePrimaryWithinReadYourWritesWindow() throws Exception {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		RoutingContext.setClientKey("client-a");
+		tracker.recordWrite("client-a");
+
+		Assertions.assertEquals("primary", nodeName(routing));
+
+		RoutingContext.setClientKey("client-b");
+		Assertions.assertTrue(nodeName(routing).startsWith("replica"));
+	}
+
+	@Test
+	public void getConnectionShouldUseWorkloadPoolOfReplica() throws Exception {
+
+		DataSource replica = new WorkloadRoutingDataSource(node("replica-default"), Map.of(Workload.SEARCH, node("replica-search")));
+		routing = new ReplicaRoutingDataSource(primary, new ReplicaSet(List.of(replica)), tracker);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		Assertions.assertEquals("replica-default", nodeName(routing));
+
+		RoutingContext.setWorkload(Workload.SEARCH);
+		Assertions.assertEquals("replica-search", nodeName(routing));
+	}
+
+	private static DataSource node(String name) throws SQLException {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+			st.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+			st.execute("DELETE FROM node");
+			st.execute("INSERT INTO node VALUES ('" + name + "')");
+		}
+		return dataSource;
+	}
+
+	private static String nodeName(DataSource dataSource) throws SQLException {
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement();
+				ResultSet rs = st.executeQuery("SELECT name FROM node")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
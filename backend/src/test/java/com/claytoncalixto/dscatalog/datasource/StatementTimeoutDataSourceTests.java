@@ -0,0 +1,85 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class StatementTimeoutDataSourceTests {
+
+	private static final String SLOW_QUERY = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) a, SYSTEM_RANGE(1, 100000) b";
+
+	private StatementTimeoutDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		dataSource = new StatementTimeoutDataSource(new DriverManagerDataSource("jdbc:h2:mem:timeouts;DB_CLOSE_DELAY=-1", "sa", ""));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RoutingContext.clear();
+	}
+
+	@Test
+	public void statementShouldHaveNoTimeoutWhenThereIsNoDeadline() throws Exception {
+
+		try (Connection con = dataSource.getConnection(); PreparedStatement st = con.prepareStatement("SELECT 1")) {
+			Assertions.assertEquals(0, st.getQueryTimeout());
+		}
+	}
+
+	@Test
+	public void statementShouldUseRemainingBudgetAsTimeout() throws Exception {
+
+		RoutingContext.setQueryDeadline(new QueryDeadline(3000L));
+
+		try (Connection con = dataSource.getConnection(); PreparedStatement st = con.prepareStatement("SELECT 1")) {
+			Assertions.assertTrue(st.getQueryTimeout() >= 1 && st.getQueryTimeout() <= 3);
+		}
+	}
+
+	@Test
+	public void prepareStatementShouldThrowWhenBudgetIsExhausted() throws Exception {
+
+		RoutingContext.setQueryDeadline(new QueryDeadline(0L));
+
+		try (Connection con = dataSource.getConnection()) {
+			Assertions.assertThrows(SQLTimeoutException.class, () -> con.prepareStatement("SELECT 1"));
+		}
+	}
+
+	@Test
+	public void cancelShouldStopRunningStatement() throws Exception {
+
+		QueryDeadline deadline = new QueryDeadline(60000L);
+		RoutingContext.setQueryDeadline(deadline);
+
+		try (Connection con = dataSource.getConnection(); PreparedStatement st = con.prepareStatement(SLOW_QUERY)) {
+			CompletableFuture.runAsync(() -> {
+				sleep(200L);
+				deadline.cancel();
+			});
+			long start = System.nanoTime();
+			Assertions.assertThrows(SQLException.class, () -> st.executeQuery());
+			Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
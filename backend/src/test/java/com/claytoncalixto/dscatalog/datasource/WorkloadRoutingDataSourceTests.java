@@ -0,0 +1,101 @@
+package com.claytoncalixto.dscatalog.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class WorkloadRoutingDataSourceTests {
+
+	public static class Repository {
+
+		private final DataSource dataSource;
+
+		public Repository(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		@WorkloadPool(Workload.SEARCH)
+		public String search() throws SQLException {
+			return nodeName(dataSource);
+		}
+
+		@WorkloadPool(Workload.AUTH)
+		public String login() throws SQLException {
+			return nodeName(dataSource);
+		}
+
+		public String other() throws SQLException {
+			return nodeName(dataSource);
+		}
+	}
+
+	private WorkloadRoutingDataSource routing;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		routing = new WorkloadRoutingDataSource(node("default"),
+				Map.of(Workload.SEARCH, node("search"), Workload.AUTH, node("auth")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RoutingContext.clear();
+	}
+
+	@Test
+	public void getConnectionShouldUseDefaultPoolWhenNoWorkloadIsSet() throws Exception {
+
+		Assertions.assertEquals("default", nodeName(routing));
+	}
+
+	@Test
+	public void getConnectionShouldUseDefaultPoolWhenWorkloadHasNoPool() throws Exception {
+
+		RoutingContext.setWorkload(Workload.WRITE);
+
+		Assertions.assertEquals("default", nodeName(routing));
+	}
+
+	@Test
+	public void annotatedMethodsShouldUseTheirWorkloadPool() throws Exception {
+
+		AspectJProxyFactory factory = new AspectJProxyFactory(new Repository(routing));
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new WorkloadPoolAspect());
+		Repository repository = factory.getProxy();
+
+		Assertions.assertEquals("search", repository.search());
+		Assertions.assertEquals("auth", repository.login());
+		Assertions.assertEquals("default", repository.other());
+		Assertions.assertNull(RoutingContext.getWorkload());
+	}
+
+	private static DataSource node(String name) throws SQLException {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:pool-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+			st.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+			st.execute("DELETE FROM node");
+			st.execute("INSERT INTO node VALUES ('" + name + "')");
+		}
+		return dataSource;
+	}
+
+	private static String nodeName(DataSource dataSource) throws SQLException {
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement();
+				ResultSet rs = st.executeQuery("SELECT name FROM node")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.claytoncalixto.dscatalog.invalidation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.claytoncalixto.dscatalog.DscatalogApplication;
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.dto.UserInsertDTO;
+import com.claytoncalixto.dscatalog.services.CatalogSnapshotService;
+import com.claytoncalixto.dscatalog.services.CategoryService;
+import com.claytoncalixto.dscatalog.services.CategoryStatsService;
+import com.claytoncalixto.dscatalog.services.ProductService;
+import com.claytoncalixto.dscatalog.services.UserService;
+import com.claytoncalixto.dscatalog.tests.Factory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+ * Two application contexts over one database, standing in for two instances behind a
+ * load balancer, connected by the loopback transport.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class InvalidationBusIT {
+
+	private static final long CONVERGENCE_MILLIS = 5000L;
+
+	private ConfigurableApplicationContext writer;
+	private ConfigurableApplicationContext reader;
+
+	private Long categoryId;
+
+	@BeforeAll
+	void start() {
+
+		writer = node();
+		reader = node();
+		categoryId = 3L;
+	}
+
+	@AfterAll
+	void stop() {
+
+		reader.close();
+		writer.close();
+	}
+
+	@Test
+	public void otherInstanceShouldConvergeOnWrites() {
+
+		CatalogSnapshotService readerSnapshot = reader.getBean(CatalogSnapshotService.class);
+		CategoryStatsService readerStats = reader.getBean(CategoryStatsService.class);
+		ProductService productService = writer.getBean(ProductService.class);
+		CategoryService categoryService = writer.getBean(CategoryService.class);
+		String categoryName = categoryService.findById(categoryId).getName();
+
+		ProductDTO dto = Factory.createProductDTO(categoryId);
+		dto.setName("Invalidated product");
+		Long productId = productService.insert(dto).getId();
+		long expectedCount = writer.getBean(CategoryStatsService.class).findById(categoryId).getProductCount();
+		awaitConverged(() -> readerSnapshot.findProduct(productId).isPresent()
+				&& readerStats.findById(categoryId).getProductCount() == expectedCount);
+
+		categoryService.update(categoryId, new CategoryDTO(categoryId, "Invalidated category"));
+		awaitConverged(() -> "Invalidated category".equals(readerSnapshot.findProduct(productId).get().getCategories().get(0).getName()));
+
+		productService.delete(productId);
+		awaitConverged(() -> !readerSnapshot.findProduct(productId).isPresent());
+		categoryService.update(categoryId, new CategoryDTO(categoryId, categoryName));
+		awaitConverged(() -> categoryName.equals(readerSnapshot.findCategory(categoryId).get().getName()));
+
+		InvalidationBus writerBus = writer.getBean(InvalidationBus.class);
+		InvalidationBus readerBus = reader.getBean(InvalidationBus.class);
+		Assertions.assertTrue(writerBus.getSent() > 0);
+		Assertions.assertTrue(readerBus.getReceived() >= writerBus.getSent());
+		Assertions.assertEquals(0, readerBus.getSent());
+		Timer latency = reader.getBean(MeterRegistry.class).get("dscatalog.invalidation.latency").timer();
+		Assertions.assertTrue(latency.count() > 0);
+		Assertions.assertTrue(latency.max(TimeUnit.MILLISECONDS) < CONVERGENCE_MILLIS);
+	}
+
+	@Test
+	public void otherInstanceShouldAcceptNewUsers() {
+
+		UserInsertDTO dto = writer.getBean(ObjectMapper.class).convertValue(Map.of("firstName", "Invalidated", "lastName", "User",
+				"email", "invalidated.user@gmail.com", "password", "123456"), UserInsertDTO.class);
+		Long userId = writer.getBean(UserService.class).insert(dto).getId();
+
+		EmailBloomFilter readerFilter = reader.getBean(EmailBloomFilter.class);
+		awaitConverged(() -> readerFilter.mightContain("invalidated.user@gmail.com"));
+		writer.getBean(UserService.class).delete(userId);
+	}
+
+	@Test
+	public void repeatedWritesShouldBeCoalesced() {
+
+		InvalidationBus writerBus = writer.getBean(InvalidationBus.class);
+		long coalesced = writerBus.getCoalesced();
+		CategoryService categoryService = writer.getBean(CategoryService.class);
+		String categoryName = categoryService.findById(1L).getName();
+
+		writerBus.flush();
+		synchronized (writerBus) {
+			/* Holding the bus keeps the scheduled flush out while the writes queue up */
+			for (int i = 0; i < 5; i++) {
+				categoryService.update(1L, new CategoryDTO(1L, categoryName + " " + i));
+			}
+		}
+		categoryService.update(1L, new CategoryDTO(1L, categoryName));
+
+		Assertions.assertTrue(writerBus.getCoalesced() > coalesced);
+		CatalogSnapshotService readerSnapshot = reader.getBean(CatalogSnapshotService.class);
+		awaitConverged(() -> categoryName.equals(readerSnapshot.findCategory(1L).get().getName()));
+	}
+
+	@Test
+	public void flushShouldRunWhileScheduledJobsAreBlocked() throws Exception {
+
+		InvalidationBus writerBus = writer.getBean(InvalidationBus.class);
+		ThreadPoolTaskScheduler scheduler = writer.getBean("taskScheduler", ThreadPoolTaskScheduler.class);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		scheduler.execute(() -> {
+			blocked.countDown();
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		try {
+			Assertions.assertTrue(blocked.await(CONVERGENCE_MILLIS, TimeUnit.MILLISECONDS));
+			long sent = writerBus.getSent();
+
+			writerBus.publish(InvalidationType.PRODUCT, List.of(1L));
+
+			awaitConverged(() -> writerBus.getSent() > sent && writerBus.getPending() == 0);
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	private static ConfigurableApplicationContext node() {
+		return new SpringApplicationBuilder(DscatalogApplication.class).run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:mem:invalidationdb;DB_CLOSE_DELAY=-1",
+				"--app.catalog-snapshot.enabled=true",
+				"--app.invalidation.enabled=true",
+				"--app.invalidation.channel=invalidation-it",
+				"--app.invalidation.max-delay=50",
+				/* One thread for every @Scheduled job, so blocking it blocks them all */
+				"--spring.task.scheduling.pool.size=1");
+	}
+
+	private static void awaitConverged(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + CONVERGENCE_MILLIS;
+		while (!condition.getAsBoolean()) {
+			Assertions.assertTrue(System.currentTimeMillis() < deadline, "Instances did not converge within " + CONVERGENCE_MILLIS + " ms");
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.claytoncalixto.dscatalog.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.claytoncalixto.dscatalog.components.EmailBloomFilter;
+import com.claytoncalixto.dscatalog.services.ProductService;
+import com.claytoncalixto.dscatalog.tests.TokenUtil;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class JfrEventsIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private EmailBloomFilter emailFilter;
+
+	@Test
+	public void hotPathsShouldEmitFlightRecorderEvents() throws Exception {
+
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable(ServiceCallEvent.class);
+			recording.enable(RepositoryQueryEvent.class);
+			recording.enable(TokenIssuedEvent.class);
+			recording.enable(CacheOperationEvent.class);
+			recording.start();
+
+			tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+			productService.findById(1L);
+			emailFilter.mightContain("nobody@gmail.com");
+
+			recording.stop();
+			Path file = Files.createTempFile("events-", ".jfr");
+			recording.dump(file);
+			events = RecordingFile.readAllEvents(file);
+			Files.delete(file);
+		}
+
+		Assertions.assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("ServiceCall")
+				&& "ProductService".equals(e.getString("service")) && e.getLong("entityId") == 1L && e.getLong("rows") == 1L));
+		Assertions.assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("RepositoryQuery")
+				&& "ProductRepository".equals(e.getString("repository")) && e.getLong("entityId") == 1L));
+		Assertions.assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("TokenIssued")
+				&& "maria@gmail.com".equals(e.getString("username")) && e.getBoolean("success")));
+		Assertions.assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("CacheOperation")
+				&& "mightContain".equals(e.getString("operation"))));
+	}
+}
@@ -0,0 +1,122 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTests {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private ConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		limiter = new ConcurrencyLimiter("products", new AimdLimit(4, 2, 10, 0.5, 2.0));
+	}
+
+	@Test
+	public void tryAcquireShouldRejectWhenLimitIsReached() {
+
+		for (int i = 0; i < 4; i++) {
+			Assertions.assertTrue(limiter.tryAcquire());
+		}
+
+		Assertions.assertFalse(limiter.tryAcquire());
+		Assertions.assertEquals(4, limiter.getInFlight());
+		Assertions.assertEquals(1, limiter.getRejected());
+	}
+
+	@Test
+	public void limitShouldGrowWhileRequestsAreFastAndLimitIsUsed() {
+
+		for (int i = 0; i < 4; i++) {
+			limiter.tryAcquire();
+		}
+		limiter.release(FAST, false);
+		limiter.release(FAST, false);
+
+		Assertions.assertEquals(6, limiter.getLimit());
+	}
+
+	@Test
+	public void limitShouldShrinkWhenLatencyExceedsTolerance() {
+
+		limiter.tryAcquire();
+		limiter.release(FAST, false);
+		limiter.tryAcquire();
+		limiter.release(SLOW, false);
+
+		Assertions.assertEquals(2, limiter.getLimit());
+	}
+
+	@Test
+	public void limitShouldShrinkWhenRequestIsDroppedButNotBelowMinimum() {
+
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire();
+			limiter.release(FAST, true);
+		}
+
+		Assertions.assertEquals(2, limiter.getLimit());
+		Assertions.assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	public void lowPriorityShouldBeShedFirstWhenShareIsUsed() {
+
+		limiter = new ConcurrencyLimiter("products", new AimdLimit(4, 2, 4, 0.5, 2.0), 0.5, 10);
+
+		Assertions.assertTrue(limiter.acquire(Priority.LOW, 0L));
+		Assertions.assertTrue(limiter.acquire(Priority.LOW, 0L));
+		Assertions.assertFalse(limiter.acquire(Priority.LOW, 0L));
+		Assertions.assertTrue(limiter.acquire(Priority.HIGH, 0L));
+		Assertions.assertEquals(1, limiter.getRejected(Priority.LOW));
+		Assertions.assertEquals(0, limiter.getRejected(Priority.HIGH));
+	}
+
+	@Test
+	public void releaseShouldGrantHighPriorityWaiterBeforeLowPriorityWaiter() throws Exception {
+
+		limiter = new ConcurrencyLimiter("products", new AimdLimit(2, 2, 2, 0.5, 100.0), 1.0, 10);
+		limiter.acquire(Priority.NORMAL, 0L);
+		limiter.acquire(Priority.NORMAL, 0L);
+
+		CompletableFuture<Boolean> low = CompletableFuture.supplyAsync(() -> limiter.acquire(Priority.LOW, TimeUnit.SECONDS.toNanos(5)));
+		awaitQueued(1);
+		CompletableFuture<Boolean> high = CompletableFuture.supplyAsync(() -> limiter.acquire(Priority.HIGH, TimeUnit.SECONDS.toNanos(5)));
+		awaitQueued(2);
+
+		limiter.release(FAST, false);
+
+		Assertions.assertTrue(high.get(5, TimeUnit.SECONDS));
+		Assertions.assertFalse(low.isDone());
+
+		limiter.release(FAST, false);
+
+		Assertions.assertTrue(low.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	public void acquireShouldRejectWhenWaitExpires() {
+
+		limiter = new ConcurrencyLimiter("products", new AimdLimit(1, 1, 1, 0.5, 2.0), 1.0, 10);
+		limiter.acquire(Priority.NORMAL, 0L);
+
+		Assertions.assertFalse(limiter.acquire(Priority.NORMAL, TimeUnit.MILLISECONDS.toNanos(50)));
+		Assertions.assertEquals(0, limiter.getQueued());
+		Assertions.assertEquals(1, limiter.getRejected(Priority.NORMAL));
+	}
+
+	private void awaitQueued(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (limiter.getQueued() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(5L);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.claytoncalixto.dscatalog.limiter;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class RequestClassifierTests {
+
+	private RequestClassifier classifier = new RequestClassifier();
+
+	@Test
+	public void classifyShouldReturnLowForAnonymousRead() {
+
+		Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+				List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS")));
+
+		Assertions.assertEquals(Priority.LOW, classifier.classify(new MockHttpServletRequest("GET", "/products"), anonymous));
+		Assertions.assertEquals(Priority.LOW, classifier.classify(new MockHttpServletRequest("GET", "/products"), null));
+	}
+
+	@Test
+	public void classifyShouldReturnHighForLoginAndOperatorWrites() {
+
+		Authentication operator = authenticated("ROLE_OPERATOR");
+
+		Assertions.assertEquals(Priority.HIGH, classifier.classify(new MockHttpServletRequest("POST", "/oauth/token"), null));
+		Assertions.assertEquals(Priority.HIGH, classifier.classify(new MockHttpServletRequest("PUT", "/products/1"), operator));
+	}
+
+	@Test
+	public void classifyShouldReturnNormalForAuthenticatedRead() {
+
+		Assertions.assertEquals(Priority.NORMAL, classifier.classify(new MockHttpServletRequest("GET", "/users"), authenticated("ROLE_ADMIN")));
+	}
+
+	private static Authentication authenticated(String role) {
+		return new UsernamePasswordAuthenticationToken("maria@gmail.com", null, List.of(new SimpleGrantedAuthority(role)));
+	}
+}
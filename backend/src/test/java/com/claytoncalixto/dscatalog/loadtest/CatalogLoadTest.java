@@ -0,0 +1,66 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/*
+ * Boots the application on the test profile (without SQL console logging) and drives the
+ * configured traffic mix over real HTTP. Timeouts and shed requests are reported, but any
+ * other non-2xx status fails the run. Excluded from the regular build; run with
+ * mvn -Pperf test -Dloadtest.rate=200 -Dloadtest.duration=60
+ * and compare target/loadtest-result.json between commits.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+public class CatalogLoadTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${security.oauth2.client.client-id}")
+	private String clientId;
+
+	@Value("${security.oauth2.client.client-secret}")
+	private String clientSecret;
+
+	@Test
+	public void runConfiguredMix() throws Exception {
+
+		LoadTestConfig config = new LoadTestConfig();
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+		try {
+			HttpClient client = HttpClient.newBuilder()
+					.executor(executor)
+					.connectTimeout(Duration.ofSeconds(5))
+					.build();
+			LoadTarget target = new LoadTarget("http://localhost:" + port, clientId, clientSecret);
+			target.login(client);
+
+			LoadReport report = new LoadGenerator(client, target, config).run();
+
+			System.out.println(report.toTable());
+			File output = new File(config.getOutput());
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report.toMap(config));
+			System.out.println("Load test result saved to " + output.getAbsolutePath());
+
+			Assertions.assertEquals(0L, report.getErrors(), "requests failed with unexpected statuses");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
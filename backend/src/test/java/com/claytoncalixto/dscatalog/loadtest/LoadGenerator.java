@@ -0,0 +1,76 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Open-model generator: requests are sent at a fixed arrival rate whether or not earlier
+ * ones have completed, and each latency is measured from the request's scheduled start.
+ * Requests scheduled during the warmup are sent but not recorded.
+ */
+public class LoadGenerator {
+
+	private final HttpClient client;
+	private final LoadTarget target;
+	private final LoadTestConfig config;
+
+	public LoadGenerator(HttpClient client, LoadTarget target, LoadTestConfig config) {
+		this.client = client;
+		this.target = target;
+		this.config = config;
+	}
+
+	public LoadReport run() {
+		LoadReport report = new LoadReport();
+		Random random = new Random(config.getSeed());
+		Scenario[] weighted = weightedScenarios(config.getMix());
+
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRate());
+		long start = System.nanoTime();
+		long measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+		long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+		List<CompletableFuture<?>> pending = new ArrayList<>();
+		for (long i = 0; ; i++) {
+			long intended = start + i * intervalNanos;
+			if (intended >= end) {
+				break;
+			}
+			long wait = intended - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			Scenario scenario = weighted[random.nextInt(weighted.length)];
+			boolean measured = intended >= measureFrom;
+			CompletableFuture<?> future = client.sendAsync(scenario.request(target, random), BodyHandlers.discarding())
+					.handle((response, e) -> {
+						if (measured) {
+							report.record(scenario, System.nanoTime() - intended, (e == null) ? response.statusCode() : -1);
+						}
+						return null;
+					});
+			pending.add(future);
+			pending.removeIf(CompletableFuture::isDone);
+		}
+		CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+		report.setMeasuredNanos(end - measureFrom);
+		return report;
+	}
+
+	private static Scenario[] weightedScenarios(Map<Scenario, Integer> mix) {
+		List<Scenario> list = new ArrayList<>();
+		mix.forEach((scenario, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				list.add(scenario);
+			}
+		});
+		return list.toArray(new Scenario[0]);
+	}
+}
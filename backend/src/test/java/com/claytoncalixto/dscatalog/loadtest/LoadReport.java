@@ -0,0 +1,127 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/*
+ * Latency histograms per scenario. Latencies are measured from the intended start of each
+ * request, so a stalled server is charged for every request it delayed (coordinated
+ * omission correction).
+ */
+public class LoadReport {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+	private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+	private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+	private final Histogram total = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+	private volatile long measuredNanos;
+
+	public LoadReport() {
+		for (Scenario scenario : Scenario.values()) {
+			stats.put(scenario, new ScenarioStats());
+		}
+	}
+
+	public void record(Scenario scenario, long latencyNanos, int status) {
+		long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+		ScenarioStats s = stats.get(scenario);
+		s.histogram.recordValue(micros);
+		total.recordValue(micros);
+		if (status < 0) {
+			s.timeouts.incrementAndGet();
+		}
+		else if (status == 503) {
+			s.shed.incrementAndGet();
+		}
+		else if (status < 200 || status >= 300) {
+			s.errors.incrementAndGet();
+		}
+	}
+
+	public void setMeasuredNanos(long measuredNanos) {
+		this.measuredNanos = measuredNanos;
+	}
+
+	public long getErrors() {
+		return stats.values().stream().mapToLong(x -> x.errors.get()).sum();
+	}
+
+	public long getTimeouts() {
+		return stats.values().stream().mapToLong(x -> x.timeouts.get()).sum();
+	}
+
+	public long getShed() {
+		return stats.values().stream().mapToLong(x -> x.shed.get()).sum();
+	}
+
+	public Map<String, Object> toMap(LoadTestConfig config) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("config", config.toMap());
+		map.put("total", summary(total, getErrors(), getTimeouts(), getShed()));
+		Map<String, Object> scenarios = new LinkedHashMap<>();
+		stats.forEach((scenario, s) -> {
+			if (s.histogram.getTotalCount() > 0) {
+				scenarios.put(scenario.name(), summary(s.histogram, s.errors.get(), s.timeouts.get(), s.shed.get()));
+			}
+		});
+		map.put("scenarios", scenarios);
+		return map;
+	}
+
+	public String toTable() {
+		StringBuilder sb = new StringBuilder(String.format("%-12s %8s %9s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+				"scenario", "count", "req/s", "errors", "timeouts", "shed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+		stats.forEach((scenario, s) -> {
+			if (s.histogram.getTotalCount() > 0) {
+				sb.append(row(scenario.name(), s.histogram, s.errors.get(), s.timeouts.get(), s.shed.get()));
+			}
+		});
+		sb.append(row("TOTAL", total, getErrors(), getTimeouts(), getShed()));
+		return sb.toString();
+	}
+
+	private String row(String name, Histogram h, long errors, long timeouts, long shed) {
+		return String.format("%-12s %8d %9.1f %8d %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, h.getTotalCount(),
+				throughput(h), errors, timeouts, shed, millis(h, 50.0), millis(h, 90.0), millis(h, 99.0), millis(h, 99.9),
+				h.getMaxValue() / 1000.0);
+	}
+
+	private Map<String, Object> summary(Histogram h, long errors, long timeouts, long shed) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("count", h.getTotalCount());
+		map.put("throughput", throughput(h));
+		map.put("errors", errors);
+		map.put("timeouts", timeouts);
+		map.put("shed", shed);
+		map.put("meanMillis", h.getMean() / 1000.0);
+		for (double p : PERCENTILES) {
+			map.put("p" + String.valueOf(p).replace(".0", "").replace('.', '_') + "Millis", millis(h, p));
+		}
+		map.put("maxMillis", h.getMaxValue() / 1000.0);
+		return map;
+	}
+
+	private double throughput(Histogram h) {
+		return (measuredNanos == 0) ? 0.0 : h.getTotalCount() * 1e9 / measuredNanos;
+	}
+
+	private static double millis(Histogram h, double percentile) {
+		return h.getValueAtPercentile(percentile) / 1000.0;
+	}
+
+	private static class ScenarioStats {
+
+		private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		private final AtomicLong errors = new AtomicLong();
+		private final AtomicLong timeouts = new AtomicLong();
+		private final AtomicLong shed = new AtomicLong();
+	}
+}
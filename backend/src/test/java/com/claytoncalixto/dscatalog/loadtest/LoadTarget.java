@@ -0,0 +1,78 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.boot.json.JacksonJsonParser;
+
+/*
+ * Running application under test: base URL, client credentials and the tokens obtained
+ * the same way TokenUtil does, through the password grant.
+ */
+public class LoadTarget {
+
+	static final String OPERATOR = "alex@gmail.com";
+	static final String ADMIN = "maria@gmail.com";
+	static final String PASSWORD = "123456";
+	static final int PRODUCT_COUNT = 25;
+	static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+	private final String baseUrl;
+	private final String clientId;
+	private final String clientSecret;
+
+	private String operatorToken;
+
+	public LoadTarget(String baseUrl, String clientId, String clientSecret) {
+		this.baseUrl = baseUrl;
+		this.clientId = clientId;
+		this.clientSecret = clientSecret;
+	}
+
+	public void login(HttpClient client) throws Exception {
+		HttpResponse<String> response = client.send(tokenRequest(OPERATOR, PASSWORD), BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+		}
+		operatorToken = new JacksonJsonParser().parseMap(response.body()).get("access_token").toString();
+	}
+
+	public String getBaseUrl() {
+		return baseUrl;
+	}
+
+	public String getOperatorToken() {
+		return operatorToken;
+	}
+
+	HttpRequest.Builder get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Accept", "application/json")
+				.GET();
+	}
+
+	HttpRequest tokenRequest(String username, String password) {
+		String form = "grant_type=password&client_id=" + encode(clientId) + "&username=" + encode(username)
+				+ "&password=" + encode(password);
+		String basic = Base64.getEncoder().encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/oauth/token"))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Authorization", "Basic " + basic)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(BodyPublishers.ofString(form))
+				.build();
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
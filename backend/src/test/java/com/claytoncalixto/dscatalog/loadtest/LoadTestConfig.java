@@ -0,0 +1,66 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Read from system properties so a run can be tuned from the Maven command line, e.g.
+ * -Dloadtest.rate=200 -Dloadtest.mix=search:70,find_by_id:20,write:5,login:5
+ */
+public class LoadTestConfig {
+
+	private final double rate;
+	private final long durationSeconds;
+	private final long warmupSeconds;
+	private final long seed;
+	private final Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+	private final String output;
+
+	public LoadTestConfig() {
+		rate = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+		durationSeconds = Long.parseLong(System.getProperty("loadtest.duration", "30"));
+		warmupSeconds = Long.parseLong(System.getProperty("loadtest.warmup", "10"));
+		seed = Long.parseLong(System.getProperty("loadtest.seed", "42"));
+		output = System.getProperty("loadtest.output", "target/loadtest-result.json");
+		for (String entry : System.getProperty("loadtest.mix", "search:60,find_by_id:25,write:10,login:5").split(",")) {
+			String[] parts = entry.trim().split(":");
+			mix.put(Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+		}
+	}
+
+	public double getRate() {
+		return rate;
+	}
+
+	public long getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	public long getWarmupSeconds() {
+		return warmupSeconds;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public Map<Scenario, Integer> getMix() {
+		return mix;
+	}
+
+	public String getOutput() {
+		return output;
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("rate", rate);
+		map.put("durationSeconds", durationSeconds);
+		map.put("warmupSeconds", warmupSeconds);
+		map.put("seed", seed);
+		map.put("mix", mix);
+		return map;
+	}
+}
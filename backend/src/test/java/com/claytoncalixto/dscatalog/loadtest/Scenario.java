@@ -0,0 +1,54 @@
+package com.claytoncalixto.dscatalog.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.Random;
+
+/*
+ * One kind of request in the traffic mix.
+ */
+public enum Scenario {
+
+	SEARCH {
+		@Override
+		HttpRequest request(LoadTarget target, Random random) {
+			String[] names = {"", "pc", "macbook", "smart", "gamer"};
+			String query = "?page=" + random.nextInt(3) + "&name=" + names[random.nextInt(names.length)]
+					+ "&categoryId=" + random.nextInt(4);
+			return target.get("/products" + query).build();
+		}
+	},
+
+	FIND_BY_ID {
+		@Override
+		HttpRequest request(LoadTarget target, Random random) {
+			return target.get("/products/" + (1 + random.nextInt(LoadTarget.PRODUCT_COUNT))).build();
+		}
+	},
+
+	WRITE {
+		@Override
+		HttpRequest request(LoadTarget target, Random random) {
+			long id = 1 + random.nextInt(LoadTarget.PRODUCT_COUNT);
+			String body = "{\"name\":\"Product " + id + "\",\"description\":\"Updated by the load test\","
+					+ "\"price\":" + (100 + random.nextInt(900)) + ".0,\"imgUrl\":\"https://img.com/img.png\","
+					+ "\"date\":\"2020-07-20T10:00:00Z\",\"categories\":[{\"id\":" + (1 + random.nextInt(3)) + "}]}";
+			return HttpRequest.newBuilder(URI.create(target.getBaseUrl() + "/products/" + id))
+					.timeout(LoadTarget.REQUEST_TIMEOUT)
+					.header("Authorization", "Bearer " + target.getOperatorToken())
+					.header("Content-Type", "application/json")
+					.PUT(BodyPublishers.ofString(body))
+					.build();
+		}
+	},
+
+	LOGIN {
+		@Override
+		HttpRequest request(LoadTarget target, Random random) {
+			return target.tokenRequest(random.nextBoolean() ? LoadTarget.OPERATOR : LoadTarget.ADMIN, LoadTarget.PASSWORD);
+		}
+	};
+
+	abstract HttpRequest request(LoadTarget target, Random random);
+}
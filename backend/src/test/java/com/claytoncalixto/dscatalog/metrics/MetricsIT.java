@@ -0,0 +1,67 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+public class MetricsIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Test
+	public void prometheusShouldExposeHttpPoolHibernateCacheAndJvmMetrics() throws Exception {
+
+		MvcResult mvcResult = mockMvc.perform(get("/products").accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+
+		ResultActions result = mockMvc.perform(get("/actuator/prometheus"));
+
+		result.andExpect(status().isOk());
+		result.andExpect(content().string(containsString("http_server_requests_seconds{application=\"dscatalog\",exception=\"None\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/products\",quantile=\"0.95\",}")));
+		result.andExpect(content().string(containsString("hikaricp_connections_active{application=\"dscatalog\",pool=\"search\",}")));
+		result.andExpect(content().string(containsString("dscatalog_hibernate_statements_per_request_count{application=\"dscatalog\",method=\"GET\",uri=\"/products\",}")));
+		result.andExpect(content().string(containsString("dscatalog_limiter_limit{application=\"dscatalog\",group=\"products\",}")));
+		result.andExpect(content().string(containsString("cache_gets_total{application=\"dscatalog\",cache=\"email-filter\",result=\"hit\",}")));
+		result.andExpect(content().string(containsString("hibernate_sessions_open_total")));
+		result.andExpect(content().string(containsString("jvm_gc_memory_allocated_bytes_total")));
+	}
+
+	@Test
+	public void findAllShouldRecordSessionsAndStatementsOfTheRequest() throws Exception {
+
+		MvcResult mvcResult = mockMvc.perform(get("/products?categoryId=1").accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+
+		DistributionSummary statements = registry.find("dscatalog.hibernate.statements.per.request").tag("uri", "/products").summary();
+		DistributionSummary sessions = registry.find("dscatalog.hibernate.sessions.per.request").tag("uri", "/products").summary();
+
+		Assertions.assertTrue(statements.max() >= 2);
+		Assertions.assertTrue(sessions.max() >= 1);
+	}
+}
@@ -0,0 +1,60 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.tests.TokenUtil;
+
+@SpringBootTest(properties = {"app.server-timing.enabled=true", "app.server-timing.sample-rate=1.0"})
+@AutoConfigureMockMvc
+public class ServerTimingIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Test
+	public void asyncRequestShouldReportEveryPhase() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+
+		MvcResult mvcResult = mockMvc.perform(get("/users")
+					.header("Authorization", "Bearer " + accessToken)
+					.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(header().string(ServerTimingFilter.HEADER, matchesPattern(
+				"security;dur=[\\d.]+, jwt;dur=[\\d.]+, service;dur=[\\d.]+, sql;dur=[\\d.]+;desc=\"[1-9]\\d* statements\", "
+				+ "serialization;dur=[\\d.]+, total;dur=[\\d.]+")));
+	}
+
+	@Test
+	public void failedRequestShouldStillReportTiming() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products/1000").accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(request().asyncStarted());
+		result = mockMvc.perform(asyncDispatch(result.andReturn()));
+
+		result.andExpect(status().isNotFound());
+		result.andExpect(header().string(ServerTimingFilter.HEADER, containsString("service;dur=")));
+	}
+}
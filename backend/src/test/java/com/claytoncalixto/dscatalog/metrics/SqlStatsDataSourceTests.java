@@ -0,0 +1,102 @@
+package com.claytoncalixto.dscatalog.metrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class SqlStatsDataSourceTests {
+
+	private SqlStatistics statistics;
+	private SqlStatsDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		statistics = new SqlStatistics(0L, 100, 10, 0L);
+		dataSource = new SqlStatsDataSource(new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", ""),
+				statistics, Runnable::run);
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+			st.execute("DROP TABLE IF EXISTS item");
+			st.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+			st.executeUpdate("INSERT INTO item VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+		}
+		statistics.reset();
+	}
+
+	@Test
+	public void fingerprintShouldReplaceLiteralsAndCollapseInLists() {
+
+		Assertions.assertEquals("SELECT * FROM item WHERE id = ? AND name = ?",
+				SqlFingerprint.of("SELECT *  FROM item\n WHERE id = 42 AND name = 'it''s'"));
+		Assertions.assertEquals(SqlFingerprint.of("select id from item where id in (1, 2, 3)"),
+				SqlFingerprint.of("select id from item where id in (?, ?)"));
+	}
+
+	@Test
+	public void statisticsShouldMergeStatementsWithSameFingerprintAndCountRows() throws Exception {
+
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+			drain(st.executeQuery("SELECT * FROM item WHERE id > 0"));
+			drain(st.executeQuery("SELECT * FROM item WHERE id > 1"));
+		}
+
+		List<SqlStatistics.Entry> entries = statistics.getEntries();
+		Assertions.assertEquals(1, entries.size());
+		Assertions.assertEquals(2L, entries.get(0).getCalls());
+		Assertions.assertEquals(5L, entries.get(0).getRows());
+	}
+
+	@Test
+	public void slowStatementShouldKeepParametersAndPlan() throws Exception {
+
+		try (Connection con = dataSource.getConnection(); PreparedStatement st = con.prepareStatement("SELECT name FROM item WHERE id = ?")) {
+			st.setLong(1, 2L);
+			drain(st.executeQuery());
+		}
+
+		List<SqlStatistics.SlowSample> samples = statistics.getSlowSamples();
+		Assertions.assertEquals(1, samples.size());
+		Assertions.assertEquals(List.of("2"), samples.get(0).getParameters());
+		Assertions.assertTrue(samples.get(0).getPlan().toUpperCase().contains("ITEM"));
+	}
+
+	@Test
+	public void slowSampleShouldRedactTextParametersAndRecordNulls() throws Exception {
+
+		try (Connection con = dataSource.getConnection();
+				PreparedStatement st = con.prepareStatement("SELECT id FROM item WHERE name = ? OR name = ? OR id = ?")) {
+			st.setString(1, "maria@gmail.com");
+			st.setNull(2, Types.VARCHAR);
+			st.setInt(3, 3);
+			drain(st.executeQuery());
+		}
+
+		SqlStatistics.SlowSample sample = statistics.getSlowSamples().get(0);
+		Assertions.assertEquals(Arrays.asList("<redacted, 15 chars>", "null", "3"), sample.getParameters());
+		Assertions.assertTrue(sample.getPlan().toUpperCase().contains("ITEM"));
+	}
+
+	@Test
+	public void entryShouldBeReusedForSameSql() {
+
+		SqlStatistics.Entry entry = statistics.entry("SELECT * FROM item WHERE id = 1");
+
+		Assertions.assertSame(entry, statistics.entry("SELECT * FROM item WHERE id = 1"));
+		Assertions.assertSame(entry, statistics.entry("SELECT * FROM item WHERE id = 2"));
+	}
+
+	private static void drain(ResultSet rs) throws Exception {
+		try (ResultSet r = rs) {
+			while (r.next()) {
+			}
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package com.claytoncalixto.dscatalog.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.entities.OutboxDeadLetter;
+import com.claytoncalixto.dscatalog.repositories.OutboxDeadLetterRepository;
+import com.claytoncalixto.dscatalog.repositories.OutboxEventRepository;
+import com.claytoncalixto.dscatalog.services.CategoryService;
+import com.claytoncalixto.dscatalog.services.ProductService;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.claytoncalixto.dscatalog.tests.Factory;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:outboxdb", "app.outbox.max-attempts=3"})
+public class OutboxDispatcherIT {
+
+	@Autowired
+	private OutboxDispatcher dispatcher;
+
+	@Autowired
+	private OutboxEventRepository repository;
+
+	@Autowired
+	private OutboxDeadLetterRepository deadLetterRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private Recorder recorder;
+
+	private Long nonExistingId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		nonExistingId = 1000L;
+		dispatcher.dispatch();
+		recorder.events.clear();
+		recorder.failOn = null;
+	}
+
+	@Test
+	public void writesShouldBeDeliveredInOrderWithTheirVersions() {
+
+		CategoryDTO category = categoryService.insert(new CategoryDTO(null, "Outbox category"));
+		categoryService.update(category.getId(), new CategoryDTO(category.getId(), "Outbox category renamed"));
+		ProductDTO dto = Factory.createProductDTO();
+		dto.setId(null);
+		dto.getCategories().clear();
+		dto.getCategories().add(category);
+		Long productId = productService.insert(dto).getId();
+		dto.setName("Outbox product");
+		productService.update(productId, dto);
+		productService.delete(productId);
+		categoryService.delete(category.getId());
+
+		Assertions.assertTrue(recorder.events.isEmpty());
+		Assertions.assertTrue(dispatcher.getLagMillis() >= 0);
+		Assertions.assertEquals(6, dispatcher.dispatch());
+
+		Assertions.assertEquals(List.of(
+				"CATEGORY " + category.getId() + " 0 CREATED",
+				"CATEGORY " + category.getId() + " 1 UPDATED",
+				"PRODUCT " + productId + " 0 CREATED",
+				"PRODUCT " + productId + " 1 UPDATED",
+				"PRODUCT " + productId + " 1 DELETED",
+				"CATEGORY " + category.getId() + " 1 DELETED"), describe(recorder.events));
+		Assertions.assertEquals(0, repository.count());
+		Assertions.assertEquals(0L, dispatcher.getLagMillis());
+	}
+
+	@Test
+	public void rolledBackWritesShouldNotProduceEvents() {
+
+		Assertions.assertThrows(ResourceNotFoundException.class,
+				() -> productService.update(nonExistingId, Factory.createProductDTO()));
+		Assertions.assertThrows(ResourceNotFoundException.class, () -> categoryService.delete(nonExistingId));
+
+		Assertions.assertEquals(0, repository.count());
+		Assertions.assertEquals(0, dispatcher.dispatch());
+	}
+
+	@Test
+	public void failingListenerShouldGetEventsRedelivered() {
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			ids.add(categoryService.insert(new CategoryDTO(null, "Outbox retry " + i)).getId());
+		}
+		recorder.failOn = ids.get(1);
+		long failures = dispatcher.getFailures();
+
+		Assertions.assertEquals(1, dispatcher.dispatch());
+		Assertions.assertEquals(failures + 1, dispatcher.getFailures());
+		Assertions.assertEquals(2, repository.count());
+		Assertions.assertTrue(dispatcher.getLagMillis() >= 0);
+
+		recorder.failOn = null;
+		Assertions.assertEquals(2, dispatcher.dispatch());
+		Assertions.assertEquals(List.of(ids.get(0), ids.get(1), ids.get(1), ids.get(2)),
+				recorder.events.stream().map(CatalogChangeEvent::getEntityId).collect(Collectors.toList()));
+		Assertions.assertEquals(0, repository.count());
+
+		ids.forEach(x -> categoryService.delete(x));
+		dispatcher.dispatch();
+	}
+
+	@Test
+	public void eventFailingMaxAttemptsShouldBeMovedToDeadLetters() {
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			ids.add(categoryService.insert(new CategoryDTO(null, "Outbox dead letter " + i)).getId());
+		}
+		recorder.failOn = ids.get(0);
+		long deadLetters = dispatcher.getDeadLetters();
+
+		Assertions.assertEquals(0, dispatcher.dispatch());
+		Assertions.assertEquals(0, dispatcher.dispatch());
+		Assertions.assertEquals(2, repository.count());
+		Assertions.assertEquals(1, dispatcher.dispatch());
+
+		Assertions.assertEquals(0, repository.count());
+		Assertions.assertEquals(deadLetters + 1, dispatcher.getDeadLetters());
+		List<OutboxDeadLetter> parked = deadLetterRepository.findAll();
+		Assertions.assertEquals(1, parked.size());
+		Assertions.assertEquals(ids.get(0), parked.get(0).getEntityId());
+		Assertions.assertEquals(3, parked.get(0).getAttempts());
+		Assertions.assertTrue(parked.get(0).getError().contains("Listener failed"));
+		Assertions.assertEquals(ids.get(1), recorder.events.get(recorder.events.size() - 1).getEntityId());
+
+		recorder.failOn = null;
+		deadLetterRepository.deleteAll();
+		ids.forEach(x -> categoryService.delete(x));
+		dispatcher.dispatch();
+	}
+
+	@Test
+	public void lagShouldBeAgeOfOldestEventInTheTable() {
+
+		Assertions.assertEquals(0L, dispatcher.getLagMillis());
+		Long id = categoryService.insert(new CategoryDTO(null, "Outbox lag")).getId();
+		jdbcTemplate.update("UPDATE tb_outbox_event SET created_at = DATEADD('HOUR', -1, created_at)");
+
+		long lag = dispatcher.getLagMillis();
+		Assertions.assertTrue(lag >= 3_600_000L && lag < 3_660_000L, () -> "lag " + lag);
+
+		dispatcher.dispatch();
+		Assertions.assertEquals(0L, dispatcher.getLagMillis());
+		categoryService.delete(id);
+		dispatcher.dispatch();
+	}
+
+	private static List<String> describe(List<CatalogChangeEvent> events) {
+		return events.stream()
+				.map(x -> x.getEntity() + " " + x.getEntityId() + " " + x.getEntityVersion() + " " + x.getOperation())
+				.collect(Collectors.toList());
+	}
+
+	public static class Recorder {
+
+		private final List<CatalogChangeEvent> events = new ArrayList<>();
+		private Long failOn;
+
+		@EventListener
+		public void onChange(CatalogChangeEvent event) {
+			events.add(event);
+			if (event.getEntityId().equals(failOn)) {
+				throw new IllegalStateException("Listener failed on " + event);
+			}
+		}
+	}
+
+	@TestConfiguration
+	static class RecorderConfig {
+
+		@Bean
+		public Recorder recorder() {
+			return new Recorder();
+		}
+	}
+}
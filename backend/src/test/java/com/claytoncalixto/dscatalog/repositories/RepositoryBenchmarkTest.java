@@ -0,0 +1,292 @@
+package com.claytoncalixto.dscatalog.repositories;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.entities.Category;
+import com.claytoncalixto.dscatalog.entities.Product;
+import com.claytoncalixto.dscatalog.seed.CatalogGenerator;
+import com.claytoncalixto.dscatalog.services.ProductListingService;
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/*
+ * Seeds its own H2 database at each configured size and times the repository queries the
+ * API relies on. Besides latency, the statements each query needs are counted and replayed
+ * once under EXPLAIN ANALYZE: the report lists the tables read by full scan and the rows
+ * H2 counted (it only reports them for the driving table of a join), and the JSON keeps the
+ * plans, so a change that turns an index lookup into a scan shows up even at small sizes.
+ * Excluded from the regular build; run with
+ * mvn -Pperf test -Dtest=RepositoryBenchmarkTest -Dbenchmark.sizes=10000,100000,1000000
+ * and compare target/repository-benchmark.json between commits.
+ */
+@Tag("perf")
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:benchmarkdb", "spring.jpa.show-sql=false" })
+public class RepositoryBenchmarkTest {
+
+	private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+	private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+
+	/* Rows created by the test seed migration, kept between sizes */
+	private static final long SEED_PRODUCTS = 25L;
+	private static final long SEED_CATEGORIES = 3L;
+	private static final long SEED_USERS = 2L;
+
+	private static final int PAGE_SIZE = 12;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductListingRepository listingRepository;
+
+	@Autowired
+	private ProductListingService listingService;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnly;
+
+	private final int warmup = Integer.getInteger("benchmark.warmup", 5);
+	private final int iterations = Integer.getInteger("benchmark.iterations", 20);
+
+	@Test
+	public void benchmarkQueriesAtEachSize() throws Exception {
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		List<Result> results = new ArrayList<>();
+		for (String size : System.getProperty("benchmark.sizes", "10000,100000,1000000").split(",")) {
+			int products = Integer.parseInt(size.trim());
+			reseed(products);
+			for (Query query : queries()) {
+				results.add(measure(products, query));
+			}
+		}
+
+		System.out.println(table(results));
+		File output = new File(System.getProperty("benchmark.output", "target/repository-benchmark.json"));
+		List<Map<String, Object>> json = new ArrayList<>();
+		results.forEach(x -> json.add(x.toMap()));
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, json);
+		System.out.println("Repository benchmark saved to " + output.getAbsolutePath());
+
+		results.forEach(x -> Assertions.assertTrue(x.statements > 0, x.query));
+	}
+
+	private void reseed(int products) {
+		jdbcTemplate.update("DELETE FROM tb_product_category WHERE product_id > ? OR category_id > ?", SEED_PRODUCTS, SEED_CATEGORIES);
+		jdbcTemplate.update("DELETE FROM tb_product WHERE id > ?", SEED_PRODUCTS);
+		jdbcTemplate.update("DELETE FROM tb_category WHERE id > ?", SEED_CATEGORIES);
+		jdbcTemplate.update("DELETE FROM tb_user_role WHERE user_id > ?", SEED_USERS);
+		jdbcTemplate.update("DELETE FROM tb_user WHERE id > ?", SEED_USERS);
+
+		CatalogGenerator generator = new CatalogGenerator(dataSource, Math.max(2, Runtime.getRuntime().availableProcessors()), 1000, 42L);
+		generator.setMedianDescriptionWords(20);
+		generator.generate(30, products, Math.max(1, products / 10));
+		listingService.rebuildAll();
+	}
+
+	private List<Query> queries() {
+		long total = productRepository.count();
+		Category topCategory = category("DESC");
+		Category tailCategory = category("ASC");
+		List<Category> top = List.of(topCategory);
+		List<Category> tail = List.of(tailCategory);
+		int deepPage = (int) (total / PAGE_SIZE * 9 / 10);
+		String email = jdbcTemplate.queryForObject("SELECT email FROM tb_user ORDER BY id DESC LIMIT 1", String.class);
+		List<Product> firstPage = readOnly.execute(status -> productRepository.find(null, "", page(0, "name")).getContent());
+
+		List<Query> list = new ArrayList<>();
+		for (String orderBy : List.of("name", "price", "date", "id")) {
+			list.add(new Query("find orderBy=" + orderBy, () -> productRepository.find(null, "", page(0, orderBy))));
+		}
+		list.add(new Query("find name=smart", () -> productRepository.find(null, "smart", page(0, "name"))));
+		list.add(new Query("find name=<no match>", () -> productRepository.find(null, "zzzz", page(0, "name"))));
+		list.add(new Query("find category=top", () -> productRepository.find(top, "", page(0, "name"))));
+		list.add(new Query("find category=tail", () -> productRepository.find(tail, "", page(0, "name"))));
+		list.add(new Query("find category=top name=smart", () -> productRepository.find(top, "smart", page(0, "name"))));
+		list.add(new Query("find page=" + deepPage, () -> productRepository.find(null, "", page(deepPage, "name"))));
+		for (String orderBy : List.of("name", "price", "date", "id")) {
+			list.add(new Query("listing orderBy=" + orderBy, () -> listingRepository.findByCategory(0L, page(0, orderBy))));
+		}
+		list.add(new Query("listing name=smart", () -> listingRepository.find(0L, "smart", page(0, "name"))));
+		list.add(new Query("listing category=top", () -> listingRepository.findByCategory(topCategory.getId(), page(0, "name"))));
+		list.add(new Query("listing category=tail", () -> listingRepository.find(tailCategory.getId(), "", page(0, "name"))));
+		list.add(new Query("listing page=" + deepPage, () -> listingRepository.find(0L, "", page(deepPage, "name"))));
+		list.add(new Query("findProductsWithCategories", () -> productRepository.findProductsWithCategories(firstPage)));
+		list.add(new Query("category findAll page=0", () -> categoryRepository.findAll(page(0, "name"))));
+		list.add(new Query("user findByEmail hit", () -> userRepository.findByEmail(email)));
+		list.add(new Query("user findByEmail miss", () -> userRepository.findByEmail("nobody@example.com")));
+		return list;
+	}
+
+	private Category category(String direction) {
+		Long id = jdbcTemplate.queryForObject("SELECT category_id FROM tb_product_category GROUP BY category_id "
+				+ "ORDER BY COUNT(*) " + direction + ", category_id LIMIT 1", Long.class);
+		return categoryRepository.findById(id).get();
+	}
+
+	private static PageRequest page(int page, String orderBy) {
+		return PageRequest.of(page, PAGE_SIZE, Direction.ASC, orderBy);
+	}
+
+	private Result measure(int size, Query query) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			run(query);
+		}
+		Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			run(query);
+			histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+		}
+
+		queryCounter.reset();
+		run(query);
+		List<QueryCounter.Execution> executions = queryCounter.getExecutions();
+		Result result = new Result(size, query.name, histogram, executions.size());
+		for (QueryCounter.Execution execution : executions) {
+			String plan = explain(execution);
+			if (plan == null) {
+				continue;
+			}
+			result.plans.add(plan);
+			Matcher scanCount = SCAN_COUNT.matcher(plan);
+			while (scanCount.find()) {
+				result.rowsScanned += Long.parseLong(scanCount.group(1));
+			}
+			Matcher tableScan = TABLE_SCAN.matcher(plan);
+			while (tableScan.find()) {
+				result.tableScans.add(tableScan.group(1).toLowerCase(Locale.ROOT));
+			}
+		}
+		return result;
+	}
+
+	private void run(Query query) {
+		readOnly.executeWithoutResult(status -> query.action.run());
+	}
+
+	private String explain(QueryCounter.Execution execution) throws Exception {
+		if (!execution.getSql().trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+			return null;
+		}
+		try (Connection con = dataSource.getConnection();
+				PreparedStatement st = con.prepareStatement("EXPLAIN ANALYZE " + execution.getSql())) {
+			List<Object> parameters = execution.getParameters();
+			for (int i = 0; i < parameters.size(); i++) {
+				st.setObject(i + 1, parameters.get(i));
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rs = st.executeQuery()) {
+				while (rs.next()) {
+					plan.append(rs.getString(1));
+				}
+			}
+			return plan.toString();
+		}
+	}
+
+	private static String table(List<Result> results) {
+		StringBuilder sb = new StringBuilder(String.format("%10s  %-36s %9s %9s %9s %10s %12s  %s%n",
+				"rows", "query", "p50 ms", "p95 ms", "mean ms", "statements", "rows scanned", "full scans"));
+		for (Result r : results) {
+			sb.append(String.format("%10d  %-36s %9.2f %9.2f %9.2f %10d %12d  %s%n", r.size, r.query,
+					millis(r.histogram.getValueAtPercentile(50.0)), millis(r.histogram.getValueAtPercentile(95.0)),
+					r.histogram.getMean() / 1000.0, r.statements, r.rowsScanned, String.join(",", r.tableScans)));
+		}
+		return sb.toString();
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static class Query {
+
+		private final String name;
+		private final Runnable action;
+
+		Query(String name, Runnable action) {
+			this.name = name;
+			this.action = action;
+		}
+	}
+
+	private static class Result {
+
+		private final int size;
+		private final String query;
+		private final Histogram histogram;
+		private final int statements;
+		private final Set<String> tableScans = new TreeSet<>();
+		private final List<String> plans = new ArrayList<>();
+		private long rowsScanned;
+
+		Result(int size, String query, Histogram histogram, int statements) {
+			this.size = size;
+			this.query = query;
+			this.histogram = histogram;
+			this.statements = statements;
+		}
+
+		Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("rows", size);
+			map.put("query", query);
+			map.put("p50Millis", millis(histogram.getValueAtPercentile(50.0)));
+			map.put("p95Millis", millis(histogram.getValueAtPercentile(95.0)));
+			map.put("meanMillis", histogram.getMean() / 1000.0);
+			map.put("maxMillis", millis(histogram.getMaxValue()));
+			map.put("statements", statements);
+			map.put("rowsScanned", rowsScanned);
+			map.put("fullScans", tableScans);
+			map.put("plans", plans);
+			return map;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.tests.TokenUtil;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AdminResourceIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	private String username;
+	private String password;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		username = "maria@gmail.com";
+		password = "123456";
+	}
+
+	@Test
+	public void findPoolStatsShouldReturnEveryWorkloadPool() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result =
+				mockMvc.perform(get("/admin/pools")
+					.header("Authorization", "Bearer " + accessToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$[?(@.name == 'primary')]").exists());
+		result.andExpect(jsonPath("$[?(@.name == 'search')].maximumPoolSize").value(10));
+		result.andExpect(jsonPath("$[?(@.name == 'write')].maximumPoolSize").value(5));
+		result.andExpect(jsonPath("$[?(@.name == 'auth')].maximumPoolSize").value(3));
+		result.andExpect(jsonPath("$[?(@.name == 'auth')].saturation").exists());
+	}
+
+	@Test
+	public void findPoolStatsShouldReturnUnauthorizedWhenNoToken() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/admin/pools")
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	public void findLimiterStatsShouldReturnEveryRouteGroup() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result =
+				mockMvc.perform(get("/admin/limits")
+					.header("Authorization", "Bearer " + accessToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$[*].name").value(contains("products", "categories", "users", "auth")));
+		result.andExpect(jsonPath("$[?(@.name == 'auth')].accepted").value(hasItem(greaterThan(0))));
+	}
+
+	@Test
+	public void findSqlStatsShouldReturnFingerprintsOfExecutedStatements() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result =
+				mockMvc.perform(get("/admin/sql-stats")
+					.header("Authorization", "Bearer " + accessToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$[?(@.fingerprint =~ /.*tb_user.*/)].calls").value(hasItem(greaterThan(0))));
+	}
+
+	@Test
+	public void recordJfrShouldStreamFlightRecording() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		MvcResult mvcResult =
+				mockMvc.perform(get("/admin/jfr?seconds=1&settings=default")
+					.header("Authorization", "Bearer " + accessToken))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM));
+		byte[] body = result.andReturn().getResponse().getContentAsByteArray();
+		Assertions.assertEquals("FLR", new String(body, 0, 3, StandardCharsets.US_ASCII));
+		Assertions.assertEquals(0, new File(System.getProperty("java.io.tmpdir"))
+				.list((dir, name) -> name.startsWith("dscatalog-") && name.endsWith(".jfr")).length);
+	}
+
+	@Test
+	public void recordJfrShouldReturnBadRequestWhenSettingsAreUnknown() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result =
+				mockMvc.perform(get("/admin/jfr?seconds=1&settings=nonexistent")
+					.header("Authorization", "Bearer " + accessToken));
+
+		result.andExpect(status().isBadRequest());
+	}
+}
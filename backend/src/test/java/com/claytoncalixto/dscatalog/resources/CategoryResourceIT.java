@@ -0,0 +1,84 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CategoryResourceIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private Long existingId;
+	private Long countTotalCategories;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		existingId = 1L;
+		countTotalCategories = 3L;
+	}
+
+	@Test
+	public void findAllShouldReturnPageWithSingleStatement() throws Exception {
+
+		queryCounter.reset();
+		MvcResult mvcResult =
+				mockMvc.perform(get("/categories")
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.totalElements").value(countTotalCategories));
+		queryCounter.assertAtMost(1);
+	}
+
+	@Test
+	public void findByIdShouldReturnCategoryWithSingleStatement() throws Exception {
+
+		queryCounter.reset();
+		MvcResult mvcResult =
+				mockMvc.perform(get("/categories/{id}", existingId)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.id").value(existingId));
+		queryCounter.assertAtMost(1);
+	}
+
+	@Test
+	public void findAllStatsShouldReturnEveryCategoryWithoutStatements() throws Exception {
+
+		queryCounter.reset();
+		ResultActions result =
+				mockMvc.perform(get("/categories/stats")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(countTotalCategories));
+		result.andExpect(jsonPath("$[0].productCount").exists());
+		queryCounter.assertExactly(0);
+	}
+}
@@ -1,8 +1,10 @@
 package com.claytoncalixto.dscatalog.resources;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +14,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
 import com.claytoncalixto.dscatalog.tests.Factory;
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
 import com.claytoncalixto.dscatalog.tests.TokenUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -34,6 +38,9 @@ public class ProductResourceIT {
 	@Autowired 
 	private TokenUtil tokenUtil;
 	
+	@Autowired
+	private QueryCounter queryCounter;
+	
 	private Long existingId;
 	private Long nonExistingId;
 	private Long countTotalProducts;
@@ -56,15 +63,47 @@ public class ProductResourceIT {
 	@Test
 	public void findAllShouldReturnSortedPageWhenSortByName() throws Exception{
 		
-		ResultActions result = 
+		queryCounter.reset();
+		MvcResult mvcResult = 
 				mockMvc.perform(get("/products?page=0&size=12&sort=name,asc")
-				.accept(MediaType.APPLICATION_JSON));
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
 		result.andExpect(status().isOk());
 		result.andExpect(jsonPath("$.totalElements").value(countTotalProducts));
 		result.andExpect(jsonPath("$.content").exists());
 		result.andExpect(jsonPath("$.content[0].name").value("Macbook Pro"));
 		result.andExpect(jsonPath("$.content[1].name").value("PC Gamer"));
 		result.andExpect(jsonPath("$.content[2].name").value("PC Gamer Alfa"));
+		queryCounter.assertAtMost(3);
+	}
+	
+	@Test
+	public void findAllShouldNotLoadCategoriesPerProduct() throws Exception{
+		
+		queryCounter.reset();
+		MvcResult mvcResult = 
+				mockMvc.perform(get("/products?page=0&linesPerPage=25")
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content[24].categories").exists());
+		queryCounter.assertAtMost(3);
+	}
+	
+	@Test
+	public void findByIdShouldLoadProductAndCategoriesOnly() throws Exception{
+		
+		queryCounter.reset();
+		MvcResult mvcResult = 
+				mockMvc.perform(get("/products/{id}", existingId)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.categories").exists());
+		queryCounter.assertAtMost(2);
 	}
 	
 	@Test
@@ -76,6 +115,8 @@ public class ProductResourceIT {
 
 		String jsonBody = objectMapper.writeValueAsString(productDTO);
 		
+		queryCounter.reset();
+		
 		String expectedName = productDTO.getName();
 		String expectedDescription = productDTO.getDescription();
 
@@ -90,6 +131,7 @@ public class ProductResourceIT {
 		result.andExpect(jsonPath("$.id").value(existingId));
 		result.andExpect(jsonPath("$.name").value(expectedName));
 		result.andExpect(jsonPath("$.description").value(expectedDescription));
+		queryCounter.assertAtMost(11);
 	}
 	
 	@Test
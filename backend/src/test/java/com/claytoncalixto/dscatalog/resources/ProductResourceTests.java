@@ -3,13 +3,17 @@ package com.claytoncalixto.dscatalog.resources;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -20,9 +24,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
@@ -52,6 +58,7 @@ public class ProductResourceTests {
 	private Long existsId;
 	private Long nonExistsId;
 	private Long dependentId;
+	private Long slowId;
 	private ProductDTO productDTO;
 	private PageImpl<ProductDTO> page;
 	
@@ -67,6 +74,7 @@ public class ProductResourceTests {
 		existsId = 1L;
 		nonExistsId = 1000L;
 		dependentId = 3L;
+		slowId = 4L;
 
 		productDTO = Factory.createProductDTO();
 		page = new PageImpl<>(List.of(productDTO));
@@ -75,6 +83,7 @@ public class ProductResourceTests {
 
 		when(service.findById(existsId)).thenReturn(productDTO);
 		when(service.findById(nonExistsId)).thenThrow(ResourceNotFoundException.class);
+		when(service.findById(slowId)).thenThrow(QueryTimeoutException.class);
 
 		when(service.update(eq(existsId), any())).thenReturn(productDTO);
 		when(service.update(eq(nonExistsId), any())).thenThrow(ResourceNotFoundException.class);
@@ -175,7 +184,9 @@ public class ProductResourceTests {
 
 	@Test
 	public void findAllShouldReturnPage() throws Exception {
-		ResultActions result = mocMvc.perform(get("/products").accept(MediaType.APPLICATION_JSON));
+		MvcResult mvcResult = mocMvc.perform(get("/products").accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mocMvc.perform(asyncDispatch(mvcResult));
 
 		result.andExpect(status().isOk());
 	}
@@ -183,7 +194,9 @@ public class ProductResourceTests {
 	@Test
 	public void findByIdShouldReturnProductWhenIdExists() throws Exception {
 
-		ResultActions result = mocMvc.perform(get("/products/{id}", existsId).accept(MediaType.APPLICATION_JSON));
+		MvcResult mvcResult = mocMvc.perform(get("/products/{id}", existsId).accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mocMvc.perform(asyncDispatch(mvcResult));
 		result.andExpect(status().isOk());
 		result.andExpect(jsonPath("$.id").exists());
 		result.andExpect(jsonPath("$.name").exists());
@@ -193,8 +206,30 @@ public class ProductResourceTests {
 	@Test
 	public void findByIdShouldReturnResourceNotFoundExceptionWhenDoesNotIdExists() throws Exception {
 
-		ResultActions result = mocMvc.perform(get("/products/{id}", nonExistsId).accept(MediaType.APPLICATION_JSON));
+		MvcResult mvcResult = mocMvc.perform(get("/products/{id}", nonExistsId).accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mocMvc.perform(asyncDispatch(mvcResult));
 		result.andExpect(status().isNotFound());
 	}
 
+	@Test
+	public void findByIdShouldReturnServiceUnavailableWhenQueryTimesOut() throws Exception {
+
+		MvcResult mvcResult = mocMvc.perform(get("/products/{id}", slowId).accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mocMvc.perform(asyncDispatch(mvcResult));
+		result.andExpect(status().isServiceUnavailable());
+		result.andExpect(jsonPath("$.error").value("Query timeout"));
+	}
+
+	@Test
+	public void findAllShouldCapLinesPerPage() throws Exception {
+
+		MvcResult mvcResult = mocMvc.perform(get("/products?linesPerPage=10000").accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mocMvc.perform(asyncDispatch(mvcResult));
+		result.andExpect(status().isOk());
+
+		verify(service).findAllPaged(any(), any(), argThat(pageable -> pageable.getPageSize() == 100));
+	}
 }
@@ -0,0 +1,64 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StatisticsResourceIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private Long existingId;
+	private Long nonExistingId;
+	private Long countTotalProducts;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		existingId = 1L;
+		nonExistingId = 1000L;
+		countTotalProducts = 25L;
+	}
+
+	@Test
+	public void findPricesShouldReturnQuantilesWithoutStatements() throws Exception {
+
+		queryCounter.reset();
+		ResultActions result =
+				mockMvc.perform(get("/statistics/prices")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.overall.count").value(countTotalProducts));
+		result.andExpect(jsonPath("$.overall.p50").exists());
+		result.andExpect(jsonPath("$.categories[0].categoryId").value(existingId));
+		queryCounter.assertExactly(0);
+	}
+
+	@Test
+	public void findPricesByCategoryShouldReturnNotFoundWhenIdDoesNotExist() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/statistics/prices/{categoryId}", nonExistingId)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isNotFound());
+	}
+}
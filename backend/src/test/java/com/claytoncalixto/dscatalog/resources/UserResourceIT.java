@@ -0,0 +1,91 @@
+package com.claytoncalixto.dscatalog.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+import com.claytoncalixto.dscatalog.tests.TokenUtil;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserResourceIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private Long existingId;
+	private String username;
+	private String password;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		existingId = 1L;
+		username = "maria@gmail.com";
+		password = "123456";
+	}
+
+	@Test
+	public void findAllShouldNotLoadRolesPerUser() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		queryCounter.reset();
+		MvcResult mvcResult =
+				mockMvc.perform(get("/users")
+				.header("Authorization", "Bearer " + accessToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content[1].roles").exists());
+		queryCounter.assertAtMost(2);
+	}
+
+	@Test
+	public void findByIdShouldReturnUserWithSingleStatement() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		queryCounter.reset();
+		MvcResult mvcResult =
+				mockMvc.perform(get("/users/{id}", existingId)
+				.header("Authorization", "Bearer " + accessToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.id").value(existingId));
+		queryCounter.assertAtMost(1);
+	}
+
+	@Test
+	public void obtainAccessTokenShouldExecuteAtMostFourStatements() throws Exception {
+
+		queryCounter.reset();
+		tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		queryCounter.assertAtMost(4);
+	}
+}
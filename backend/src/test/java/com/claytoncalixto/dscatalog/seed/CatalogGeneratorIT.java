@@ -0,0 +1,98 @@
+package com.claytoncalixto.dscatalog.seed;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.repositories.UserRepository;
+import com.claytoncalixto.dscatalog.services.ProductService;
+import com.claytoncalixto.dscatalog.tests.Factory;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:generatordb")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CatalogGeneratorIT {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ProductService service;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private int categories;
+	private int products;
+	private int users;
+
+	@BeforeAll
+	void generate() {
+
+		categories = 40;
+		products = 5000;
+		users = 500;
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		new CatalogGenerator(dataSource, 4, 200, 42L).generate(categories, products, users);
+	}
+
+	@Test
+	public void generateShouldAppendRowsToSeedData() {
+
+		Assertions.assertEquals(3L + categories, categoryRepository.count());
+		Assertions.assertEquals(25L + products, productRepository.count());
+		Assertions.assertEquals(2L + users, userRepository.count());
+	}
+
+	@Test
+	public void generateShouldLinkEveryProductToACategoryWithSkew() {
+
+		Long linked = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT product_id) FROM tb_product_category", Long.class);
+		Assertions.assertEquals(25L + products, linked);
+
+		List<Long> counts = jdbcTemplate.queryForList("SELECT COUNT(*) FROM tb_product_category pc "
+				+ "WHERE pc.category_id > 3 GROUP BY pc.category_id ORDER BY pc.category_id", Long.class);
+		Assertions.assertTrue(counts.get(0) > 10 * counts.get(counts.size() - 1));
+	}
+
+	@Test
+	public void generateShouldUseAccentedVocabulary() {
+
+		Long accented = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_product WHERE id > 25 AND "
+				+ "(description LIKE '%ã%' OR description LIKE '%ç%' OR description LIKE '%é%')", Long.class);
+		Assertions.assertTrue(accented > products / 2);
+		Assertions.assertNotNull(userRepository.findByEmail("alex@gmail.com"));
+	}
+
+	@Test
+	public void insertShouldStillWorkAfterGeneratedIds() {
+
+		ProductDTO dto = Factory.createProductDTO();
+		dto.setId(null);
+		ProductDTO result = service.insert(dto);
+
+		Assertions.assertTrue(result.getId() > 25L + products);
+		Assertions.assertFalse(service.findAllPaged(0L, "", PageRequest.of(0, 10)).isEmpty());
+	}
+}
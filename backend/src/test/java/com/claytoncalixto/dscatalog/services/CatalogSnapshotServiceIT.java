@@ -0,0 +1,226 @@
+package com.claytoncalixto.dscatalog.services;
+
+import static com.claytoncalixto.dscatalog.tests.CatalogFixture.describe;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.claytoncalixto.dscatalog.components.CatalogSnapshot;
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.invalidation.CacheInvalidationEvent;
+import com.claytoncalixto.dscatalog.invalidation.InvalidationType;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.tests.CatalogFixture;
+import com.claytoncalixto.dscatalog.tests.Factory;
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:catalogsnapshotdb", "app.catalog-snapshot.enabled=true"})
+@AutoConfigureMockMvc
+public class CatalogSnapshotServiceIT {
+
+	@Autowired
+	private CatalogSnapshotService snapshotService;
+
+	@Autowired
+	private ProductListingService listingService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private CatalogFixture fixture;
+	private Long categoryId;
+	private String categoryName;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		fixture = new CatalogFixture(productService, categoryService);
+		categoryId = fixture.getCategoryId();
+		categoryName = fixture.getCategoryName();
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		fixture.restore();
+	}
+
+	@Test
+	public void findProductsShouldMatchDatabaseWithoutStatements() {
+
+		Assertions.assertTrue(snapshotService.isServing());
+		for (Long category : List.of(0L, categoryId)) {
+			for (String orderBy : List.of("name", "price", "date", "id")) {
+				for (String name : List.of("", "pc")) {
+					/* The snapshot breaks ties by id; the database only does when asked to */
+					PageRequest pageRequest = PageRequest.of(0, 10, Direction.ASC, orderBy);
+					Page<ProductDTO> expected = listingService.findAllPaged(category, name,
+							PageRequest.of(0, 10, Sort.by(orderBy).and(Sort.by("id"))));
+					queryCounter.reset();
+					Page<ProductDTO> actual = snapshotService.findProducts(category, name, pageRequest).get();
+					queryCounter.assertExactly(0);
+					Assertions.assertEquals(describe(expected), describe(actual), category + " " + orderBy + " '" + name + "'");
+				}
+			}
+		}
+		Assertions.assertTrue(snapshotService.findProducts(0L, "", PageRequest.of(0, 10, Direction.ASC, "description")).isEmpty());
+		Assertions.assertTrue(snapshotService.findProduct(1000L).isEmpty());
+	}
+
+	@Test
+	public void findAllShouldBeServedWithoutStatements() throws Exception {
+
+		queryCounter.reset();
+		MvcResult mvcResult =
+				mockMvc.perform(get("/products?categoryId={id}&orderBy=price", categoryId)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.totalElements").value(snapshotService.getSnapshot()
+				.findProducts(categoryId, "", PageRequest.of(0, 1, Direction.ASC, "price")).get().getTotalElements()));
+		queryCounter.assertExactly(0);
+	}
+
+	@Test
+	public void findByIdShouldReturnNotFoundWhenSnapshotMisses() throws Exception {
+
+		MvcResult mvcResult =
+				mockMvc.perform(get("/products/{id}", 1000L)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted()).andReturn();
+		ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+		result.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void writesShouldBePublishedAfterCommit() {
+
+		long version = snapshotService.getSnapshot().getVersion();
+		ProductDTO dto = Factory.createProductDTO(categoryId);
+		dto.setName("Snapshot product");
+		Long insertedId = fixture.insert(dto);
+
+		ProductDTO published = snapshotService.findProduct(insertedId).get();
+		Assertions.assertEquals("Snapshot product", published.getName());
+		Assertions.assertEquals(categoryName, published.getCategories().get(0).getName());
+		Assertions.assertEquals(1, snapshotService.findProducts(categoryId, "snapshot", PageRequest.of(0, 10, Direction.ASC, "name"))
+				.get().getTotalElements());
+
+		categoryService.update(categoryId, new CategoryDTO(categoryId, "Snapshot category"));
+		Assertions.assertEquals("Snapshot category", snapshotService.findCategory(categoryId).get().getName());
+		Assertions.assertEquals("Snapshot category", snapshotService.findProduct(insertedId).get().getCategories().get(0).getName());
+
+		fixture.delete();
+		Assertions.assertTrue(snapshotService.findProduct(insertedId).isEmpty());
+		Assertions.assertEquals(0, snapshotService.findProducts(categoryId, "snapshot", PageRequest.of(0, 10, Direction.ASC, "name"))
+				.get().getTotalElements());
+		Assertions.assertTrue(snapshotService.getSnapshot().getVersion() > version);
+	}
+
+	@Test
+	public void reloadShouldPickUpRowsWrittenOutsideTheServices() {
+
+		jdbcTemplate.update("UPDATE tb_product SET price = 1.5 WHERE id = 1");
+		CatalogSnapshot before = snapshotService.getSnapshot();
+
+		CatalogSnapshot after = snapshotService.reload();
+
+		Assertions.assertSame(after, snapshotService.getSnapshot());
+		Assertions.assertEquals(1.5, snapshotService.findProduct(1L).get().getPrice());
+		Assertions.assertEquals(90.5, before.findProduct(1L).getPrice());
+		Assertions.assertEquals(before.getProductCount(), after.getProductCount());
+		jdbcTemplate.update("UPDATE tb_product SET price = 90.5 WHERE id = 1");
+		snapshotService.reload();
+	}
+
+	@Test
+	public void failedReadShouldServeFromDatabaseUntilReload() {
+
+		CatalogSnapshotService target = AopTestUtils.getTargetObject(snapshotService);
+		ProductRepository repository = (ProductRepository) ReflectionTestUtils.getField(target, "productRepository");
+		ProductRepository failing = Mockito.mock(ProductRepository.class);
+		Mockito.when(failing.findWithCategoriesByIds(ArgumentMatchers.any()))
+				.thenThrow(new DataAccessResourceFailureException("Connection refused"));
+		ReflectionTestUtils.setField(target, "productRepository", failing);
+		try {
+			snapshotService.onInvalidation(new CacheInvalidationEvent(InvalidationType.PRODUCT, Set.of(1L)));
+		}
+		finally {
+			ReflectionTestUtils.setField(target, "productRepository", repository);
+		}
+
+		Assertions.assertFalse(snapshotService.isServing());
+		Assertions.assertTrue(snapshotService.findProduct(1L).isEmpty());
+		snapshotService.reload();
+		Assertions.assertTrue(snapshotService.isServing());
+		Assertions.assertTrue(snapshotService.findProduct(1L).isPresent());
+	}
+
+	@Test
+	public void concurrentReloadsShouldPublishIncreasingVersions() throws Exception {
+
+		long version = snapshotService.getSnapshot().getVersion();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<CatalogSnapshot>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> snapshotService.reload()));
+			}
+			for (Future<CatalogSnapshot> future : futures) {
+				Assertions.assertTrue(future.get(30L, TimeUnit.SECONDS).getVersion() > version);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		Assertions.assertEquals(version + 8, snapshotService.getSnapshot().getVersion());
+	}
+}
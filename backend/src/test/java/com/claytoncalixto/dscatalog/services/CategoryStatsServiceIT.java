@@ -0,0 +1,112 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.claytoncalixto.dscatalog.dto.CategoryStatsDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.tests.Factory;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:categorystatsdb")
+public class CategoryStatsServiceIT {
+
+	@Autowired
+	private CategoryStatsService service;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long categoryId;
+	private Long otherCategoryId;
+	private Long insertedId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		categoryId = 3L;
+		otherCategoryId = 2L;
+		insertedId = null;
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		if (insertedId != null) {
+			productService.delete(insertedId);
+		}
+	}
+
+	@Test
+	public void statsShouldMatchSeedData() {
+
+		for (CategoryStatsDTO dto : service.findAll()) {
+			assertMatchesDatabase(dto);
+		}
+	}
+
+	@Test
+	public void insertUpdateAndDeleteShouldKeepStatsInStep() {
+
+		CategoryStatsDTO before = service.findById(categoryId);
+
+		ProductDTO dto = productDTO(1_000_000.0, categoryId);
+		insertedId = productService.insert(dto).getId();
+		CategoryStatsDTO afterInsert = service.findById(categoryId);
+		Assertions.assertEquals(before.getProductCount() + 1, afterInsert.getProductCount());
+		Assertions.assertEquals(1_000_000.0, afterInsert.getMaxPrice());
+		assertMatchesDatabase(afterInsert);
+
+		productService.update(insertedId, productDTO(0.5, otherCategoryId));
+		CategoryStatsDTO afterMove = service.findById(categoryId);
+		Assertions.assertEquals(before.getProductCount(), afterMove.getProductCount());
+		Assertions.assertEquals(before.getMaxPrice(), afterMove.getMaxPrice());
+		Assertions.assertEquals(0.5, service.findById(otherCategoryId).getMinPrice());
+		assertMatchesDatabase(afterMove);
+		assertMatchesDatabase(service.findById(otherCategoryId));
+
+		productService.delete(insertedId);
+		insertedId = null;
+		assertMatchesDatabase(service.findById(otherCategoryId));
+	}
+
+	@Test
+	public void reconcileShouldRepairDriftedRows() {
+
+		jdbcTemplate.update("UPDATE tb_category_stats SET product_count = 999, max_price = 1 WHERE category_id = ?", categoryId);
+
+		List<CategoryStatsDTO> repaired = service.reconcile();
+
+		Assertions.assertEquals(1, repaired.size());
+		Assertions.assertEquals(categoryId, repaired.get(0).getCategoryId());
+		assertMatchesDatabase(service.findById(categoryId));
+		Assertions.assertTrue(service.reconcile().isEmpty());
+	}
+
+	private ProductDTO productDTO(Double price, Long category) {
+		ProductDTO dto = Factory.createProductDTO(category);
+		dto.setPrice(price);
+		return dto;
+	}
+
+	private void assertMatchesDatabase(CategoryStatsDTO dto) {
+		Object[] row = jdbcTemplate.queryForObject("SELECT COUNT(p.id), MIN(p.price), MAX(p.price), AVG(p.price) "
+				+ "FROM tb_product_category pc JOIN tb_product p ON p.id = pc.product_id WHERE pc.category_id = ?",
+				(rs, i) -> new Object[] { rs.getLong(1), rs.getObject(2), rs.getObject(3), rs.getObject(4) }, dto.getCategoryId());
+		Assertions.assertEquals(row[0], dto.getProductCount());
+		Assertions.assertEquals(row[1], dto.getMinPrice());
+		Assertions.assertEquals(row[2], dto.getMaxPrice());
+		if (row[3] != null) {
+			Assertions.assertEquals(((Number) row[3]).doubleValue(), dto.getAvgPrice(), 1e-6);
+		}
+	}
+}
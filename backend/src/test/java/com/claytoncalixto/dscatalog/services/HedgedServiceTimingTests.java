@@ -0,0 +1,84 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.claytoncalixto.dscatalog.datasource.HedgedRead;
+import com.claytoncalixto.dscatalog.datasource.HedgedReadAspect;
+import com.claytoncalixto.dscatalog.datasource.ReplicaSet;
+import com.claytoncalixto.dscatalog.datasource.RoutingContext;
+import com.claytoncalixto.dscatalog.datasource.RoutingContextTaskDecorator;
+import com.claytoncalixto.dscatalog.metrics.ServerTiming;
+import com.claytoncalixto.dscatalog.metrics.ServerTimingAspect;
+
+public class HedgedServiceTimingTests {
+
+	public static class SlowFirstReplicaService {
+
+		@HedgedRead
+		public Integer read() throws InterruptedException {
+			Integer replica = RoutingContext.getReplica();
+			Thread.sleep(replica != null && replica == 0 ? 2000L : 100L);
+			return replica;
+		}
+	}
+
+	private ThreadPoolTaskExecutor executor;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(0);
+		executor.setTaskDecorator(new RoutingContextTaskDecorator());
+		executor.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+		ServerTiming.setCurrent(null);
+	}
+
+	@Test
+	public void hedgedCallShouldCountServiceTimeOnce() throws Exception {
+
+		HedgedReadAspect hedging = new HedgedReadAspect(true, 0.95, 20L, 1.0);
+		ReflectionTestUtils.setField(hedging, "replicaSet",
+				new ReplicaSet(List.of(Mockito.mock(DataSource.class), Mockito.mock(DataSource.class))));
+		ReflectionTestUtils.setField(hedging, "executor", executor);
+		AspectJProxyFactory factory = new AspectJProxyFactory(new SlowFirstReplicaService());
+		factory.setProxyTargetClass(true);
+		/* Same nesting as in the application context, which orders aspects by @Order */
+		List<Object> aspects = new ArrayList<>(List.of(hedging, new ServerTimingAspect()));
+		AnnotationAwareOrderComparator.sort(aspects);
+		aspects.forEach(factory::addAspect);
+		SlowFirstReplicaService service = factory.getProxy();
+
+		ServerTiming timing = new ServerTiming();
+		ServerTiming.setCurrent(timing);
+		long start = System.nanoTime();
+		service.read();
+		service.read();
+		long elapsed = System.nanoTime() - start;
+		executor.getThreadPoolExecutor().shutdown();
+		executor.getThreadPoolExecutor().awaitTermination(5L, TimeUnit.SECONDS);
+
+		Assertions.assertTrue(hedging.getHedges() >= 1);
+		Assertions.assertTrue(timing.getNanos(ServerTiming.Phase.SERVICE) <= elapsed);
+	}
+}
@@ -0,0 +1,137 @@
+package com.claytoncalixto.dscatalog.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.claytoncalixto.dscatalog.dto.PriceQuantilesDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.claytoncalixto.dscatalog.tests.Factory;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:pricestatisticsdb",
+		"app.price-sketches.overall-rebuild-interval=0"})
+public class PriceStatisticsServiceIT {
+
+	@Autowired
+	private PriceStatisticsService service;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long categoryId;
+	private Long nonExistingId;
+	private Long insertedId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		categoryId = 3L;
+		nonExistingId = 1000L;
+		insertedId = null;
+		service.rebuildAll();
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		ReflectionTestUtils.setField(service, "overallRebuildInterval", 0L);
+		if (insertedId != null) {
+			productService.delete(insertedId);
+		}
+	}
+
+	@Test
+	public void findAllShouldMatchExactPercentilesOfSeedData() {
+
+		assertMatchesDatabase(service.findAll().getOverall(), null);
+		assertMatchesDatabase(service.findByCategory(categoryId), categoryId);
+		Assertions.assertEquals(3, service.findAll().getCategories().size());
+	}
+
+	@Test
+	public void insertShouldAddPriceAfterCommit() {
+
+		long before = service.findByCategory(categoryId).getCount();
+
+		insertedId = productService.insert(productDTO(1_000_000.0)).getId();
+
+		PriceQuantilesDTO result = service.findByCategory(categoryId);
+		Assertions.assertEquals(before + 1, result.getCount());
+		Assertions.assertEquals(1_000_000.0, result.getMaxPrice());
+		Assertions.assertFalse(result.getStale());
+		assertMatchesDatabase(result, categoryId);
+	}
+
+	@Test
+	public void deleteShouldMarkSketchStaleUntilRebuilt() {
+
+		insertedId = productService.insert(productDTO(1_000_000.0)).getId();
+		productService.delete(insertedId);
+		insertedId = null;
+
+		Assertions.assertTrue(service.findByCategory(categoryId).getStale());
+		Assertions.assertTrue(service.findAll().getOverall().getStale());
+
+		service.rebuildStale();
+
+		PriceQuantilesDTO result = service.findByCategory(categoryId);
+		Assertions.assertFalse(result.getStale());
+		assertMatchesDatabase(result, categoryId);
+		assertMatchesDatabase(service.findAll().getOverall(), null);
+	}
+
+	@Test
+	public void rebuildStaleShouldNotScanOverallMoreThanOncePerInterval() {
+
+		ReflectionTestUtils.setField(service, "overallRebuildInterval", 3_600_000L);
+		insertedId = productService.insert(productDTO(1_000_000.0)).getId();
+		productService.delete(insertedId);
+		insertedId = null;
+
+		service.rebuildStale();
+
+		Assertions.assertFalse(service.findByCategory(categoryId).getStale());
+		Assertions.assertTrue(service.findAll().getOverall().getStale());
+	}
+
+	@Test
+	public void findByCategoryShouldThrowResourceNotFoundExceptionWhenIdDoesNotExist() {
+
+		Assertions.assertThrows(ResourceNotFoundException.class, () -> service.findByCategory(nonExistingId));
+	}
+
+	private ProductDTO productDTO(Double price) {
+		ProductDTO dto = Factory.createProductDTO(categoryId);
+		dto.setPrice(price);
+		return dto;
+	}
+
+	/* Below k values the sketch keeps every price, so nearest-rank percentiles are exact */
+	private void assertMatchesDatabase(PriceQuantilesDTO dto, Long category) {
+		List<Double> prices = (category == null)
+				? jdbcTemplate.queryForList("SELECT price FROM tb_product WHERE price IS NOT NULL ORDER BY price", Double.class)
+				: jdbcTemplate.queryForList("SELECT p.price FROM tb_product p JOIN tb_product_category pc ON pc.product_id = p.id "
+						+ "WHERE pc.category_id = ? AND p.price IS NOT NULL ORDER BY p.price", Double.class, category);
+		Assertions.assertEquals(prices.size(), dto.getCount());
+		Assertions.assertEquals(prices.get(0), dto.getMinPrice());
+		Assertions.assertEquals(prices.get(prices.size() - 1), dto.getMaxPrice());
+		Assertions.assertEquals(nearestRank(prices, 0.1), dto.getP10());
+		Assertions.assertEquals(nearestRank(prices, 0.5), dto.getP50());
+		Assertions.assertEquals(nearestRank(prices, 0.9), dto.getP90());
+	}
+
+	private static Double nearestRank(List<Double> sorted, double q) {
+		return sorted.get(Math.max(0, (int) Math.ceil(q * sorted.size()) - 1));
+	}
+}
@@ -0,0 +1,168 @@
+package com.claytoncalixto.dscatalog.services;
+
+import static com.claytoncalixto.dscatalog.tests.CatalogFixture.describe;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.entities.Category;
+import com.claytoncalixto.dscatalog.entities.Product;
+import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
+import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.tests.CatalogFixture;
+import com.claytoncalixto.dscatalog.tests.Factory;
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:productlistingdb")
+public class ProductListingServiceIT {
+
+	@Autowired
+	private ProductListingService listingService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private CatalogFixture fixture;
+	private Long categoryId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		fixture = new CatalogFixture(productService, categoryService);
+		categoryId = fixture.getCategoryId();
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		fixture.restore();
+	}
+
+	@Test
+	public void findAllPagedShouldMatchJoinQuery() {
+
+		Assertions.assertTrue(listingService.isReady());
+		for (Long category : List.of(0L, categoryId)) {
+			for (String orderBy : List.of("name", "price", "date", "id")) {
+				/* Ties on the sort key may come back in any order; id makes pages comparable */
+				PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(orderBy).and(Sort.by("id")));
+				Assertions.assertEquals(describe(joinQuery(category, "", pageRequest)),
+						describe(listingService.findAllPaged(category, "", pageRequest)), orderBy);
+			}
+		}
+		PageRequest pageRequest = PageRequest.of(0, 10, Direction.ASC, "name");
+		Assertions.assertEquals(describe(joinQuery(0L, "pc", pageRequest)), describe(listingService.findAllPaged(0L, "pc", pageRequest)));
+	}
+
+	@Test
+	public void findAllPagedShouldReadOnlyTheListingTable() {
+
+		queryCounter.reset();
+		productService.findAllPaged(categoryId, "", PageRequest.of(0, 10, Direction.ASC, "name"));
+
+		Assertions.assertTrue(queryCounter.getStatements().size() <= 2);
+		queryCounter.getStatements().forEach(x -> {
+			Assertions.assertTrue(x.contains("tb_product_listing"), x);
+			Assertions.assertFalse(x.contains(" join "), x);
+		});
+	}
+
+	@Test
+	public void writesShouldKeepListingInStep() {
+
+		ProductDTO dto = Factory.createProductDTO(categoryId);
+		Long insertedId = fixture.insert(dto);
+		Assertions.assertEquals(List.of(0L, categoryId), listingCategories(insertedId));
+
+		dto.getCategories().clear();
+		dto.getCategories().add(new CategoryDTO(1L, null));
+		dto.setName("Listing renamed product");
+		productService.update(insertedId, dto);
+		Assertions.assertEquals(List.of(0L, 1L), listingCategories(insertedId));
+		ProductDTO listed = listingService.findAllPaged(1L, "Listing renamed", PageRequest.of(0, 10)).getContent().get(0);
+		Assertions.assertEquals(insertedId, listed.getId());
+		Assertions.assertEquals(1L, listed.getCategories().get(0).getId());
+
+		categoryService.update(1L, new CategoryDTO(1L, "Livros e Revistas"));
+		listed = listingService.findAllPaged(0L, "Listing renamed", PageRequest.of(0, 10)).getContent().get(0);
+		Assertions.assertEquals("Livros e Revistas", listed.getCategories().get(0).getName());
+		categoryService.update(1L, new CategoryDTO(1L, "Livros"));
+
+		fixture.delete();
+		Assertions.assertTrue(listingCategories(insertedId).isEmpty());
+	}
+
+	@Test
+	public void seedListingShouldMatchRowsWrittenByTheService() {
+
+		String query = "SELECT * FROM tb_product_listing ORDER BY listing_category_id, product_id";
+		List<Map<String, Object>> seeded = jdbcTemplate.queryForList(query);
+
+		listingService.rebuildAll();
+
+		Assertions.assertEquals(seeded, jdbcTemplate.queryForList(query));
+	}
+
+	@Test
+	public void rebuildAllShouldRepairRowsWrittenOutsideTheService() {
+
+		jdbcTemplate.update("UPDATE tb_product SET price = 1.5 WHERE id = 1");
+		jdbcTemplate.update("DELETE FROM tb_product_listing WHERE product_id = 2");
+
+		listingService.rebuildAll();
+
+		Assertions.assertEquals(1.5, jdbcTemplate.queryForObject(
+				"SELECT price FROM tb_product_listing WHERE product_id = 1 AND listing_category_id = 0", Double.class));
+		Assertions.assertFalse(listingCategories(2L).isEmpty());
+		jdbcTemplate.update("UPDATE tb_product SET price = 90.5 WHERE id = 1");
+		listingService.rebuildAll();
+	}
+
+	private Page<ProductDTO> joinQuery(Long category, String name, PageRequest pageRequest) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			List<Category> categories = (category == 0L) ? null : List.of(categoryRepository.getOne(category));
+			Page<Product> page = productRepository.find(categories, name, pageRequest);
+			productRepository.findProductsWithCategories(page.getContent());
+			return page.map(x -> new ProductDTO(x, x.getCategories()));
+		});
+	}
+
+	private List<Long> listingCategories(Long productId) {
+		return jdbcTemplate.queryForList("SELECT listing_category_id FROM tb_product_listing WHERE product_id = ? "
+				+ "ORDER BY listing_category_id", Long.class, productId);
+	}
+}
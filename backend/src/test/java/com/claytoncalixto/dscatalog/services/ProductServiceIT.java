@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
 import com.claytoncalixto.dscatalog.repositories.ProductRepository;
 import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.claytoncalixto.dscatalog.tests.QueryCounter;
 
 @SpringBootTest
 @Transactional
@@ -24,6 +25,9 @@ public class ProductServiceIT {
 	@Autowired
 	private ProductRepository repository;
 	
+	@Autowired
+	private QueryCounter queryCounter;
+	
 	private Long existingId;
 	private Long nonExistingId;
 	private Long countTotalProducts;
@@ -58,12 +62,24 @@ public class ProductServiceIT {
 		
 		PageRequest pageRequest = PageRequest.of(0, 10);
 		
+		queryCounter.reset();
 		Page <ProductDTO> result = service.findAllPaged(0L, "",pageRequest);
 		
 		Assertions.assertFalse(result.isEmpty());
 		Assertions.assertEquals(0, result.getNumber());
 		Assertions.assertEquals(10, result.getSize());
 		Assertions.assertEquals(countTotalProducts, result.getTotalElements());		
+		queryCounter.assertAtMost(3);
+	}
+	
+	@Test
+	public void findByIdShouldExecuteAtMostTwoStatements() {
+		
+		queryCounter.reset();
+		ProductDTO result = service.findById(existingId);
+		
+		Assertions.assertFalse(result.getCategories().isEmpty());
+		queryCounter.assertAtMost(2);
 	}
 	
 	@Test
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -29,6 +30,7 @@ import com.claytoncalixto.dscatalog.entities.Category;
 import com.claytoncalixto.dscatalog.entities.Product;
 import com.claytoncalixto.dscatalog.repositories.CategoryRepository;
 import com.claytoncalixto.dscatalog.repositories.ProductRepository;
+import com.claytoncalixto.dscatalog.services.events.ProductWriteEvent;
 import com.claytoncalixto.dscatalog.services.exceptions.DatabaseException;
 import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
 import com.claytoncalixto.dscatalog.tests.Factory;
@@ -45,6 +47,12 @@ public class ProductServiceTests {
 	
 	@Mock
 	private CategoryRepository categoryRepository;
+
+	@Mock
+	private ProductListingService listingService;
+
+	@Mock
+	private ApplicationEventPublisher publisher;
 	
 	private long existingId;
 	private long nonExistingId;
@@ -157,5 +165,6 @@ public class ProductServiceTests {
 		});
 		
 		Mockito.verify(repository, Mockito.times(1)).deleteById(existingId);
+		Mockito.verify(publisher, Mockito.times(1)).publishEvent(any(ProductWriteEvent.class));
 	}
 }
@@ -0,0 +1,33 @@
+package com.claytoncalixto.dscatalog.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.claytoncalixto.dscatalog.dto.UserDTO;
+import com.claytoncalixto.dscatalog.dto.UserUpdateDTO;
+import com.claytoncalixto.dscatalog.services.exceptions.DatabaseException;
+
+@SpringBootTest
+@Transactional
+public class UserServiceIT {
+
+	@Autowired
+	private UserService service;
+
+	@Test
+	public void updateShouldThrowDatabaseExceptionWhenEmailBelongsToAnotherUser() {
+
+		UserDTO existing = service.findById(1L);
+		UserUpdateDTO dto = new UserUpdateDTO();
+		dto.setFirstName(existing.getFirstName());
+		dto.setLastName(existing.getLastName());
+		dto.setEmail("maria@gmail.com");
+
+		Assertions.assertThrows(DatabaseException.class, () -> {
+			service.update(1L, dto);
+		});
+	}
+}
@@ -0,0 +1,72 @@
+package com.claytoncalixto.dscatalog.tests;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.services.CategoryService;
+import com.claytoncalixto.dscatalog.services.ProductService;
+
+/*
+ * Category 3 of the seed data and at most one product a test inserts into the catalog.
+ * restore() deletes that product and puts the category name back.
+ */
+public class CatalogFixture {
+
+	private final ProductService productService;
+	private final CategoryService categoryService;
+	private final Long categoryId;
+	private final String categoryName;
+	private Long insertedId;
+
+	public CatalogFixture(ProductService productService, CategoryService categoryService) {
+		this.productService = productService;
+		this.categoryService = categoryService;
+		categoryId = 3L;
+		categoryName = categoryService.findById(categoryId).getName();
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public String getCategoryName() {
+		return categoryName;
+	}
+
+	public Long getInsertedId() {
+		return insertedId;
+	}
+
+	public Long insert(ProductDTO dto) {
+		insertedId = productService.insert(dto).getId();
+		return insertedId;
+	}
+
+	public void delete() {
+		productService.delete(insertedId);
+		insertedId = null;
+	}
+
+	public void restore() {
+		if (insertedId != null) {
+			delete();
+		}
+		categoryService.update(categoryId, new CategoryDTO(categoryId, categoryName));
+	}
+
+	/* Total and content of a page in one comparable line */
+	public static String describe(Page<ProductDTO> page) {
+		return describe(page.getTotalElements(), page.getContent());
+	}
+
+	public static String describe(long total, List<ProductDTO> content) {
+		return total + " " + content.stream()
+				.map(x -> x.getId() + ":" + x.getName() + ":" + x.getPrice() + ":" + x.getCategories().stream()
+						.map(c -> c.getId() + "=" + c.getName()).sorted().collect(Collectors.joining(",")))
+				.collect(Collectors.joining(" | "));
+	}
+}
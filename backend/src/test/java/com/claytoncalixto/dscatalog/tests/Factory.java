@@ -2,6 +2,7 @@ package com.claytoncalixto.dscatalog.tests;
 
 import java.time.Instant;
 
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
 import com.claytoncalixto.dscatalog.dto.ProductDTO;
 import com.claytoncalixto.dscatalog.entities.Category;
 import com.claytoncalixto.dscatalog.entities.Product;
@@ -19,6 +20,15 @@ public class Factory {
 		return new ProductDTO(product, product.getCategories());
 	}
 	
+	/* A new product (no id) in the given category only */
+	public static ProductDTO createProductDTO(Long categoryId) {
+		ProductDTO dto = createProductDTO();
+		dto.setId(null);
+		dto.getCategories().clear();
+		dto.getCategories().add(new CategoryDTO(categoryId, null));
+		return dto;
+	}
+
 	public static Category createCategory() {
 		return new  Category(1L, "Eletronics");
 	}
@@ -0,0 +1,127 @@
+package com.claytoncalixto.dscatalog.tests;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import com.claytoncalixto.dscatalog.datasource.BindParameters;
+import com.claytoncalixto.dscatalog.datasource.JdbcProxies;
+
+/*
+ * Wraps the application DataSource and records every statement executed through it, on
+ * any thread, so tests can put an upper bound on the queries an operation needs. Bind
+ * parameters are kept as well so a recorded query can be replayed, e.g. under EXPLAIN.
+ */
+@Component
+public class QueryCounter implements BeanPostProcessor {
+
+	private final List<Execution> executions = new ArrayList<>();
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource && beanName.equals("dataSource")) {
+			return new CountingDataSource((DataSource) bean);
+		}
+		return bean;
+	}
+
+	public synchronized void reset() {
+		executions.clear();
+	}
+
+	public synchronized List<String> getStatements() {
+		List<String> list = new ArrayList<>();
+		for (Execution execution : executions) {
+			list.add(execution.getSql());
+		}
+		return list;
+	}
+
+	public synchronized List<Execution> getExecutions() {
+		return new ArrayList<>(executions);
+	}
+
+	public int getCount() {
+		return getStatements().size();
+	}
+
+	public long getSelectCount() {
+		return getStatements().stream().filter(x -> x.trim().toLowerCase(Locale.ROOT).startsWith("select")).count();
+	}
+
+	public void assertAtMost(int max) {
+		List<String> list = getStatements();
+		Assertions.assertTrue(list.size() <= max, () -> "Expected at most " + max + " statements but " + list.size()
+				+ " were executed:\n" + String.join("\n", list));
+	}
+
+	public void assertExactly(int expected) {
+		List<String> list = getStatements();
+		Assertions.assertEquals(expected, list.size(), () -> String.join("\n", list));
+	}
+
+	private synchronized void record(String sql, List<Object> parameters) {
+		executions.add(new Execution(sql, parameters));
+	}
+
+	public static class Execution {
+
+		private final String sql;
+		private final List<Object> parameters;
+
+		Execution(String sql, List<Object> parameters) {
+			this.sql = sql;
+			this.parameters = parameters;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public List<Object> getParameters() {
+			return parameters;
+		}
+	}
+
+	private class CountingDataSource extends DelegatingDataSource {
+
+		CountingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return wrap(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return wrap(super.getConnection(username, password));
+		}
+
+		private Connection wrap(Connection con) {
+			return JdbcProxies.wrapConnection(con, this::wrap);
+		}
+
+		private Statement wrap(Statement statement, String preparedSql) {
+			BindParameters parameters = new BindParameters();
+			return JdbcProxies.wrapStatement(statement, (proxy, method, args) -> {
+				if (!parameters.capture(method, args) && method.getName().startsWith("execute")) {
+					String sql = JdbcProxies.sqlArgument(args);
+					record(String.valueOf((sql != null) ? sql : preparedSql), parameters.toList());
+				}
+				return JdbcProxies.invoke(statement, method, args);
+			});
+		}
+	}
+}
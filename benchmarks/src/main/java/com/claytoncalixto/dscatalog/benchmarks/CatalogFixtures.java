@@ -0,0 +1,48 @@
+package com.claytoncalixto.dscatalog.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.claytoncalixto.dscatalog.entities.Category;
+import com.claytoncalixto.dscatalog.entities.Product;
+import com.claytoncalixto.dscatalog.entities.Role;
+import com.claytoncalixto.dscatalog.entities.User;
+
+/*
+ * Entities shaped like the seed data in data.sql.
+ */
+final class CatalogFixtures {
+
+	private static final Instant DATE = Instant.parse("2020-07-13T20:50:07.12345Z");
+
+	private CatalogFixtures() {
+	}
+
+	static Product product(long id) {
+		Product product = new Product(id, "Product " + id,
+				"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.",
+				90.5 + id, "https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/" + id + "-big.jpg", DATE);
+		product.getCategories().add(new Category(1L, "Livros"));
+		product.getCategories().add(new Category(2L, "Eletrônicos"));
+		if (id % 2 == 0) {
+			product.getCategories().add(new Category(3L, "Computadores"));
+		}
+		return product;
+	}
+
+	static List<Product> products(int count) {
+		List<Product> list = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			list.add(product(i));
+		}
+		return list;
+	}
+
+	static User user() {
+		User user = new User(1L, "Maria", "Green", "maria@gmail.com", "$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG");
+		user.getRoles().add(new Role(1L, "ROLE_OPERATOR"));
+		user.getRoles().add(new Role(2L, "ROLE_ADMIN"));
+		return user;
+	}
+}
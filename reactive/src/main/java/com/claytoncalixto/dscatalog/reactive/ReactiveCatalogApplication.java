@@ -0,0 +1,13 @@
+package com.claytoncalixto.dscatalog.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveCatalogApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveCatalogApplication.class, args);
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.claytoncalixto.dscatalog.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+	/* Same page/size/sort parameters as the servlet API's Pageable arguments */
+	@Override
+	public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+		configurer.addCustomResolver(new ReactiveSortHandlerMethodArgumentResolver(),
+				new ReactivePageableHandlerMethodArgumentResolver());
+	}
+}
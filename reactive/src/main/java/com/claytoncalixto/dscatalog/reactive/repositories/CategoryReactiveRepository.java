@@ -0,0 +1,56 @@
+package com.claytoncalixto.dscatalog.reactive.repositories;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class CategoryReactiveRepository {
+
+	private static final Set<String> SORTABLE = Set.of("id", "name");
+
+	@Autowired
+	private DatabaseClient client;
+
+	public Flux<CategoryDTO> findAll(Pageable pageable) {
+		return client.sql("SELECT id, name FROM tb_category " + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset")
+				.bind("limit", pageable.getPageSize())
+				.bind("offset", pageable.getOffset())
+				.map((row, meta) -> new CategoryDTO(row.get("id", Long.class), row.get("name", String.class)))
+				.all();
+	}
+
+	public Mono<Long> count() {
+		return client.sql("SELECT COUNT(*) AS total FROM tb_category")
+				.map((row, meta) -> row.get("total", Long.class))
+				.one();
+	}
+
+	public Mono<CategoryDTO> findById(Long id) {
+		return client.sql("SELECT id, name FROM tb_category WHERE id = :id")
+				.bind("id", id)
+				.map((row, meta) -> new CategoryDTO(row.get("id", Long.class), row.get("name", String.class)))
+				.one();
+	}
+
+	/* Unknown properties are rejected rather than dropped; id breaks ties so paging is stable */
+	private static String orderBy(Sort sort) {
+		StringBuilder sb = new StringBuilder("ORDER BY ");
+		for (Sort.Order order : sort) {
+			if (!SORTABLE.contains(order.getProperty())) {
+				throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+			}
+			sb.append(order.getProperty()).append(order.isAscending() ? " ASC, " : " DESC, ");
+		}
+		return sb.append("id").toString();
+	}
+}
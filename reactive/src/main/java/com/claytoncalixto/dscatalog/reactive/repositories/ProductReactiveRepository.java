@@ -0,0 +1,101 @@
+package com.claytoncalixto.dscatalog.reactive.repositories;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ProductReactiveRepository {
+
+	private static final Set<String> SORTABLE = Set.of("id", "name", "price", "date");
+
+	private static final String FILTER = "FROM tb_product p WHERE LOWER(p.name) LIKE :name AND "
+			+ "EXISTS (SELECT 1 FROM tb_product_category pc WHERE pc.product_id = p.id AND "
+			+ "(:categoryId = 0 OR pc.category_id = :categoryId)) ";
+
+	@Autowired
+	private DatabaseClient client;
+
+	public Flux<ProductDTO> find(Long categoryId, String name, Pageable pageable) {
+		return client.sql("SELECT p.id, p.name, p.description, p.price, p.img_url, p.date " + FILTER
+				+ orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset")
+				.bind("name", likePattern(name))
+				.bind("categoryId", categoryId)
+				.bind("limit", pageable.getPageSize())
+				.bind("offset", pageable.getOffset())
+				.map((row, meta) -> toProduct(row))
+				.all();
+	}
+
+	public Mono<Long> count(Long categoryId, String name) {
+		return client.sql("SELECT COUNT(*) AS total " + FILTER)
+				.bind("name", likePattern(name))
+				.bind("categoryId", categoryId)
+				.map((row, meta) -> row.get("total", Long.class))
+				.one();
+	}
+
+	public Mono<ProductDTO> findById(Long id) {
+		return client.sql("SELECT p.id, p.name, p.description, p.price, p.img_url, p.date FROM tb_product p WHERE p.id = :id")
+				.bind("id", id)
+				.map((row, meta) -> toProduct(row))
+				.one();
+	}
+
+	public Flux<Map.Entry<Long, CategoryDTO>> findCategories(List<Long> productIds) {
+		return client.sql("SELECT pc.product_id, c.id, c.name FROM tb_product_category pc "
+				+ "INNER JOIN tb_category c ON c.id = pc.category_id WHERE pc.product_id IN (:ids)")
+				.bind("ids", productIds)
+				.map((row, meta) -> Map.entry(row.get("product_id", Long.class),
+						new CategoryDTO(row.get("id", Long.class), row.get("name", String.class))))
+				.all();
+	}
+
+	public Flux<ProductDTO> streamAll(Long categoryId, String name) {
+		return client.sql("SELECT p.id, p.name, p.description, p.price, p.img_url, p.date " + FILTER + "ORDER BY p.id")
+				.bind("name", likePattern(name))
+				.bind("categoryId", categoryId)
+				.map((row, meta) -> toProduct(row))
+				.all();
+	}
+
+	private static String likePattern(String name) {
+		return "%" + name.toLowerCase() + "%";
+	}
+
+	/* Unknown properties are rejected rather than dropped; id breaks ties so paging is stable */
+	private static String orderBy(Sort sort) {
+		StringBuilder sb = new StringBuilder("ORDER BY ");
+		for (Sort.Order order : sort) {
+			if (!SORTABLE.contains(order.getProperty())) {
+				throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+			}
+			sb.append("p.").append(order.getProperty()).append(order.isAscending() ? " ASC, " : " DESC, ");
+		}
+		return sb.append("p.id").toString();
+	}
+
+	private static ProductDTO toProduct(Row row) {
+		LocalDateTime date = row.get("date", LocalDateTime.class);
+		Instant instant = (date == null) ? null : date.atZone(ZoneId.systemDefault()).toInstant();
+		return new ProductDTO(row.get("id", Long.class), row.get("name", String.class),
+				row.get("description", String.class), row.get("price", Double.class),
+				row.get("img_url", String.class), instant);
+	}
+}
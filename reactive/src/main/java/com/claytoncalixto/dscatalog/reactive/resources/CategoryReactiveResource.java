@@ -0,0 +1,32 @@
+package com.claytoncalixto.dscatalog.reactive.resources;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.reactive.services.CategoryReactiveService;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(value = "/categories")
+public class CategoryReactiveResource {
+
+	@Autowired
+	private CategoryReactiveService service;
+
+	@GetMapping
+	public Mono<Page<CategoryDTO>> findAll(Pageable pageable) {
+		return service.findAllPaged(pageable);
+	}
+
+	@GetMapping(value = "/{id}")
+	public Mono<CategoryDTO> findById(@PathVariable Long id) {
+		return service.findById(id);
+	}
+}
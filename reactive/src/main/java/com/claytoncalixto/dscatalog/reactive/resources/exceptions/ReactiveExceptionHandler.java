@@ -0,0 +1,40 @@
+package com.claytoncalixto.dscatalog.reactive.resources.exceptions;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.claytoncalixto.dscatalog.resources.exceptions.StandardError;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+
+@ControllerAdvice
+public class ReactiveExceptionHandler {
+
+	@ExceptionHandler(ResourceNotFoundException.class)
+	public ResponseEntity<StandardError> entityNotFound(ResourceNotFoundException e, ServerHttpRequest request){
+		HttpStatus status = HttpStatus.NOT_FOUND;
+		StandardError err = new StandardError();
+		err.setTimestamp(Instant.now());
+		err.setStatus(status.value());
+		err.setError("resource not found");
+		err.setMessage(e.getMessage());
+		err.setPath(request.getPath().value());
+		return ResponseEntity.status(status).body(err);
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<StandardError> badRequest(IllegalArgumentException e, ServerHttpRequest request){
+		HttpStatus status = HttpStatus.BAD_REQUEST;
+		StandardError err = new StandardError();
+		err.setTimestamp(Instant.now());
+		err.setStatus(status.value());
+		err.setError("bad request");
+		err.setMessage(e.getMessage());
+		err.setPath(request.getPath().value());
+		return ResponseEntity.status(status).body(err);
+	}
+}
@@ -0,0 +1,30 @@
+package com.claytoncalixto.dscatalog.reactive.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.claytoncalixto.dscatalog.dto.CategoryDTO;
+import com.claytoncalixto.dscatalog.reactive.repositories.CategoryReactiveRepository;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class CategoryReactiveService {
+
+	@Autowired
+	private CategoryReactiveRepository repository;
+
+	public Mono<Page<CategoryDTO>> findAllPaged(Pageable pageable) {
+		return Mono.zip(repository.findAll(pageable).collectList(), repository.count())
+				.map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()));
+	}
+
+	public Mono<CategoryDTO> findById(Long id) {
+		return repository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Entity not found")));
+	}
+}
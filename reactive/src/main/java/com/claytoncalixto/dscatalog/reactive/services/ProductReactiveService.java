@@ -0,0 +1,62 @@
+package com.claytoncalixto.dscatalog.reactive.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+import com.claytoncalixto.dscatalog.reactive.repositories.ProductReactiveRepository;
+import com.claytoncalixto.dscatalog.services.exceptions.ResourceNotFoundException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ProductReactiveService {
+
+	private static final int STREAM_BATCH_SIZE = 100;
+
+	@Autowired
+	private ProductReactiveRepository repository;
+
+	public Mono<Page<ProductDTO>> findAllPaged(Long categoryId, String name, Pageable pageable) {
+		Mono<List<ProductDTO>> content = repository.find(categoryId, name, pageable)
+				.collectList()
+				.flatMap(this::withCategories);
+		return Mono.zip(content, repository.count(categoryId, name))
+				.map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()));
+	}
+
+	public Mono<ProductDTO> findById(Long id) {
+		return repository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Entity not found")))
+				.flatMap(dto -> withCategories(List.of(dto)))
+				.map(list -> list.get(0));
+	}
+
+	public Flux<ProductDTO> streamAll(Long categoryId, String name) {
+		return repository.streamAll(categoryId, name)
+				.buffer(STREAM_BATCH_SIZE)
+				.concatMap(this::withCategories, 1)
+				.flatMapIterable(list -> list);
+	}
+
+	private Mono<List<ProductDTO>> withCategories(List<ProductDTO> products) {
+		if (products.isEmpty()) {
+			return Mono.just(products);
+		}
+		List<Long> ids = products.stream().map(ProductDTO::getId).collect(Collectors.toList());
+		return repository.findCategories(ids)
+				.collectMultimap(Map.Entry::getKey, Map.Entry::getValue)
+				.map(map -> {
+					products.forEach(p -> p.getCategories().addAll(map.getOrDefault(p.getId(), List.of())));
+					return products;
+				});
+	}
+}
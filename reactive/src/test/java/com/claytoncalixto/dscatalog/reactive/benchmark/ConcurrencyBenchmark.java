@@ -0,0 +1,133 @@
+package com.claytoncalixto.dscatalog.reactive.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+ * Opens a fixed number of simultaneous HTTP connections against a running catalog and
+ * reports throughput, latency percentiles and, when the server pid is given, the peak
+ * resident memory and thread count of the server process (Linux /proc).
+ *
+ * Run the servlet backend (port 8080) and this module (port 8081) one at a time and point
+ * the benchmark at each of them:
+ *
+ * mvn -f reactive/pom.xml test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.claytoncalixto.dscatalog.reactive.benchmark.ConcurrencyBenchmark
+ *     -Dbenchmark.url=http://localhost:8081/products -Dbenchmark.connections=10000 -Dbenchmark.pid=<server pid>
+ */
+public class ConcurrencyBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		URI uri = URI.create(System.getProperty("benchmark.url", "http://localhost:8081/products"));
+		int connections = Integer.getInteger("benchmark.connections", 10000);
+		int requestsPerConnection = Integer.getInteger("benchmark.requests", 10);
+		String pid = System.getProperty("benchmark.pid");
+
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(30))
+				.executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+				.build();
+		HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(120)).GET().build();
+
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		AtomicLong errors = new AtomicLong();
+		long[] peakRss = new long[1];
+		long[] peakThreads = new long[1];
+
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+		if (pid != null) {
+			sampler.scheduleAtFixedRate(() -> {
+				long[] status = readProcStatus(pid);
+				peakRss[0] = Math.max(peakRss[0], status[0]);
+				peakThreads[0] = Math.max(peakThreads[0], status[1]);
+			}, 0, 200, TimeUnit.MILLISECONDS);
+		}
+
+		long start = System.nanoTime();
+		List<CompletableFuture<Void>> clients = IntStream.range(0, connections)
+				.mapToObj(i -> run(client, request, requestsPerConnection, latencies, errors))
+				.collect(Collectors.toList());
+		CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).join();
+		long elapsed = System.nanoTime() - start;
+		sampler.shutdownNow();
+
+		long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		double seconds = elapsed / 1e9;
+		System.out.println("target          " + uri);
+		System.out.println("connections     " + connections);
+		System.out.println("requests        " + sorted.length + " ok, " + errors.get() + " errors");
+		System.out.printf("throughput      %.1f req/s%n", sorted.length / seconds);
+		System.out.printf("latency p50     %.1f ms%n", percentile(sorted, 0.50));
+		System.out.printf("latency p95     %.1f ms%n", percentile(sorted, 0.95));
+		System.out.printf("latency p99     %.1f ms%n", percentile(sorted, 0.99));
+		System.out.printf("latency max     %.1f ms%n", percentile(sorted, 1.0));
+		if (pid != null) {
+			System.out.println("server peak rss " + peakRss[0] / 1024 + " MB");
+			System.out.println("server threads  " + peakThreads[0]);
+		}
+		System.exit(0);
+	}
+
+	private static CompletableFuture<Void> run(HttpClient client, HttpRequest request, int remaining,
+			ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+		if (remaining == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+		long begin = System.nanoTime();
+		return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.handle((response, e) -> {
+					if (e != null || response.statusCode() != 200) {
+						errors.incrementAndGet();
+					}
+					else {
+						latencies.add(System.nanoTime() - begin);
+					}
+					return null;
+				})
+				.thenCompose(x -> run(client, request, remaining - 1, latencies, errors));
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0.0;
+		}
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1e6;
+	}
+
+	private static long[] readProcStatus(String pid) {
+		long[] result = new long[2];
+		try {
+			for (String line : Files.readAllLines(Path.of("/proc", pid, "status"))) {
+				String[] parts = line.split("\\s+");
+				if (line.startsWith("VmRSS:")) {
+					result[0] = Long.parseLong(parts[1]);
+				}
+				else if (line.startsWith("Threads:")) {
+					result[1] = Long.parseLong(parts[1]);
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			Arrays.fill(result, 0);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,135 @@
+package com.claytoncalixto.dscatalog.reactive.resources;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.claytoncalixto.dscatalog.dto.ProductDTO;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+@SpringBootTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///testdb")
+@AutoConfigureWebTestClient
+public class ProductReactiveResourceTests {
+
+	@TestConfiguration
+	static class SchemaConfig {
+
+		@Bean
+		public ConnectionFactoryInitializer initializer(ConnectionFactory connectionFactory) {
+			ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+			initializer.setConnectionFactory(connectionFactory);
+			initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("schema.sql")));
+			return initializer;
+		}
+	}
+
+	@Autowired
+	private WebTestClient client;
+
+	@Test
+	public void findAllShouldReturnSortedPageWhenSortByName() {
+
+		client.get().uri("/products?page=0&linesPerPage=12&orderBy=name")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.totalElements").isEqualTo(4)
+				.jsonPath("$.content[0].name").isEqualTo("Macbook Pro")
+				.jsonPath("$.content[1].name").isEqualTo("PC Gamer")
+				.jsonPath("$.content[0].categories[0].name").isEqualTo("Computadores");
+	}
+
+	@Test
+	public void findAllShouldReturnBadRequestWhenOrderByIsUnknown() {
+
+		client.get().uri("/products?orderBy=imgUrl")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	public void findAllShouldFilterByCategory() {
+
+		client.get().uri("/products?categoryId=1")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.totalElements").isEqualTo(1)
+				.jsonPath("$.content[0].name").isEqualTo("The Lord of the Rings");
+	}
+
+	@Test
+	public void streamShouldReturnEveryProductAsNdjson() {
+
+		client.get().uri("/products")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(ProductDTO.class).hasSize(4);
+	}
+
+	@Test
+	public void findByIdShouldReturnProductWithCategoriesWhenIdExists() {
+
+		client.get().uri("/products/{id}", 2L)
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.name").isEqualTo("Smart TV")
+				.jsonPath("$.categories.length()").isEqualTo(2);
+	}
+
+	@Test
+	public void findByIdShouldReturnNotFoundWhenIdDoesNotExist() {
+
+		client.get().uri("/products/{id}", 1000L)
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	public void categoriesFindAllShouldReturnPage() {
+
+		client.get().uri("/categories")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.totalElements").isEqualTo(3);
+	}
+
+	@Test
+	public void categoriesFindAllShouldApplySort() {
+
+		client.get().uri("/categories?sort=name,desc")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content[0].name").isEqualTo("Livros")
+				.jsonPath("$.content[2].name").isEqualTo("Computadores");
+	}
+
+	@Test
+	public void categoriesFindAllShouldReturnBadRequestWhenSortPropertyIsUnknown() {
+
+		client.get().uri("/categories?sort=createdAt")
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+}
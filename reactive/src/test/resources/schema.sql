@@ -0,0 +1,18 @@
+CREATE TABLE tb_category (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(255), created_at TIMESTAMP, updated_at TIMESTAMP);
+CREATE TABLE tb_product (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(255), description TEXT, price DOUBLE, img_url VARCHAR(255), date TIMESTAMP);
+CREATE TABLE tb_product_category (product_id BIGINT NOT NULL, category_id BIGINT NOT NULL, PRIMARY KEY (product_id, category_id));
+
+INSERT INTO tb_category (name, created_at) VALUES ('Livros', NOW());
+INSERT INTO tb_category (name, created_at) VALUES ('Eletrônicos', NOW());
+INSERT INTO tb_category (name, created_at) VALUES ('Computadores', NOW());
+
+INSERT INTO tb_product (name, price, date, description, img_url) VALUES ('The Lord of the Rings', 90.5, TIMESTAMP '2020-07-13 20:50:07', 'Lorem ipsum', 'https://img.com/1.jpg');
+INSERT INTO tb_product (name, price, date, description, img_url) VALUES ('Smart TV', 2190.0, TIMESTAMP '2020-07-14 10:00:00', 'Lorem ipsum', 'https://img.com/2.jpg');
+INSERT INTO tb_product (name, price, date, description, img_url) VALUES ('Macbook Pro', 1250.0, TIMESTAMP '2020-07-14 10:00:00', 'Lorem ipsum', 'https://img.com/3.jpg');
+INSERT INTO tb_product (name, price, date, description, img_url) VALUES ('PC Gamer', 1200.0, TIMESTAMP '2020-07-14 10:00:00', 'Lorem ipsum', 'https://img.com/4.jpg');
+
+INSERT INTO tb_product_category (product_id, category_id) VALUES (1, 1);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (2, 2);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (2, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (3, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (4, 3);